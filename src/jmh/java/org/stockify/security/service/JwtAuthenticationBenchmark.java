@@ -0,0 +1,91 @@
+package org.stockify.security.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.stockify.security.model.VerifiedToken;
+
+import java.lang.reflect.Field;
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token.
+ * <p>
+ * {@code perRequestParsing} replays the former path: the signing key is decoded and a parser built on every parse,
+ * and the token is parsed three times (the subject for the filter, then the subject and the expiration again to
+ * validate it). {@code verifiedOnce} is the current path: the token is verified once with the parser built at
+ * startup, and the filter checks revocation and validity on the verified token.
+ * </p>
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec}, or add {@code -Dbenchmark=JwtAuthenticationBenchmark}
+ * to run only this one.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "c3RvY2tpZnktYmVuY2htYXJrLXNpZ25pbmcta2V5LTAxMjM0NTY3ODktYWJjZGVm";
+
+    private JwtService jwtService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jwtService = new JwtService(new InMemoryTokenRevocationStore());
+        setField("jwtSecretKey", SECRET);
+        setField("jwtExpiration", 3_600_000L);
+        jwtService.initSigningKey();
+
+        userDetails = User.withUsername("cashier@stockify.org").password("unused").authorities(List.of()).build();
+        token = jwtService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public boolean perRequestParsing() {
+        String username = parseClaims(token).getSubject();
+        boolean valid = parseClaims(token).getSubject().equals(userDetails.getUsername())
+                && !parseClaims(token).getExpiration().before(new Date())
+                && userDetails.isAccountNonLocked()
+                && userDetails.isEnabled();
+        return valid && username != null;
+    }
+
+    @Benchmark
+    public boolean verifiedOnce() {
+        VerifiedToken verified = jwtService.verify(token);
+        return !jwtService.isTokenInvalidated(verified) && jwtService.isTokenValid(verified, userDetails);
+    }
+
+    // --- Auxiliary methods ---
+
+    /**
+     * Parses a token as the former service did, decoding the key and building a parser every time.
+     */
+    private static Claims parseClaims(String token) {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private void setField(String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtService.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtService, value);
+    }
+}
@@ -0,0 +1,77 @@
+package org.stockify.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the hits, misses and hit ratio of every second-level cache region as metrics,
+ * e.g. {@code /actuator/metrics/hibernate.cache.region.hit.ratio?tag=region:reference-stores}.
+ */
+@Configuration
+public class CacheMetricsConfig {
+
+    /**
+     * Binds the statistics of the regions listed in {@link CacheRegions} to the meter registry.
+     *
+     * @param entityManagerFactory the JPA entity manager factory
+     * @return the meter binder
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            CacheRegions.DOMAIN_REGIONS.forEach(region ->
+                    bind(registry, region, "domain", statistics, stats -> stats.getDomainDataRegionStatistics(region)));
+            CacheRegions.QUERY_REGIONS.forEach(region ->
+                    bind(registry, region, "query", statistics, stats -> stats.getQueryRegionStatistics(region)));
+        };
+    }
+
+    // --- Auxiliary methods ---
+
+    private void bind(MeterRegistry registry, String region, String kind,
+                      Statistics statistics, Function<Statistics, CacheRegionStatistics> regionStatistics) {
+        counter(registry, "hibernate.cache.region.hits", "Lookups found in the region",
+                region, kind, statistics, stats -> value(regionStatistics, stats, CacheRegionStatistics::getHitCount));
+        counter(registry, "hibernate.cache.region.misses", "Lookups not found in the region",
+                region, kind, statistics, stats -> value(regionStatistics, stats, CacheRegionStatistics::getMissCount));
+        counter(registry, "hibernate.cache.region.puts", "Entries written to the region",
+                region, kind, statistics, stats -> value(regionStatistics, stats, CacheRegionStatistics::getPutCount));
+
+        Gauge.builder("hibernate.cache.region.hit.ratio", statistics, stats -> {
+                    double hits = value(regionStatistics, stats, CacheRegionStatistics::getHitCount);
+                    double lookups = hits + value(regionStatistics, stats, CacheRegionStatistics::getMissCount);
+                    return lookups == 0 ? 0 : hits / lookups;
+                })
+                .description("Share of lookups found in the region since startup")
+                .tag("region", region)
+                .tag("kind", kind)
+                .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, String name, String description,
+                         String region, String kind, Statistics statistics, ToDoubleFunction<Statistics> count) {
+        FunctionCounter.builder(name, statistics, count)
+                .description(description)
+                .tag("region", region)
+                .tag("kind", kind)
+                .register(registry);
+    }
+
+    private double value(Function<Statistics, CacheRegionStatistics> regionStatistics, Statistics statistics,
+                         ToDoubleFunction<CacheRegionStatistics> counter) {
+        CacheRegionStatistics stats = regionStatistics.apply(statistics);
+        return stats != null ? counter.applyAsDouble(stats) : 0;
+    }
+}
@@ -0,0 +1,33 @@
+package org.stockify.config;
+
+import java.util.List;
+
+/**
+ * Names of the Hibernate second-level cache regions. Their size and expiry are set in {@code hibernate-cache.conf}.
+ */
+public final class CacheRegions {
+
+    public static final String CATEGORIES = "reference-categories";
+    public static final String STORES = "reference-stores";
+    public static final String PERMITS = "reference-permits";
+    public static final String ROLES = "reference-roles";
+    public static final String ROLE_PERMITS = "reference-role-permits";
+
+    /**
+     * Results of the lookups by natural ID: category by name, permit by enum and role by enum
+     */
+    public static final String LOOKUPS = "reference-lookups";
+
+    /**
+     * Regions holding entities and collections
+     */
+    public static final List<String> DOMAIN_REGIONS = List.of(CATEGORIES, STORES, PERMITS, ROLES, ROLE_PERMITS);
+
+    /**
+     * Regions holding query results
+     */
+    public static final List<String> QUERY_REGIONS = List.of(LOOKUPS);
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,33 @@
+package org.stockify.config;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.stockify.model.enums.InvalidatedCache;
+import org.stockify.model.service.CacheInvalidationBus;
+
+/**
+ * JPA listener of the entities held in the second-level cache. Any write to one of them makes the other nodes
+ * drop their reference data regions once the transaction commits, including cached lookups that found nothing.
+ * Created by Spring, which injects the bus.
+ */
+public class ReferenceDataChangeListener {
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public ReferenceDataChangeListener(CacheInvalidationBus cacheInvalidationBus) {
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    /**
+     * Announces the change of a reference entity
+     *
+     * @param entity the written entity
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        cacheInvalidationBus.publishAll(InvalidatedCache.REFERENCE_DATA);
+    }
+}
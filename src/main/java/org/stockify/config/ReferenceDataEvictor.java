@@ -0,0 +1,32 @@
+package org.stockify.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.stockify.model.enums.InvalidatedCache;
+import org.stockify.model.event.CacheInvalidatedEvent;
+
+/**
+ * Drops the second-level cache of this node when reference data changed on another node.
+ * Only reference data is cached there, so every region is evicted.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Evicts every second-level cache region
+     *
+     * @param event the cache invalidated event
+     */
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidatedEvent event) {
+        if (event.cache() == InvalidatedCache.REFERENCE_DATA) {
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        }
+    }
+}
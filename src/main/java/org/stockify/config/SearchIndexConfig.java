@@ -0,0 +1,68 @@
+package org.stockify.config;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.stockify.model.repository.ProductRepository;
+
+import java.util.List;
+
+/**
+ * Component that creates the PostgreSQL indexes used by the product search when the application starts.
+ * The schema is managed by Hibernate, which cannot declare expression or trigram indexes,
+ * so they are created here idempotently.
+ * <p>
+ * Typo-tolerant search needs the pg_trgm extension. When it cannot be installed, the product search falls back
+ * to full-text and substring matching instead of failing on every query.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexConfig implements ApplicationRunner {
+
+    private static final List<String> STATEMENTS = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS idx_products_search_document ON products USING gin (" + ProductRepository.SEARCH_DOCUMENT + ")",
+            "CREATE INDEX IF NOT EXISTS idx_products_name_trgm ON products USING gin (lower(name) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_products_sku ON products (sku)"
+    );
+
+    private final Logger logger = LoggerFactory.getLogger(SearchIndexConfig.class);
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Whether the pg_trgm extension is installed; false until checked at startup
+     */
+    private volatile boolean trigramAvailable;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (String statement : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (DataAccessException ex) {
+                logger.warn("Could not create product search index, search will be slower: {}", ex.getMostSpecificCause().getMessage());
+            }
+        }
+
+        trigramAvailable = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm')", Boolean.class));
+        if (!trigramAvailable) {
+            logger.warn("The pg_trgm extension is not installed: product search matches names without typo tolerance");
+        }
+    }
+
+    /**
+     * Tells whether the product search can use trigram similarity.
+     *
+     * @return true if the pg_trgm extension is installed
+     */
+    public boolean isTrigramAvailable() {
+        return trigramAvailable;
+    }
+}
@@ -0,0 +1,71 @@
+package org.stockify.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Component that moves the transaction tables from identity columns to the pooled sequences used by Hibernate.
+ * <p>
+ * Runs once the schema has been updated and before any request is served. For each table still on an identity
+ * column, the identity is dropped, the sequence is moved past the highest existing ID, and the sequence becomes the
+ * column default, so rows inserted outside Hibernate draw from the same sequence and never collide with the blocks
+ * Hibernate allocates. Tables already migrated are left untouched, and nodes starting together migrate one at a time.
+ * </p>
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class SequenceConfig {
+
+    /**
+     * Sequence of each table whose ID is generated by Hibernate
+     */
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "transactions", "transactions_seq",
+            "details_transactions", "details_transactions_seq",
+            "sales", "sales_seq",
+            "purchases", "purchases_seq",
+            "stock", "stock_seq");
+
+    private final Logger logger = LoggerFactory.getLogger(SequenceConfig.class);
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Migrates every table still generating its IDs with an identity column.
+     */
+    @PostConstruct
+    public void migrateIdentityColumns() {
+        SEQUENCES.forEach((table, sequence) -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(hashtext('sequence_migration'))", Object.class);
+            List<Map<String, Object>> column = jdbcTemplate.queryForList(
+                    "SELECT is_identity, column_default FROM information_schema.columns "
+                            + "WHERE table_schema = current_schema() AND table_name = ? AND column_name = 'id'", table);
+            if (column.isEmpty()) {
+                return;
+            }
+            Object columnDefault = column.get(0).get("column_default");
+            if (!"YES".equals(column.get(0).get("is_identity"))
+                    && columnDefault != null && columnDefault.toString().contains(sequence)) {
+                return;
+            }
+
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+            jdbcTemplate.queryForObject("SELECT setval('" + sequence + "', greatest("
+                    + "(SELECT coalesce(max(id), 0) FROM " + table + "), "
+                    + "(SELECT last_value FROM " + sequence + ")))", Long.class);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id SET DEFAULT nextval('" + sequence + "')");
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " OWNED BY " + table + ".id");
+            logger.info("Table {} now draws its IDs from {}", table, sequence);
+        }));
+    }
+}
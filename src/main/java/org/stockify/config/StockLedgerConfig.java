@@ -0,0 +1,37 @@
+package org.stockify.config;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.stockify.model.service.StockLedgerService;
+
+/**
+ * Component that prepares the stock ledger when the application starts.
+ * Creates a BRIN index on the recording time of movements, which stays tiny on an append-only table
+ * and lets snapshots and period scans skip old blocks, then opens the ledger of stock rows that have no snapshot yet.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockLedgerConfig implements ApplicationRunner {
+
+    private final Logger logger = LoggerFactory.getLogger(StockLedgerConfig.class);
+    private final JdbcTemplate jdbcTemplate;
+    private final StockLedgerService stockLedgerService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_stock_movements_recorded_at "
+                    + "ON stock_movements USING brin (recorded_at)");
+        } catch (DataAccessException ex) {
+            logger.warn("Could not create stock movements index, snapshots will be slower: {}",
+                    ex.getMostSpecificCause().getMessage());
+        }
+        stockLedgerService.takeOpeningSnapshots();
+    }
+}
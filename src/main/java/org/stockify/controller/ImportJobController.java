@@ -0,0 +1,72 @@
+package org.stockify.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.stockify.dto.response.ImportJobResponse;
+import org.stockify.model.service.ImportJobService;
+
+@RestController
+@RequestMapping("/imports")
+@RequiredArgsConstructor
+@Tag(name = "Imports", description = "Operations related to background CSV import jobs")
+@SecurityRequirement(name = "bearerAuth")
+public class ImportJobController {
+
+    private final ImportJobService importJobService;
+
+    @Operation(summary = "Get the status and progress of an import job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import job found"),
+            @ApiResponse(responseCode = "404", description = "Import job not found")
+    })
+    @GetMapping("/{jobId}")
+    @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('READ') or " +
+            "hasRole('ROLE_MANAGER') and hasAuthority('READ')")
+    public ResponseEntity<ImportJobResponse> getImportJob(
+            @Parameter(description = "ID of the import job") @PathVariable String jobId) {
+
+        return ResponseEntity.ok(importJobService.getStatus(jobId));
+    }
+
+    @Operation(summary = "Get the per-row result of a finished import job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import result returned"),
+            @ApiResponse(responseCode = "202", description = "Import job has not finished yet, its status is returned"),
+            @ApiResponse(responseCode = "404", description = "Import job not found")
+    })
+    @GetMapping("/{jobId}/result")
+    @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('READ') or " +
+            "hasRole('ROLE_MANAGER') and hasAuthority('READ')")
+    public ResponseEntity<Object> getImportJobResult(
+            @Parameter(description = "ID of the import job") @PathVariable String jobId) {
+
+        Object result = importJobService.getResult(jobId);
+        if (result == null) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(importJobService.getStatus(jobId));
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "Cancel an import job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cancellation requested"),
+            @ApiResponse(responseCode = "404", description = "Import job not found")
+    })
+    @DeleteMapping("/{jobId}")
+    @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('WRITE') or " +
+            "hasRole('ROLE_MANAGER') and hasAuthority('WRITE')")
+    public ResponseEntity<ImportJobResponse> cancelImportJob(
+            @Parameter(description = "ID of the import job") @PathVariable String jobId) {
+
+        return ResponseEntity.ok(importJobService.cancel(jobId));
+    }
+}
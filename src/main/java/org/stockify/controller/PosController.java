@@ -17,16 +17,19 @@ import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.stockify.dto.request.pos.CashAdjustmentRequest;
 import org.stockify.dto.request.pos.PosAmountRequest;
 import org.stockify.dto.request.pos.PosFilterRequest;
 import org.stockify.dto.request.sessionpos.SessionPosCloseRequest;
 import org.stockify.dto.request.sessionpos.SessionPosRequest;
+import org.stockify.dto.response.CashMovementResponse;
 import org.stockify.dto.response.PosResponse;
 import org.stockify.dto.response.SessionPosCreateResponse;
 import org.stockify.dto.response.SessionPosResponse;
 import org.stockify.model.assembler.PosModelAssembler;
 import org.stockify.model.assembler.SessionPosCreateModelAssembler;
 import org.stockify.model.assembler.SessionPosModelAssembler;
+import org.stockify.model.service.CashLedgerService;
 import org.stockify.model.service.PosService;
 
 
@@ -41,6 +44,7 @@ public class PosController {
     private final PosModelAssembler posModelAssembler;
     private final SessionPosModelAssembler sessionPosModelAssembler;
     private final SessionPosCreateModelAssembler sessionPosCreateModelAssembler;
+    private final CashLedgerService cashLedgerService;
 
     @Operation(summary = "Create a new POS")
     @ApiResponses({
@@ -89,6 +93,21 @@ public class PosController {
         return ResponseEntity.ok().build();
     }
 
+    @Operation(summary = "Record a cash adjustment in the open session of a POS")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Cash adjustment recorded successfully"),
+            @ApiResponse(responseCode = "404", description = "POS has no open session"),
+            @ApiResponse(responseCode = "409", description = "POS is closed or does not hold enough cash")
+    })
+    @PostMapping("/{id}/cash-adjustments")
+    public ResponseEntity<CashMovementResponse> postCashAdjustment(
+            @Parameter(description = "POS ID") @PathVariable Long id,
+            @RequestBody @Valid CashAdjustmentRequest cashAdjustmentRequest) {
+        CashMovementResponse response = cashLedgerService.adjust(
+                id, cashAdjustmentRequest.getAmount(), cashAdjustmentRequest.getReason());
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
     @Operation(summary = "POS open operation")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "POS open successfully"),
@@ -13,8 +13,11 @@ import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -23,6 +26,7 @@ import org.stockify.dto.request.purchase.PurchaseFilterRequest;
 import org.stockify.dto.request.purchase.PurchaseRequest;
 import org.stockify.dto.response.PurchaseResponse;
 import org.stockify.model.assembler.PurchaseModelAssembler;
+import org.stockify.model.assembler.CursorModelAssembler;
 import org.stockify.model.service.PurchaseService;
 
 @RestController
@@ -34,6 +38,7 @@ public class PurchaseController {
 
     private final PurchaseService purchaseService;
     private final PurchaseModelAssembler purchaseModelAssembler;
+    private final CursorModelAssembler cursorModelAssembler;
 
     @Operation(
         summary = "List all purchases with optional filters",
@@ -60,6 +65,32 @@ public class PurchaseController {
         return ResponseEntity.ok(pagedModel);
     }
 
+    @Operation(
+        summary = "Walk purchases with a cursor",
+        description = "Get a window of purchases with optional filters, without a total count. " +
+                      "The next link carries the cursor of the following window while more purchases remain."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Purchases retrieved successfully",
+                content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/scroll")
+    @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('READ') or " +
+            "hasRole('ROLE_MANAGER') and hasAuthority('READ')")
+    public ResponseEntity<CollectionModel<EntityModel<PurchaseResponse>>> scroll(
+            @Parameter(hidden = true) @PageableDefault(size = 100) Pageable pageable,
+            @ParameterObject PurchaseFilterRequest filter,
+            @Parameter(description = "Cursor from the previous window's next link; omit for the first window")
+            @RequestParam(required = false) String cursor
+    ) {
+        Window<PurchaseResponse> window = purchaseService.scrollPurchases(pageable, filter, cursor);
+        return ResponseEntity.ok(cursorModelAssembler.toModel(window, purchaseModelAssembler));
+    }
+
     @Operation(
         summary = "Delete a purchase by ID",
         description = "Delete a purchase transaction by its ID. Returns no content on successful deletion."
@@ -0,0 +1,108 @@
+package org.stockify.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.stockify.dto.response.DailySalesResponse;
+import org.stockify.dto.response.HourlySalesResponse;
+import org.stockify.dto.response.ProductSalesResponse;
+import org.stockify.dto.response.RollupRebuildResponse;
+import org.stockify.model.enums.TransactionType;
+import org.stockify.model.service.SalesRollupService;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/reports")
+@RequiredArgsConstructor
+@Tag(name = "Reports", description = "Sales and purchase reports served from the rollups")
+@SecurityRequirement(name = "bearerAuth")
+public class ReportController {
+
+    private final SalesRollupService salesRollupService;
+
+    @Operation(summary = "Get the daily totals of a store, with the amount per payment method")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Daily totals returned"),
+            @ApiResponse(responseCode = "400", description = "The end date is before the start date")
+    })
+    @GetMapping("/stores/{storeID}/daily")
+    @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('READ') or " +
+            "hasRole('ROLE_MANAGER') and hasAuthority('READ')")
+    public ResponseEntity<List<DailySalesResponse>> getDailyTotals(
+            @Parameter(description = "ID of the store") @PathVariable Long storeID,
+            @Parameter(description = "First day (format: yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day, inclusive (format: yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Type of transactions to report")
+            @RequestParam(defaultValue = "SALE") TransactionType type) {
+
+        return ResponseEntity.ok(salesRollupService.getDailyTotals(storeID, type, from, to));
+    }
+
+    @Operation(summary = "Get the hourly totals of a store for one day")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Hourly totals returned")
+    })
+    @GetMapping("/stores/{storeID}/hourly")
+    @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('READ') or " +
+            "hasRole('ROLE_MANAGER') and hasAuthority('READ')")
+    public ResponseEntity<List<HourlySalesResponse>> getHourlyTotals(
+            @Parameter(description = "ID of the store") @PathVariable Long storeID,
+            @Parameter(description = "Day to report (format: yyyy-MM-dd), today if omitted")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "Type of transactions to report")
+            @RequestParam(defaultValue = "SALE") TransactionType type) {
+
+        LocalDate day = date != null ? date : LocalDate.now();
+        return ResponseEntity.ok(salesRollupService.getHourlyTotals(storeID, type, day));
+    }
+
+    @Operation(summary = "Get the products with the highest amount in a store over a period")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Top products returned, highest amount first"),
+            @ApiResponse(responseCode = "400", description = "The end date is before the start date")
+    })
+    @GetMapping("/stores/{storeID}/top-products")
+    @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('READ') or " +
+            "hasRole('ROLE_MANAGER') and hasAuthority('READ')")
+    public ResponseEntity<List<ProductSalesResponse>> getTopProducts(
+            @Parameter(description = "ID of the store") @PathVariable Long storeID,
+            @Parameter(description = "First day (format: yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day, inclusive (format: yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Type of transactions to report")
+            @RequestParam(defaultValue = "SALE") TransactionType type,
+            @Parameter(description = "Maximum number of products", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+
+        return ResponseEntity.ok(salesRollupService.getTopProducts(storeID, type, from, to, limit));
+    }
+
+    @Operation(summary = "Rebuild the rollups of a period from the recorded transactions")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rollups rebuilt"),
+            @ApiResponse(responseCode = "400", description = "The end date is before the start date")
+    })
+    @PostMapping("/rollups/rebuild")
+    @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('WRITE')")
+    public ResponseEntity<RollupRebuildResponse> rebuildRollups(
+            @Parameter(description = "First day to rebuild (format: yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day to rebuild, inclusive (format: yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        return ResponseEntity.ok(salesRollupService.rebuild(from, to));
+    }
+}
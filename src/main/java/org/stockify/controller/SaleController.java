@@ -8,10 +8,12 @@ import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -21,6 +23,7 @@ import org.stockify.dto.request.sale.SaleFilterRequest;
 import org.stockify.dto.request.sale.SaleRequest;
 import org.stockify.dto.response.SaleResponse;
 import org.stockify.model.assembler.SaleModelAssembler;
+import org.stockify.model.assembler.CursorModelAssembler;
 import org.stockify.model.service.SaleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -39,6 +42,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 public class SaleController {
     private final SaleService saleService;
     private final SaleModelAssembler saleModelAssembler;
+    private final CursorModelAssembler cursorModelAssembler;
 
     @Operation(
             summary = "Get paged list of sales",
@@ -66,6 +70,33 @@ public class SaleController {
         return ResponseEntity.ok(assembler.toModel(saleResponsePage, saleModelAssembler));
     }
 
+    @Operation(
+            summary = "Walk sales with a cursor",
+            description = "Returns a window of sales, newest first, optionally filtered. No total count is computed; " +
+                    "the next link carries the cursor of the following window while more sales remain",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Window of sales retrieved", content = @Content(schema = @Schema(implementation = CollectionModel.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content)
+            }
+    )
+    @GetMapping("/scroll")
+    @PreAuthorize("hasAuthority('READ')")
+    public ResponseEntity<CollectionModel<EntityModel<SaleResponse>>> scroll(
+            @Parameter(description = "Filter request object")
+            @ParameterObject SaleFilterRequest filterRequest,
+
+            @Parameter(description = "Cursor from the previous window's next link; omit for the first window")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Window size", example = "100")
+            @RequestParam(required = false, defaultValue = "100") int size) {
+
+        Pageable pageable = PageRequest.of(0, size, Sort.by("id").descending());
+        Window<SaleResponse> sales = saleService.scroll(filterRequest, pageable, cursor);
+
+        return ResponseEntity.ok(cursorModelAssembler.toModel(sales, saleModelAssembler));
+    }
+
     @Operation(
             summary = "Get sale by ID",
             description = "Returns a single sale by its ID",
@@ -12,17 +12,23 @@ import lombok.AllArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.stockify.dto.request.sessionpos.SessionPosFiltersRequest;
+import org.stockify.dto.response.CashBalanceResponse;
+import org.stockify.dto.response.CashMovementResponse;
 import org.stockify.dto.response.SessionPosResponse;
 import org.stockify.model.assembler.SessionPosModelAssembler;
+import org.stockify.model.assembler.CursorModelAssembler;
 import org.stockify.model.mapper.SessionPosMapper;
+import org.stockify.model.service.CashLedgerService;
 import org.stockify.model.service.SessionPosService;
 
 @RestController
@@ -34,7 +40,9 @@ public class SessionPosController {
 
     private final SessionPosService sessionPosService;
     private final SessionPosModelAssembler sessionPosModelAssembler;
+    private final CursorModelAssembler cursorModelAssembler;
     private final SessionPosMapper sessionPosMapper;
+    private final CashLedgerService cashLedgerService;
 
 
     @Operation(
@@ -84,4 +92,77 @@ public class SessionPosController {
 
         return ResponseEntity.ok(assembler.toModel(sessionResponses, sessionPosModelAssembler));
     }
+
+    @Operation(
+        summary = "Walk POS sessions with a cursor",
+        description = "Returns a window of POS sessions matching the filters, without a total count. " +
+                      "The next link carries the cursor of the following window while more sessions remain."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Window of sessions returned successfully",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(responseCode = "400", description = "Filter parameters or cursor are invalid")
+    })
+    @GetMapping("/scroll")
+    @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('READ') or " +
+            "hasRole('ROLE_MANAGER') and hasAuthority('READ')")
+    public ResponseEntity<CollectionModel<EntityModel<SessionPosResponse>>> scrollSessions(
+            @ParameterObject SessionPosFiltersRequest filters,
+            @Parameter(description = "Cursor from the previous window's next link; omit for the first window")
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 100) Pageable pageable) {
+
+        Window<SessionPosResponse> sessions = sessionPosService.scrollWithFilters(filters, pageable, cursor);
+
+        return ResponseEntity.ok(cursorModelAssembler.toModel(sessions, sessionPosModelAssembler));
+    }
+
+    @Operation(
+        summary = "Get the cash movements of a session",
+        description = "Get a paginated list of the cash ledger of a POS session: opening float, " +
+                      "cash sales, cash purchases and manual adjustments."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Cash movements returned successfully",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(responseCode = "404", description = "Session not found")
+    })
+    @GetMapping("/{id}/cash-movements")
+    @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('READ') or " +
+            "hasRole('ROLE_MANAGER') and hasAuthority('READ')")
+    public ResponseEntity<PagedModel<EntityModel<CashMovementResponse>>> getCashMovements(
+            @Parameter(description = "Session Id") @PathVariable Long id,
+            @PageableDefault(sort = "id") Pageable pageable,
+            PagedResourcesAssembler<CashMovementResponse> assembler) {
+
+        Page<CashMovementResponse> movements = cashLedgerService.getMovements(id, pageable);
+
+        return ResponseEntity.ok(assembler.toModel(movements));
+    }
+
+    @Operation(
+        summary = "Get the cash balance of a session",
+        description = "Get the expected cash of a POS session, computed from its cash ledger."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Cash balance returned successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CashBalanceResponse.class))
+        ),
+        @ApiResponse(responseCode = "404", description = "Session not found")
+    })
+    @GetMapping("/{id}/cash-balance")
+    @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('READ') or " +
+            "hasRole('ROLE_MANAGER') and hasAuthority('READ')")
+    public ResponseEntity<CashBalanceResponse> getCashBalance(
+            @Parameter(description = "Session Id") @PathVariable Long id) {
+        return ResponseEntity.ok(cashLedgerService.getBalance(id));
+    }
 }
@@ -10,7 +10,10 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.domain.Window;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 import org.stockify.dto.request.employee.TimeLogRequest;
 import org.stockify.dto.response.TimeLogResponse;
 import org.stockify.model.assembler.TimeLogModelAssembler;
+import org.stockify.model.assembler.CursorModelAssembler;
 import org.stockify.model.entity.TimeLogEntity;
 import org.stockify.model.service.TimeLogService;
 
@@ -31,6 +35,7 @@ import org.stockify.model.service.TimeLogService;
 public class TimeLogController {
     private final TimeLogService timeLogService;
     private final TimeLogModelAssembler timeLogModelAssembler;
+    private final CursorModelAssembler cursorModelAssembler;
 
     @Operation(
         summary = "Get all time logs with filters",
@@ -68,6 +73,44 @@ public class TimeLogController {
         return ResponseEntity.ok(assembler.toModel(pagedResult));
     }
 
+    @Operation(
+        summary = "Walk time logs with a cursor",
+        description = "Get a window of employee time logs with the same filters as the paged listing, " +
+                      "without a total count. The next link carries the cursor of the following window."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Window of time logs returned successfully",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(responseCode = "400", description = "Filter parameters or cursor are invalid")
+    })
+    @GetMapping("/scroll")
+    @PreAuthorize("hasRole('ROLE_MANAGER') and hasAuthority('READ') or " +
+            "hasRole('ROLE_ADMIN') and hasAuthority('READ')")
+    public ResponseEntity<CollectionModel<EntityModel<TimeLogResponse>>> scrollTimeLogs(
+            @Parameter(description = "Time log ID to filter")
+            @RequestParam(required = false) Long id,
+
+            @Parameter(description = "Date to filter time logs (format: yyyy-MM-dd)")
+            @RequestParam(required = false) String date,
+
+            @Parameter(description = "Clock-in time to filter (format: HH:mm:ss)")
+            @RequestParam(required = false) String clockInTime,
+
+            @Parameter(description = "Clock-out time to filter (format: HH:mm:ss)")
+            @RequestParam(required = false) String clockOutTime,
+
+            @Parameter(description = "Cursor from the previous window's next link; omit for the first window")
+            @RequestParam(required = false) String cursor,
+
+            @PageableDefault(size = 100) Pageable pageable
+    ) {
+        Window<TimeLogResponse> window = timeLogService.scrollTimeLogs(id, date, clockInTime, clockOutTime, pageable, cursor);
+        return ResponseEntity.ok(cursorModelAssembler.toModel(window, timeLogModelAssembler));
+    }
+
     @Operation(
         summary = "Create a new time log",
         description = "Create a new time log record for an employee's clock-in or clock-out event."
@@ -14,8 +14,10 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
@@ -25,8 +27,11 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.stockify.dto.request.product.ProductFilterRequest;
 import org.stockify.dto.request.product.ProductRequest;
+import org.stockify.dto.request.product.ProductViewRequest;
 import org.stockify.dto.response.BulkProductResponse;
+import org.stockify.dto.response.ImportJobResponse;
 import org.stockify.dto.response.ProductResponse;
+import org.stockify.model.assembler.CursorModelAssembler;
 import org.stockify.model.assembler.ProductModelAssembler;
 import org.stockify.model.service.ProductService;
 
@@ -41,6 +46,7 @@ public class ProductController {
 
     private final ProductService productService;
     private final ProductModelAssembler productModelAssembler;
+    private final CursorModelAssembler cursorModelAssembler;
 
 
     @Operation(summary = "List all products with optional filters")
@@ -51,11 +57,51 @@ public class ProductController {
     @GetMapping
     public ResponseEntity<PagedModel<EntityModel<ProductResponse>>> listProducts(
             @ParameterObject ProductFilterRequest filter,
+            @ParameterObject ProductViewRequest view,
             @Parameter(hidden = true)
             @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
             PagedResourcesAssembler<ProductResponse> assembler
     ) {
-        Page<ProductResponse> products = productService.findAll(pageable, filter);
+        Page<ProductResponse> products = productService.findAll(pageable, filter, view);
+        return ResponseEntity.ok(assembler.toModel(products, productModelAssembler));
+    }
+
+
+    @Operation(summary = "Walk all products with a cursor, without page counts")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Window of products returned successfully, with a next link while more remain"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, or a sort by anything other than name or id")
+    })
+    @PreAuthorize("hasAuthority('READ')")
+    @GetMapping("/scroll")
+    public ResponseEntity<CollectionModel<EntityModel<ProductResponse>>> scrollProducts(
+            @ParameterObject ProductFilterRequest filter,
+            @ParameterObject ProductViewRequest view,
+            @Parameter(description = "Cursor from the previous window's next link; omit for the first window")
+            @RequestParam(required = false) String cursor,
+            @Parameter(hidden = true)
+            @PageableDefault(size = 100, sort = "name", direction = Sort.Direction.ASC) Pageable pageable
+    ) {
+        Window<ProductResponse> products = productService.scroll(pageable, filter, view, cursor);
+        return ResponseEntity.ok(cursorModelAssembler.toModel(products, productModelAssembler));
+    }
+
+
+    @Operation(summary = "Search products by text, ranked by relevance")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Paged list of matching products, most relevant first")
+    })
+    @PreAuthorize("hasAuthority('READ')")
+    @GetMapping("/search")
+    public ResponseEntity<PagedModel<EntityModel<ProductResponse>>> searchProducts(
+            @Parameter(description = "Text to search in name, brand, description, barcode and SKU", example = "smartph")
+            @RequestParam("q") String query,
+            @ParameterObject ProductViewRequest view,
+            @Parameter(hidden = true)
+            @PageableDefault(size = 20) Pageable pageable,
+            PagedResourcesAssembler<ProductResponse> assembler
+    ) {
+        Page<ProductResponse> products = productService.search(query, pageable, view);
         return ResponseEntity.ok(assembler.toModel(products, productModelAssembler));
     }
 
@@ -74,22 +120,20 @@ public class ProductController {
 
 
     @PostMapping(value = "/import", consumes = "multipart/form-data")
-    @Operation(summary = "Import products from CSV file")
+    @Operation(summary = "Import products from CSV file as a background job")
     @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('WRITE') or " +
             "hasRole('ROLE_MANAGER') and hasAuthority('WRITE')")
-    @ApiResponse(responseCode = "200", description = "Successful import")
-    public ResponseEntity<BulkProductResponse> importProducts(
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Import job accepted, poll /imports/{jobId} for progress"),
+            @ApiResponse(responseCode = "429", description = "Too many active import jobs")
+    })
+    public ResponseEntity<ImportJobResponse> importProducts(
             @Parameter(description = "CSV file with products", required = true,
                     content = @Content(mediaType = "multipart/form-data",
                             schema = @Schema(type = "string", format = "binary")))
             @RequestParam("file") MultipartFile archivo) {
 
-        try {
-            BulkProductResponse response = productService.importProductsCsv(archivo);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().build();
-        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(productService.importProductsCsv(archivo));
     }
 
 
@@ -101,8 +145,9 @@ public class ProductController {
     @PreAuthorize("hasAuthority('READ')")
     @GetMapping("/{productID}")
     public ResponseEntity<EntityModel<ProductResponse>> getProductById(
-            @Parameter(description = "ID of the product") @PathVariable Long productID) {
-        return ResponseEntity.ok(productModelAssembler.toModel(productService.findById(productID)));
+            @Parameter(description = "ID of the product") @PathVariable Long productID,
+            @ParameterObject ProductViewRequest view) {
+        return ResponseEntity.ok(productModelAssembler.toModel(productService.findById(productID, view)));
     }
 
 
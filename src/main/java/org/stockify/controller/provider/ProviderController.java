@@ -25,6 +25,7 @@ import org.springframework.web.multipart.MultipartFile;
 import org.stockify.dto.request.provider.ProviderFilterRequest;
 import org.stockify.dto.request.provider.ProviderRequest;
 import org.stockify.dto.response.BulkProviderResponse;
+import org.stockify.dto.response.ImportJobResponse;
 import org.stockify.dto.response.ProviderResponse;
 import org.stockify.model.assembler.ProviderModelAssembler;
 import org.stockify.model.service.ProviderService;
@@ -99,6 +100,23 @@ public class ProviderController {
 
         return ResponseEntity.status(HttpStatus.CREATED).body(providerService.saveAll(providers));
     }
+
+    @Operation(summary = "Import providers from CSV file as a background job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Import job accepted, poll /imports/{jobId} for progress"),
+            @ApiResponse(responseCode = "429", description = "Too many active import jobs")
+    })
+    @PostMapping(value = "/import", consumes = "multipart/form-data")
+    @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('WRITE') or " +
+            "hasRole('ROLE_MANAGER') and hasAuthority('WRITE')")
+    public ResponseEntity<ImportJobResponse> importProviders(
+            @Parameter(description = "CSV file with providers", required = true,
+                    content = @Content(mediaType = "multipart/form-data",
+                            schema = @Schema(type = "string", format = "binary")))
+            @RequestParam("file") MultipartFile file) {
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(providerService.importProvidersCsv(file));
+    }
         
 
     @Operation(summary = "Logically delete a provider")
@@ -0,0 +1,41 @@
+package org.stockify.controller.store;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.stockify.dto.response.ScanResponse;
+import org.stockify.model.service.ScanCatalogService;
+
+@RestController
+@RequestMapping("/stores/{storeID}/scan")
+@RequiredArgsConstructor
+@Tag(name = "StoreScan", description = "Barcode lookups at the store till")
+@SecurityRequirement(name = "bearerAuth")
+public class StoreScanController {
+
+    private final ScanCatalogService scanCatalogService;
+
+    @Operation(summary = "Look up a scanned barcode in a store")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Product found with its stock in the store"),
+            @ApiResponse(responseCode = "404", description = "Barcode not found or product not stocked in the store")
+    })
+    @GetMapping("/{barcode}")
+    @PreAuthorize("hasAuthority('READ')")
+    public ResponseEntity<ScanResponse> scan(
+            @Parameter(description = "ID of the store") @PathVariable Long storeID,
+            @Parameter(description = "Scanned barcode") @PathVariable String barcode) {
+
+        return ResponseEntity.ok(scanCatalogService.scan(storeID, barcode));
+    }
+}
@@ -8,18 +8,30 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.stockify.dto.request.stock.StockRequest;
 import org.stockify.dto.request.stock.StockTransferRequest;
+import org.stockify.dto.response.StockDriftResponse;
+import org.stockify.dto.response.StockLevelResponse;
+import org.stockify.dto.response.StockMovementResponse;
 import org.stockify.dto.response.StockResponse;
 import org.stockify.model.assembler.StockModelAssembler;
+import org.stockify.model.service.OptimisticRetry;
+import org.stockify.model.service.StockLedgerService;
 import org.stockify.model.service.StockService;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -31,6 +43,8 @@ public class StoreStockController {
 
     private final StockService stockService;
     private final StockModelAssembler stockModelAssembler;
+    private final StockLedgerService stockLedgerService;
+    private final OptimisticRetry optimisticRetry;
 
     @Operation(summary = "Add stock for a specific product and store")
     @ApiResponses(value = {
@@ -54,7 +68,8 @@ public class StoreStockController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Stock updated successfully"),
             @ApiResponse(responseCode = "400", description = "Validation error"),
-            @ApiResponse(responseCode = "404", description = "Stock not found")
+            @ApiResponse(responseCode = "404", description = "Stock not found"),
+            @ApiResponse(responseCode = "409", description = "Stock kept changing concurrently, retries exhausted")
     })
     @PutMapping("/{productID}")
     @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('WRITE') or " +
@@ -64,7 +79,7 @@ public class StoreStockController {
             @Parameter(description = "ID of the product") @PathVariable Long productID,
             @Valid @RequestBody StockRequest request) {
 
-        StockResponse stock = stockService.updateStock(productID, storeID, request);
+        StockResponse stock = optimisticRetry.execute(() -> stockService.updateStock(productID, storeID, request));
         return ResponseEntity.ok(stockModelAssembler.toModel(stock));
     }
 
@@ -87,7 +102,8 @@ public class StoreStockController {
     @Operation(summary = "Remove stock for a specific product and store")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Stock removed successfully"),
-            @ApiResponse(responseCode = "404", description = "Stock not found")
+            @ApiResponse(responseCode = "404", description = "Stock not found"),
+            @ApiResponse(responseCode = "409", description = "Stock kept changing concurrently, retries exhausted")
     })
     @DeleteMapping("/{productID}")
     @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('DELETE') or " +
@@ -96,7 +112,7 @@ public class StoreStockController {
             @Parameter(description = "ID of the store") @PathVariable Long storeID,
             @Parameter(description = "ID of the product") @PathVariable Long productID) {
 
-        stockService.removeStock(productID, storeID);
+        optimisticRetry.run(() -> stockService.removeStock(productID, storeID));
         return ResponseEntity.ok().build();
     }
 
@@ -116,4 +132,58 @@ public class StoreStockController {
         List<StockResponse> responses = stockService.transferStock(storeID, stockTransferRequest);
         return ResponseEntity.ok(CollectionModel.of(responses));
     }
+
+    @Operation(summary = "Get the quantity of a product in a store at a point in time",
+            description = "Replays the stock ledger from the nearest earlier snapshot")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Quantity returned")
+    })
+    @GetMapping("/{productID}/as-of")
+    @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('READ') or " +
+            "hasRole('ROLE_MANAGER') and hasAuthority('READ')")
+    public ResponseEntity<StockLevelResponse> getStockAsOf(
+            @Parameter(description = "ID of the store") @PathVariable Long storeID,
+            @Parameter(description = "ID of the product") @PathVariable Long productID,
+            @Parameter(description = "Point in time (format: yyyy-MM-ddTHH:mm:ss)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+
+        return ResponseEntity.ok(stockLedgerService.getQuantityAsOf(productID, storeID, at));
+    }
+
+    @Operation(summary = "Get the stock movements of a product in a store")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Movements returned"),
+            @ApiResponse(responseCode = "400", description = "The end date is before the start date")
+    })
+    @GetMapping("/{productID}/movements")
+    @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('READ') or " +
+            "hasRole('ROLE_MANAGER') and hasAuthority('READ')")
+    public ResponseEntity<PagedModel<EntityModel<StockMovementResponse>>> getMovements(
+            @Parameter(description = "ID of the store") @PathVariable Long storeID,
+            @Parameter(description = "ID of the product") @PathVariable Long productID,
+            @Parameter(description = "Start of the period (format: yyyy-MM-ddTHH:mm:ss), the start of the ledger if omitted")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the period (format: yyyy-MM-ddTHH:mm:ss), now if omitted")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @PageableDefault(sort = "recordedAt") Pageable pageable,
+            PagedResourcesAssembler<StockMovementResponse> assembler) {
+
+        Page<StockMovementResponse> movements = stockLedgerService.getMovements(productID, storeID,
+                from != null ? from : StockLedgerService.LEDGER_START,
+                to != null ? to : LocalDateTime.now(),
+                pageable);
+        return ResponseEntity.ok(assembler.toModel(movements));
+    }
+
+    @Operation(summary = "List the stock rows of a store whose quantity differs from the stock ledger")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Drifted stock rows returned, empty if none")
+    })
+    @GetMapping("/drift")
+    @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('READ')")
+    public ResponseEntity<List<StockDriftResponse>> getDrift(
+            @Parameter(description = "ID of the store") @PathVariable Long storeID) {
+
+        return ResponseEntity.ok(stockLedgerService.findDrift(storeID));
+    }
 }
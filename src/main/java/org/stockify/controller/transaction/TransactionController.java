@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.*;
 import org.stockify.dto.request.transaction.TransactionCreatedRequest;
 import org.stockify.dto.response.TransactionCreatedResponse;
 import org.stockify.model.enums.TransactionType;
+import org.stockify.model.service.IdempotencyService;
 import org.stockify.model.service.TransactionService;
 
 @RestController
@@ -23,12 +24,14 @@ import org.stockify.model.service.TransactionService;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final IdempotencyService idempotencyService;
 
     @Operation(summary = "Create a generic transaction (type = OTHER)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Transaction created successfully"),
             @ApiResponse(responseCode = "400", description = "Validation error"),
-            @ApiResponse(responseCode = "404", description = "Store or POS not found")
+            @ApiResponse(responseCode = "404", description = "Store or POS not found"),
+            @ApiResponse(responseCode = "422", description = "Idempotency key already used with a different request")
     })
     @PostMapping("/stores/{storeID}/pos/{posID}/transactions")
     @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('WRITE') or " +
@@ -36,9 +39,14 @@ public class TransactionController {
     public ResponseEntity<TransactionCreatedResponse> createTransaction(
             @Parameter(description = "ID of the store") @PathVariable Long storeID,
             @Parameter(description = "ID of the POS") @PathVariable Long posID,
-             @RequestBody @Valid TransactionCreatedRequest request) {
-        return ResponseEntity.ok(transactionService.saveTransaction(
-                request, storeID, posID, TransactionType.OTHER));
+             @RequestBody @Valid TransactionCreatedRequest request,
+            @Parameter(description = "Unique key of the request, reused when it is retried. " +
+                    "A retry with the same key returns the result of the first request instead of creating it again")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        return ResponseEntity.ok(idempotencyService.execute(idempotencyKey,
+                "transaction:store=" + storeID + ",pos=" + posID, request,
+                () -> transactionService.saveTransaction(request, storeID, posID, TransactionType.OTHER),
+                TransactionCreatedResponse::getId, transactionService::findCreatedById));
     }
 
 }
\ No newline at end of file
@@ -15,6 +15,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.stockify.dto.request.purchase.PurchaseRequest;
 import org.stockify.dto.response.PurchaseResponse;
+import org.stockify.model.service.IdempotencyService;
 import org.stockify.model.service.PurchaseService;
 
 @RestController
@@ -25,12 +26,14 @@ import org.stockify.model.service.PurchaseService;
 public class TransactionPurchaseController {
 
     private final PurchaseService purchaseService;
+    private final IdempotencyService idempotencyService;
 
     @Operation(summary = "Create a purchase transaction")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Purchase created successfully"),
             @ApiResponse(responseCode = "400", description = "Validation error"),
-            @ApiResponse(responseCode = "404", description = "Store or POS not found")
+            @ApiResponse(responseCode = "404", description = "Store or POS not found"),
+            @ApiResponse(responseCode = "422", description = "Idempotency key already used with a different request")
     })
     @PostMapping
     @PreAuthorize("hasRole('ROLE_ADMIN') and hasAuthority('WRITE') or " +
@@ -38,9 +41,13 @@ public class TransactionPurchaseController {
     @Transactional
     public ResponseEntity<PurchaseResponse> create(
             @Parameter(description = "Purchase request body") @Valid @RequestBody PurchaseRequest request,
-            @Parameter(description = "ID of the POS") @PathVariable Long posID) {
+            @Parameter(description = "ID of the POS") @PathVariable Long posID,
+            @Parameter(description = "Unique key of the request, reused when it is retried. " +
+                    "A retry with the same key returns the result of the first request instead of creating it again")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
 
-        PurchaseResponse response = purchaseService.createPurchase(request,posID);
+        PurchaseResponse response = idempotencyService.execute(idempotencyKey, "purchase:pos=" + posID, request,
+                () -> purchaseService.createPurchase(request, posID), PurchaseResponse::getId, purchaseService::findById);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 }
@@ -14,9 +14,14 @@ import org.springframework.hateoas.EntityModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.stockify.dto.request.sale.OfflineSyncRequest;
 import org.stockify.dto.request.sale.SaleRequest;
+import org.stockify.dto.response.OfflineSyncResponse;
 import org.stockify.dto.response.SaleResponse;
 import org.stockify.model.assembler.SaleModelAssembler;
+import org.stockify.model.service.IdempotencyService;
+import org.stockify.model.service.OfflineSaleSyncService;
+import org.stockify.model.service.SaleIngestionService;
 import org.stockify.model.service.SaleService;
 
 @RestController
@@ -28,6 +33,9 @@ public class TransactionSaleController {
 
     private final SaleService saleService;
     private final SaleModelAssembler saleModelAssembler;
+    private final IdempotencyService idempotencyService;
+    private final OfflineSaleSyncService offlineSaleSyncService;
+    private final SaleIngestionService saleIngestionService;
 
     @Operation(
             summary = "Create a new sale",
@@ -37,7 +45,11 @@ public class TransactionSaleController {
             @ApiResponse(responseCode = "201", description = "Sale created successfully",
                     content = @Content(schema = @Schema(implementation = SaleResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
-            @ApiResponse(responseCode = "404", description = "Store or POS not found", content = @Content)
+            @ApiResponse(responseCode = "404", description = "Store or POS not found", content = @Content),
+            @ApiResponse(responseCode = "422", description = "Idempotency key already used with a different request",
+                    content = @Content),
+            @ApiResponse(responseCode = "503", description = "Sale queue is full or the sale was not confirmed in time",
+                    content = @Content)
     })
     @PostMapping
     @PreAuthorize("hasAuthority('WRITE')")
@@ -46,13 +58,46 @@ public class TransactionSaleController {
             @Valid @RequestBody SaleRequest request,
 
             @Parameter(description = "ID of the POS", required = true, example = "10")
-            @PathVariable Long posID) {
+            @PathVariable Long posID,
+
+            @Parameter(description = "Unique key of the request, reused when it is retried. " +
+                    "A retry with the same key returns the result of the first request instead of creating it again")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
 
-        SaleResponse saleResponse = saleService.createSale(request,posID);
+        // Keyed requests are written on the request thread, in the same transaction as their key
+        SaleResponse saleResponse = idempotencyKey == null && saleIngestionService.isEnabled()
+                ? saleIngestionService.submit(request, posID)
+                : idempotencyService.execute(idempotencyKey, "sale:pos=" + posID, request,
+                        () -> saleService.createSale(request, posID), SaleResponse::getId, saleService::findById);
         EntityModel<SaleResponse> entityModel = saleModelAssembler.toModel(saleResponse);
 
         return ResponseEntity
                 .created(entityModel.getRequiredLink("self").toUri())
                 .body(entityModel);
     }
+
+    @Operation(
+            summary = "Sync sales recorded offline",
+            description = "Records a batch of sales queued by a till while it was offline, with the IDs the till " +
+                    "generated and the times the sales took place. Sales already synced are reported as duplicates, " +
+                    "so a batch can be resent after a timeout. Each sale is created or rejected on its own."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, with the outcome of every sale",
+                    content = @Content(schema = @Schema(implementation = OfflineSyncResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
+            @ApiResponse(responseCode = "404", description = "POS not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "POS has no open session", content = @Content)
+    })
+    @PostMapping("/sync")
+    @PreAuthorize("hasAuthority('WRITE')")
+    public ResponseEntity<OfflineSyncResponse> sync(
+            @Parameter(description = "Batch of offline sales", required = true)
+            @Valid @RequestBody OfflineSyncRequest request,
+
+            @Parameter(description = "ID of the POS", required = true, example = "10")
+            @PathVariable Long posID) {
+
+        return ResponseEntity.ok(offlineSaleSyncService.sync(posID, request));
+    }
 }
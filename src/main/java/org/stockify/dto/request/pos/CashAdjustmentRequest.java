@@ -0,0 +1,26 @@
+package org.stockify.dto.request.pos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class CashAdjustmentRequest {
+
+    @Schema(description = "Signed amount: positive to add cash to the drawer, negative to remove it", example = "-50.00", required = true)
+    @NotNull(message = "amount must not be null")
+    private BigDecimal amount;
+
+    @Schema(description = "Reason of the adjustment", example = "Cash drop to safe", required = true)
+    @NotBlank(message = "reason must not be blank")
+    private String reason;
+}
@@ -0,0 +1,26 @@
+package org.stockify.dto.request.product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import org.stockify.model.enums.ProductField;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+@Data
+public class ProductViewRequest {
+
+    @Schema(description = "Optional parts to include in the response. All parts are included when omitted; " +
+            "parts left out are returned empty", example = "[\"CATEGORIES\", \"STOCKS\"]", nullable = true)
+    private Set<ProductField> include;
+
+    @Schema(description = "Only include the stock of this store", example = "10", nullable = true)
+    private Long storeId;
+
+    /**
+     * @return the requested parts, or every part when none were requested
+     */
+    public Set<ProductField> includedFields() {
+        return include == null || include.isEmpty() ? EnumSet.allOf(ProductField.class) : EnumSet.copyOf(include);
+    }
+}
@@ -0,0 +1,36 @@
+package org.stockify.dto.request.sale;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.stockify.dto.request.transaction.TransactionRequest;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class OfflineSaleRequest {
+
+    @Schema(description = "ID generated by the till for the sale, unique across tills", example = "5f0c6b1e-2a4d-4d7c-9b8e-0f7d3c2a1b90")
+    @NotBlank(message = "clientSaleId must not be blank")
+    @Size(max = 64, message = "clientSaleId must have at most 64 characters")
+    private String clientSaleId;
+
+    @Schema(description = "Date and time the sale took place on the till", example = "2025-06-15T14:30:00")
+    @NotNull(message = "occurredAt must not be null")
+    private LocalDateTime occurredAt;
+
+    @Schema(description = "ID of the client", example = "10")
+    private Long clientId;
+
+    @NotNull(message = "Transaction is required")
+    @Valid
+    @Schema(description = "Transaction details for the sale")
+    private TransactionRequest transaction;
+}
@@ -0,0 +1,30 @@
+package org.stockify.dto.request.sale;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.stockify.model.enums.NegativeStockPolicy;
+
+import java.util.List;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class OfflineSyncRequest {
+
+    /**
+     * Each sale is validated on its own when the batch is synced, so an invalid sale is rejected without failing
+     * the others.
+     */
+    @Schema(description = "Sales recorded by the till while offline")
+    @NotEmpty(message = "sales must not be empty")
+    @Size(max = 1000, message = "A batch can hold at most 1000 sales")
+    private List<@NotNull OfflineSaleRequest> sales;
+
+    @Schema(description = "What to do with sales whose lines exceed the remaining stock", example = "ALLOW_NEGATIVE")
+    private NegativeStockPolicy negativeStockPolicy = NegativeStockPolicy.ALLOW_NEGATIVE;
+}
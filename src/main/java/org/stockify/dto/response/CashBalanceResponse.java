@@ -0,0 +1,17 @@
+package org.stockify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Schema(description = "Cash balance of a POS session, computed from its ledger")
+public record CashBalanceResponse(
+        @Schema(description = "ID of the POS session", example = "12")
+        Long sessionId,
+
+        @Schema(description = "Expected cash in the drawer", example = "845.50")
+        BigDecimal balance,
+
+        @Schema(description = "Number of cash movements recorded", example = "37")
+        Long movements
+) {}
@@ -0,0 +1,31 @@
+package org.stockify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.stockify.model.enums.CashMovementType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Schema(description = "A cash movement of a POS session")
+public record CashMovementResponse(
+        @Schema(description = "ID of the movement", example = "501")
+        Long id,
+
+        @Schema(description = "ID of the POS session", example = "12")
+        Long sessionId,
+
+        @Schema(description = "Type of movement", example = "SALE_CASH_IN")
+        CashMovementType type,
+
+        @Schema(description = "Signed amount, negative when cash leaves the drawer", example = "25.99")
+        BigDecimal amount,
+
+        @Schema(description = "ID of the sale or purchase transaction, if any", example = "3021")
+        Long transactionId,
+
+        @Schema(description = "Reason of the movement", example = "Change float top-up")
+        String description,
+
+        @Schema(description = "Date and time of the movement", example = "2025-06-15T10:12:45")
+        LocalDateTime createdAt
+) {}
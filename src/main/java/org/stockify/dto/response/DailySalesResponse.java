@@ -0,0 +1,25 @@
+package org.stockify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+@Schema(description = "Totals of a store for one day")
+public record DailySalesResponse(
+        @Schema(description = "Day of the totals", example = "2025-06-01")
+        LocalDate day,
+
+        @Schema(description = "Number of transactions", example = "312")
+        long transactions,
+
+        @Schema(description = "Units of products sold or purchased", example = "1045.5")
+        BigDecimal units,
+
+        @Schema(description = "Total amount of the transactions", example = "15870.40")
+        BigDecimal revenue,
+
+        @Schema(description = "Total amount per payment method", example = "{\"CASH\": 5200.00, \"DEBIT\": 10670.40}")
+        Map<String, BigDecimal> revenueByPaymentMethod
+) {}
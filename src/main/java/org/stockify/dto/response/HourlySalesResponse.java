@@ -0,0 +1,18 @@
+package org.stockify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Schema(description = "Totals of a store for one hour")
+public record HourlySalesResponse(
+        @Schema(description = "Start of the hour", example = "2025-06-01T14:00:00")
+        LocalDateTime hour,
+
+        @Schema(description = "Units of products sold or purchased", example = "86.0")
+        BigDecimal units,
+
+        @Schema(description = "Total amount of the detail lines", example = "1320.75")
+        BigDecimal revenue
+) {}
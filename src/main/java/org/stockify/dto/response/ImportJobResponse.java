@@ -0,0 +1,45 @@
+package org.stockify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.stockify.model.enums.ImportJobStatus;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Status and progress of a background import job")
+public record ImportJobResponse(
+        @Schema(description = "ID of the import job", example = "3f2c8a4e-9a4b-4c39-8f55-1d2a6b7c9e10")
+        String id,
+
+        @Schema(description = "Type of data being imported", example = "products")
+        String type,
+
+        @Schema(description = "Current status of the job", example = "RUNNING")
+        ImportJobStatus status,
+
+        @Schema(description = "Number of rows processed so far", example = "12000")
+        int rowsProcessed,
+
+        @Schema(description = "Number of rows created", example = "11800")
+        int created,
+
+        @Schema(description = "Number of rows skipped", example = "150")
+        int skipped,
+
+        @Schema(description = "Number of rows with errors", example = "50")
+        int errors,
+
+        @Schema(description = "Average rows processed per second", example = "2400.5")
+        double rowsPerSecond,
+
+        @Schema(description = "Date and time the job was submitted", example = "2025-06-15T08:30:00")
+        LocalDateTime submittedAt,
+
+        @Schema(description = "Date and time the job started running", example = "2025-06-15T08:30:01")
+        LocalDateTime startedAt,
+
+        @Schema(description = "Date and time the job finished", example = "2025-06-15T08:30:06")
+        LocalDateTime finishedAt,
+
+        @Schema(description = "Failure message, if the job failed")
+        String message
+) {}
@@ -0,0 +1,22 @@
+package org.stockify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.stockify.model.enums.OfflineSaleStatus;
+
+@Schema(description = "Outcome of one synced offline sale")
+public record OfflineSaleResult(
+        @Schema(description = "ID generated by the till for the sale", example = "5f0c6b1e-2a4d-4d7c-9b8e-0f7d3c2a1b90")
+        String clientSaleId,
+
+        @Schema(description = "Outcome of the sale", example = "CREATED")
+        OfflineSaleStatus status,
+
+        @Schema(description = "ID of the sale, when created now or by a previous sync", example = "812")
+        Long saleId,
+
+        @Schema(description = "ID of the sale's transaction", example = "3021")
+        Long transactionId,
+
+        @Schema(description = "Reason of a rejection, or the stock shortfall of an accepted sale")
+        String message
+) {}
@@ -0,0 +1,23 @@
+package org.stockify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Outcome of a batch of offline sales")
+public record OfflineSyncResponse(
+        @Schema(description = "ID of the POS", example = "10")
+        Long posId,
+
+        @Schema(description = "Number of sales created", example = "120")
+        int created,
+
+        @Schema(description = "Number of sales already synced before", example = "3")
+        int duplicates,
+
+        @Schema(description = "Number of sales rejected", example = "1")
+        int rejected,
+
+        @Schema(description = "Outcome of every sale, in request order")
+        List<OfflineSaleResult> results
+) {}
@@ -0,0 +1,23 @@
+package org.stockify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Schema(description = "Totals of a product in a store over a period")
+public record ProductSalesResponse(
+        @Schema(description = "ID of the product", example = "101")
+        Long productId,
+
+        @Schema(description = "Product name, empty if the product was deleted", example = "Wireless Headphones")
+        String name,
+
+        @Schema(description = "Number of transactions including the product", example = "48")
+        Long transactions,
+
+        @Schema(description = "Units sold or purchased", example = "52.0")
+        BigDecimal units,
+
+        @Schema(description = "Total amount of the detail lines", example = "1039.48")
+        BigDecimal revenue
+) {}
@@ -0,0 +1,20 @@
+package org.stockify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "Result of rebuilding the sales rollups for a period")
+public record RollupRebuildResponse(
+        @Schema(description = "First day rebuilt", example = "2024-01-01")
+        LocalDate from,
+
+        @Schema(description = "Last day rebuilt", example = "2024-12-31")
+        LocalDate to,
+
+        @Schema(description = "Number of hourly rollup rows written", example = "183204")
+        int hourlyRows,
+
+        @Schema(description = "Number of daily rollup rows written", example = "5840")
+        int dailyRows
+) {}
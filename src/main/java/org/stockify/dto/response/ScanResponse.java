@@ -0,0 +1,20 @@
+package org.stockify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Schema(description = "Minimal product information returned when scanning a barcode at a store")
+public record ScanResponse(
+        @Schema(description = "ID of the product", example = "101")
+        long productId,
+
+        @Schema(description = "Product name", example = "Wireless Headphones")
+        String name,
+
+        @Schema(description = "Price of the product", example = "19.99")
+        BigDecimal price,
+
+        @Schema(description = "Available stock quantity in the store", example = "50.0")
+        double stock
+) {}
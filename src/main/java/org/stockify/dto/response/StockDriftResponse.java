@@ -0,0 +1,18 @@
+package org.stockify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A stock row whose stored quantity differs from its ledger")
+public record StockDriftResponse(
+        @Schema(description = "ID of the product", example = "1001")
+        Long productId,
+
+        @Schema(description = "ID of the store", example = "3")
+        Long storeId,
+
+        @Schema(description = "Quantity stored on the stock row", example = "40.0")
+        Double stored,
+
+        @Schema(description = "Quantity replayed from the ledger", example = "42.0")
+        Double replayed
+) {}
@@ -0,0 +1,24 @@
+package org.stockify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Quantity of a product in a store at a point in time, replayed from the stock ledger")
+public record StockLevelResponse(
+        @Schema(description = "ID of the product", example = "1001")
+        Long productId,
+
+        @Schema(description = "ID of the store", example = "3")
+        Long storeId,
+
+        @Schema(description = "Point in time of the quantity", example = "2025-06-13T20:00:00")
+        LocalDateTime asOf,
+
+        @Schema(description = "Quantity on hand at that time", example = "42.0")
+        Double quantity,
+
+        @Schema(description = "Time of the snapshot the replay started from, null if it started from the first movement",
+                example = "2025-06-13T19:00:00")
+        LocalDateTime snapshotAsOf
+) {}
@@ -0,0 +1,27 @@
+package org.stockify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.stockify.model.enums.StockMovementType;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "A change to the stock of a product in a store")
+public record StockMovementResponse(
+        @Schema(description = "ID of the movement", example = "90211")
+        Long id,
+
+        @Schema(description = "ID of the product", example = "1001")
+        Long productId,
+
+        @Schema(description = "ID of the store", example = "3")
+        Long storeId,
+
+        @Schema(description = "Cause of the movement", example = "SALE")
+        StockMovementType type,
+
+        @Schema(description = "Signed change of the quantity, negative when stock leaves the store", example = "-2.0")
+        Double quantity,
+
+        @Schema(description = "Date and time the movement was recorded", example = "2025-06-13T18:04:11")
+        LocalDateTime recordedAt
+) {}
@@ -0,0 +1,32 @@
+package org.stockify.model.assembler;
+
+import org.springframework.data.domain.Window;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.RepresentationModelAssembler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.stockify.model.pagination.KeysetPagination;
+
+/**
+ * Builds the response of a cursor-paginated listing: the window content, a self link,
+ * and a next link carrying the cursor of the following window when more rows exist.
+ */
+@Component
+public class CursorModelAssembler {
+
+    public <T> CollectionModel<EntityModel<T>> toModel(Window<T> window,
+                                                      RepresentationModelAssembler<T, EntityModel<T>> assembler) {
+        CollectionModel<EntityModel<T>> model = assembler.toCollectionModel(window.getContent());
+        ServletUriComponentsBuilder current = ServletUriComponentsBuilder.fromCurrentRequest();
+        model.add(Link.of(current.toUriString()).withSelfRel());
+
+        if (window.hasNext() && !window.isEmpty()) {
+            String cursor = KeysetPagination.encode(window.positionAt(window.size() - 1));
+            model.add(Link.of(current.replaceQueryParam("cursor", cursor).toUriString(), IanaLinkRelations.NEXT));
+        }
+        return model;
+    }
+}
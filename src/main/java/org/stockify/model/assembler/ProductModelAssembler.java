@@ -20,11 +20,11 @@ public class ProductModelAssembler implements RepresentationModelAssembler<Produ
     public EntityModel<ProductResponse> toModel(@NotNull ProductResponse productResponse) {
         return EntityModel.of(productResponse,
                 linkTo(methodOn(ProductController.class)
-                        .getProductById(productResponse.id()))
+                        .getProductById(productResponse.id(), null))
                         .withSelfRel(),
 
                 linkTo(methodOn(ProductController.class)
-                        .listProducts(new ProductFilterRequest(), PageRequest.of(0, 10), null))
+                        .listProducts(new ProductFilterRequest(), null, PageRequest.of(0, 10), null))
                         .withRel("products")
         );
     }
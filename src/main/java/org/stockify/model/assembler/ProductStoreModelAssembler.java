@@ -19,11 +19,11 @@ public class ProductStoreModelAssembler implements RepresentationModelAssembler<
     public EntityModel<ProductStoreResponse> toModel(@NotNull ProductStoreResponse productStoreResponse) {
         return EntityModel.of(productStoreResponse,
                 linkTo(methodOn(ProductController.class)
-                        .getProductById(productStoreResponse.productID()))
+                        .getProductById(productStoreResponse.productID(), null))
                         .withSelfRel(),
 
                 linkTo(methodOn(ProductController.class)
-                        .listProducts(null, PageRequest.of(0, 10), null))
+                        .listProducts(null, null, PageRequest.of(0, 10), null))
                         .withRel("products")
 
         );
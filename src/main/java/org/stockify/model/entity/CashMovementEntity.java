@@ -0,0 +1,57 @@
+package org.stockify.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.stockify.model.enums.CashMovementType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A cash movement in the drawer of a POS session. The ledger is append-only: rows are never updated or deleted,
+ * and the sum of the amounts of a session is its expected cash.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Immutable
+@Table(name = "cash_movements", indexes = {
+        @Index(name = "idx_cash_movements_session", columnList = "session_pos_id")
+})
+public class CashMovementEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "session_pos_id", nullable = false, updatable = false)
+    private SessionPosEntity session;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, updatable = false)
+    private CashMovementType type;
+
+    /**
+     * Signed amount: positive when cash enters the drawer, negative when it leaves.
+     */
+    @Column(name = "amount", nullable = false, updatable = false, precision = 20, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "transaction_id", updatable = false)
+    private Long transactionId;
+
+    @Column(name = "description", updatable = false)
+    private String description;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -3,10 +3,17 @@ package org.stockify.model.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.stockify.config.CacheRegions;
+import org.stockify.config.ReferenceDataChangeListener;
 
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CATEGORIES)
+@EntityListeners(ReferenceDataChangeListener.class)
 @Table(
         name = "categories",
         uniqueConstraints = {
@@ -0,0 +1,56 @@
+package org.stockify.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Sales and purchase totals of a store for one day and payment method.
+ * Maintained incrementally by {@code SalesRollupService}; never written through JPA.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@IdClass(DailySalesRollupEntity.Key.class)
+@Table(name = "sales_rollup_daily")
+public class DailySalesRollupEntity {
+
+    @Id
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Id
+    @Column(name = "sales_day", nullable = false)
+    private LocalDate day;
+
+    @Id
+    @Column(name = "type", nullable = false, length = 20)
+    private String type;
+
+    @Id
+    @Column(name = "payment_method", nullable = false, length = 20)
+    private String paymentMethod;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+
+    @Column(name = "units", nullable = false, precision = 20, scale = 3)
+    private BigDecimal units;
+
+    @Column(name = "revenue", nullable = false, precision = 20, scale = 2)
+    private BigDecimal revenue;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long storeId;
+        private LocalDate day;
+        private String type;
+        private String paymentMethod;
+    }
+}
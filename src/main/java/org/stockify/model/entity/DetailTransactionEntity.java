@@ -20,7 +20,8 @@ import java.math.BigDecimal;
 @Table(name = "details_transactions")
 public class DetailTransactionEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "details_transactions_seq")
+    @SequenceGenerator(name = "details_transactions_seq", sequenceName = "details_transactions_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -0,0 +1,63 @@
+package org.stockify.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Sales and purchase totals of a product in a store for one hour and payment method.
+ * Maintained incrementally by {@code SalesRollupService}; never written through JPA.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@IdClass(HourlySalesRollupEntity.Key.class)
+@Table(name = "sales_rollup_hourly", indexes = {
+        @Index(name = "idx_sales_rollup_hourly_bucket", columnList = "store_id, type, bucket_start")
+})
+public class HourlySalesRollupEntity {
+
+    @Id
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Id
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Id
+    @Column(name = "type", nullable = false, length = 20)
+    private String type;
+
+    @Id
+    @Column(name = "payment_method", nullable = false, length = 20)
+    private String paymentMethod;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+
+    @Column(name = "units", nullable = false, precision = 20, scale = 3)
+    private BigDecimal units;
+
+    @Column(name = "revenue", nullable = false, precision = 20, scale = 2)
+    private BigDecimal revenue;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long storeId;
+        private Long productId;
+        private LocalDateTime bucketStart;
+        private String type;
+        private String paymentMethod;
+    }
+}
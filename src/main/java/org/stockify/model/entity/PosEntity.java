@@ -1,6 +1,7 @@
 package org.stockify.model.entity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.stockify.model.enums.Status;
 
 import java.math.BigDecimal;
@@ -12,6 +13,7 @@ import java.util.Set;
 @NoArgsConstructor
 @Builder
 @Entity
+@DynamicUpdate
 @Table(name = "pos")
 public class PosEntity {
 
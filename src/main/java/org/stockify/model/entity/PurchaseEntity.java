@@ -13,7 +13,8 @@ import org.hibernate.envers.RelationTargetAuditMode;
 @Audited
 public class PurchaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "purchases_seq")
+    @SequenceGenerator(name = "purchases_seq", sequenceName = "purchases_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne
@@ -13,7 +13,8 @@ import org.hibernate.envers.RelationTargetAuditMode;
 @Audited
 public class SaleEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sales_seq")
+    @SequenceGenerator(name = "sales_seq", sequenceName = "sales_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -26,4 +27,10 @@ public class SaleEntity {
     @JoinColumn(name = "client_id")
     @Audited(targetAuditMode = RelationTargetAuditMode.NOT_AUDITED)
     private ClientEntity client;
+
+    /**
+     * ID generated by the till for sales recorded offline, used to ignore duplicates when they are synced again.
+     */
+    @Column(name = "client_sale_id", length = 64, unique = true)
+    private String clientSaleId;
 }
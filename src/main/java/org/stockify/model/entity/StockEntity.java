@@ -3,10 +3,13 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @Setter
 @Entity
+@DynamicUpdate
 @Table(name = "stock",uniqueConstraints = {
         @UniqueConstraint(columnNames = {"product_id", "store_id"
         })
@@ -14,7 +17,8 @@ import lombok.Setter;
 
 public class StockEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_seq")
+    @SequenceGenerator(name = "stock_seq", sequenceName = "stock_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -34,4 +38,9 @@ public class StockEntity {
 
     @Column(nullable = false ,columnDefinition = "boolean default false")
     private boolean lowStockAlertSent;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package org.stockify.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.stockify.model.enums.StockMovementType;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change to the stock of a product in a store. The ledger is append-only: rows are never updated or deleted,
+ * and the quantity of a (product, store) at any time is its latest snapshot plus the movements recorded after it.
+ * Products and stores are plain ID columns, and IDs come from a pooled sequence, so movements insert in JDBC batches
+ * without touching other tables.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Immutable
+@Table(name = "stock_movements", indexes = {
+        @Index(name = "idx_stock_movements_store_product_recorded", columnList = "store_id, product_id, recorded_at")
+})
+public class StockMovementEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_movements_seq")
+    @SequenceGenerator(name = "stock_movements_seq", sequenceName = "stock_movements_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 16)
+    private StockMovementType type;
+
+    /**
+     * Signed change of the quantity, negative when stock leaves the store
+     */
+    @Column(name = "quantity", nullable = false)
+    private Double quantity;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (this.recordedAt == null) {
+            this.recordedAt = LocalDateTime.now();
+        }
+    }
+}
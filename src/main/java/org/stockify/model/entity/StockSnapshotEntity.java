@@ -0,0 +1,40 @@
+package org.stockify.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * The quantity of a product in a store including every movement recorded up to {@code asOf}.
+ * Written periodically by the stock ledger so as-of queries only replay the movements after it.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Immutable
+@Table(name = "stock_snapshots", indexes = {
+        @Index(name = "idx_stock_snapshots_store_product_as_of", columnList = "store_id, product_id, as_of")
+})
+public class StockSnapshotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "as_of", nullable = false)
+    private LocalDateTime asOf;
+
+    @Column(name = "quantity", nullable = false)
+    private Double quantity;
+}
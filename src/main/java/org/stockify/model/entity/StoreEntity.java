@@ -5,12 +5,19 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.stockify.config.CacheRegions;
+import org.stockify.config.ReferenceDataChangeListener;
 
 import java.util.Set;
 
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.STORES)
+@EntityListeners(ReferenceDataChangeListener.class)
 @Table(name = "stores")
 public class StoreEntity {
     @Id
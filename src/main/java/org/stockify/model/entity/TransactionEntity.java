@@ -25,7 +25,8 @@ import java.util.Set;
 @Audited
 public class TransactionEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+    @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "total")
@@ -69,7 +70,9 @@ public class TransactionEntity {
 
     @PrePersist
     public void prePersist(){
-        this.dateTime = LocalDateTime.now();
+        if (this.dateTime == null) {
+            this.dateTime = LocalDateTime.now();
+        }
     }
 
 }
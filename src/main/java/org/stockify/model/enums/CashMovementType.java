@@ -0,0 +1,8 @@
+package org.stockify.model.enums;
+
+public enum CashMovementType {
+    OPENING_FLOAT,
+    SALE_CASH_IN,
+    PURCHASE_CASH_OUT,
+    ADJUSTMENT
+}
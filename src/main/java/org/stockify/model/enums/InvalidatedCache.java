@@ -0,0 +1,9 @@
+package org.stockify.model.enums;
+
+public enum InvalidatedCache {
+    PRODUCTS,
+    STOCK,
+    PRINCIPALS,
+    TOKEN_REVOCATIONS,
+    REFERENCE_DATA
+}
@@ -0,0 +1,19 @@
+package org.stockify.model.enums;
+
+/**
+ * What to do with an offline sale whose lines exceed the stock left when it is synced.
+ */
+public enum NegativeStockPolicy {
+    /**
+     * Record the sale and let the stock go below zero until it is counted or restocked
+     */
+    ALLOW_NEGATIVE,
+    /**
+     * Record the sale and floor the stock at zero, treating the previous count as wrong
+     */
+    CLAMP_TO_ZERO,
+    /**
+     * Reject the sale; later sales of the batch are still applied
+     */
+    REJECT_SALE
+}
@@ -0,0 +1,7 @@
+package org.stockify.model.enums;
+
+public enum OfflineSaleStatus {
+    CREATED,
+    DUPLICATE,
+    REJECTED
+}
@@ -0,0 +1,11 @@
+package org.stockify.model.enums;
+
+/**
+ * Optional parts of a product response, loaded only when requested.
+ */
+public enum ProductField {
+    DESCRIPTION,
+    CATEGORIES,
+    PROVIDERS,
+    STOCKS
+}
@@ -0,0 +1,9 @@
+package org.stockify.model.enums;
+
+public enum StockMovementType {
+    SALE,
+    PURCHASE,
+    TRANSFER,
+    ADJUSTMENT,
+    COUNT
+}
@@ -0,0 +1,26 @@
+package org.stockify.model.event;
+
+import org.stockify.model.enums.InvalidatedCache;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Published on this node when cached data was changed by another node, or when notices may have been missed.
+ * Listeners evict the matching local entries.
+ *
+ * @param cache the cache holding the changed data
+ * @param keys  the keys of the changed entries
+ * @param all   whether every entry of the cache must be evicted, ignoring the keys
+ */
+public record CacheInvalidatedEvent(InvalidatedCache cache, Set<String> keys, boolean all) {
+
+    /**
+     * Returns the keys parsed as numeric IDs.
+     *
+     * @return the IDs of the changed entries
+     */
+    public Set<Long> ids() {
+        return keys.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,12 @@
+package org.stockify.model.event;
+
+import java.util.Collection;
+
+/**
+ * Published when products are created, updated or deleted.
+ * Listeners only see it once the enclosing transaction commits.
+ *
+ * @param productIds the IDs of the changed products
+ */
+public record ProductsChangedEvent(Collection<Long> productIds) {
+}
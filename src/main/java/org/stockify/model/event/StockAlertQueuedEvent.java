@@ -0,0 +1,10 @@
+package org.stockify.model.event;
+
+/**
+ * Published when a low-stock alert is written to the outbox.
+ * Listeners only see it once the enclosing transaction commits.
+ *
+ * @param alertId the ID of the queued alert
+ */
+public record StockAlertQueuedEvent(Long alertId) {
+}
@@ -0,0 +1,13 @@
+package org.stockify.model.event;
+
+import java.util.Collection;
+
+/**
+ * Published when stock quantities of a store change.
+ * Listeners only see it once the enclosing transaction commits.
+ *
+ * @param storeId    the ID of the store
+ * @param productIds the IDs of the products whose stock changed
+ */
+public record StockChangedEvent(Long storeId, Collection<Long> productIds) {
+}
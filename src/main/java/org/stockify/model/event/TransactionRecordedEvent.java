@@ -0,0 +1,12 @@
+package org.stockify.model.event;
+
+import java.util.List;
+
+/**
+ * Published when sale or purchase transactions with product details are saved.
+ * Listeners see it before or after the enclosing transaction commits, depending on their phase.
+ *
+ * @param transactionIds the IDs of the saved transactions
+ */
+public record TransactionRecordedEvent(List<Long> transactionIds) {
+}
@@ -0,0 +1,7 @@
+package org.stockify.model.exception;
+
+public class ImportJobRejectedException extends RuntimeException {
+    public ImportJobRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.stockify.model.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.stockify.model.exception;
+
+public class SaleIngestionUnavailableException extends RuntimeException {
+    public SaleIngestionUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -21,6 +21,7 @@ public interface PurchaseMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "client", ignore = true)
+    @Mapping(target = "clientSaleId", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void partialUpdatePurchaseEntity(SaleRequest saleRequest, @MappingTarget SaleEntity saleEntity);
 
@@ -11,6 +11,7 @@ public interface SaleMapper {
     @Mapping(target = "client", ignore = true)
     @Mapping(target = "transaction", ignore = true)
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "clientSaleId", ignore = true)
     SaleEntity toEntity(SaleRequest dto);
 
     @Mapping(target = "clientDni", source = "client.dni")
@@ -20,10 +21,12 @@ public interface SaleMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "client", ignore = true)
+    @Mapping(target = "clientSaleId", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void partialUpdateSaleEntity(SaleRequest saleRequest, @MappingTarget SaleEntity saleEntity);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "client", ignore = true)
+    @Mapping(target = "clientSaleId", ignore = true)
     void updateShiftEntity(SaleRequest saleRequest, @MappingTarget SaleEntity saleEntity);
 }
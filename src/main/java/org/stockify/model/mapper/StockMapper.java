@@ -12,6 +12,7 @@ public interface StockMapper {
 
     @Mapping(target = "lowStockAlertSent", ignore = true)
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "product", source = "product")
     @Mapping(target = "store", source = "store")
     @Mapping(target = "quantity", source = "request.quantity")
@@ -0,0 +1,151 @@
+package org.stockify.model.pagination;
+
+import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.stockify.model.exception.InvalidCursorException;
+
+import java.math.BigDecimal;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset (seek) pagination over specification queries.
+ * <p>
+ * Instead of an offset and a count query, each window is read with a {@code WHERE (sort keys, id) > (last values)}
+ * condition, so the cost of a page does not grow with its depth.
+ * The position after the last row is handed to clients as an opaque cursor that encodes the sort key values and their types.
+ * The entity ID is always appended as the final sort key, so the ordering is total and no row is skipped or repeated.
+ * Sort keys are limited to non-null properties: a null key can neither be compared in the keyset condition nor
+ * encoded in a cursor, so a scroll sorted by a nullable property would stop at its first null row.
+ * </p>
+ */
+public final class KeysetPagination {
+
+    private KeysetPagination() {
+    }
+
+    /**
+     * Reads the window of entities after the cursor position.
+     *
+     * @param repository    the repository to query
+     * @param specification the filters to apply
+     * @param pageable      the window size and sort; the page number is ignored
+     * @param cursor        the cursor returned with the previous window, or null for the first one
+     * @param sortable      the non-null properties the window may be sorted by, including the ID
+     * @return the window of entities, which knows whether more rows follow
+     * @throws InvalidCursorException if the cursor cannot be decoded or the sort uses a property that is not sortable
+     */
+    public static <E> Window<E> scroll(JpaSpecificationExecutor<E> repository, Specification<E> specification,
+                                       Pageable pageable, String cursor, Set<String> sortable) {
+        Sort sort = pageable.getSort();
+        for (Sort.Order order : sort) {
+            if (!sortable.contains(order.getProperty())) {
+                throw new InvalidCursorException("Sorting by '" + order.getProperty() + "' is not supported in cursor mode; "
+                        + "sort by one of " + new TreeSet<>(sortable));
+            }
+        }
+        if (sort.getOrderFor("id") == null) {
+            Sort.Direction direction = sort.stream()
+                    .reduce((first, second) -> second)
+                    .map(Sort.Order::getDirection)
+                    .orElse(Sort.Direction.ASC);
+            sort = sort.and(Sort.by(direction, "id"));
+        }
+
+        Sort keysetSort = sort;
+        ScrollPosition position = decode(cursor);
+        int size = pageable.getPageSize();
+        return repository.<E, Window<E>>findBy(specification, query -> query.sortBy(keysetSort).limit(size).scroll(position));
+    }
+
+    /**
+     * Encodes the position after a row of a window as an opaque cursor.
+     *
+     * @param position the keyset position
+     * @return the URL-safe cursor
+     * @throws InvalidCursorException if a sort key has a type that cannot be encoded
+     */
+    public static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new InvalidCursorException("Only keyset positions can be encoded");
+        }
+        String raw = keyset.getKeys().entrySet().stream()
+                .map(entry -> urlEncode(entry.getKey()) + "=" + encodeValue(entry.getKey(), entry.getValue()))
+                .collect(Collectors.joining("&"));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor into a keyset position.
+     *
+     * @param cursor the cursor, or null for the initial position
+     * @return the keyset position
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    public static ScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (String pair : raw.split("&")) {
+                int separator = pair.indexOf('=');
+                keys.put(urlDecode(pair.substring(0, separator)), decodeValue(pair.substring(separator + 1)));
+            }
+            return ScrollPosition.forward(keys);
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException("Cursor is invalid: " + cursor);
+        }
+    }
+
+    // --- Auxiliary methods ---
+
+    private static String encodeValue(String key, Object value) {
+        if (value instanceof Long v) return "L:" + v;
+        if (value instanceof Integer v) return "I:" + v;
+        if (value instanceof String v) return "S:" + urlEncode(v);
+        if (value instanceof BigDecimal v) return "B:" + v.toPlainString();
+        if (value instanceof Double v) return "F:" + v;
+        if (value instanceof LocalDateTime v) return "T:" + v;
+        if (value instanceof LocalDate v) return "D:" + v;
+        if (value instanceof LocalTime v) return "H:" + v;
+        if (value instanceof Boolean v) return "Z:" + v;
+        throw new InvalidCursorException("Sorting by '" + key + "' is not supported in cursor mode");
+    }
+
+    private static Object decodeValue(String encoded) {
+        String value = encoded.substring(2);
+        return switch (encoded.charAt(0)) {
+            case 'L' -> Long.valueOf(value);
+            case 'I' -> Integer.valueOf(value);
+            case 'S' -> urlDecode(value);
+            case 'B' -> new BigDecimal(value);
+            case 'F' -> Double.valueOf(value);
+            case 'T' -> LocalDateTime.parse(value);
+            case 'D' -> LocalDate.parse(value);
+            case 'H' -> LocalTime.parse(value);
+            case 'Z' -> Boolean.valueOf(value);
+            default -> throw new IllegalArgumentException("Unknown cursor value type");
+        };
+    }
+
+    private static String urlEncode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String urlDecode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+}
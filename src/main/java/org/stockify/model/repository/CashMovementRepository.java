@@ -0,0 +1,26 @@
+package org.stockify.model.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.stockify.dto.response.CashBalanceResponse;
+import org.stockify.model.entity.CashMovementEntity;
+
+@Repository
+public interface CashMovementRepository extends JpaRepository<CashMovementEntity, Long> {
+
+    Page<CashMovementEntity> findBySession_Id(Long sessionId, Pageable pageable);
+
+    /**
+     * Reconciles a session in one aggregate query: the balance is the sum of all its movements.
+     *
+     * @param sessionId the ID of the POS session
+     * @return the balance and number of movements of the session
+     */
+    @Query("SELECT new org.stockify.dto.response.CashBalanceResponse(:sessionId, COALESCE(SUM(m.amount), 0), COUNT(m)) " +
+            "FROM CashMovementEntity m WHERE m.session.id = :sessionId")
+    CashBalanceResponse getBalance(@Param("sessionId") Long sessionId);
+}
@@ -1,15 +1,22 @@
 package org.stockify.model.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.stockify.config.CacheRegions;
 import org.stockify.model.entity.CategoryEntity;
 
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<CategoryEntity,Integer> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.LOOKUPS)})
     Optional<CategoryEntity> findByName(String categoryName);
 
     Page<CategoryEntity> findAll(Specification<CategoryEntity> spec, Pageable pageable);
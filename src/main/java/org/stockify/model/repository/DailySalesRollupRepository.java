@@ -0,0 +1,15 @@
+package org.stockify.model.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import org.stockify.model.entity.DailySalesRollupEntity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailySalesRollupRepository extends JpaRepository<DailySalesRollupEntity, DailySalesRollupEntity.Key> {
+
+    List<DailySalesRollupEntity> findByStoreIdAndTypeAndDayBetweenOrderByDay(Long storeId, String type,
+                                                                           LocalDate from, LocalDate to);
+}
@@ -0,0 +1,33 @@
+package org.stockify.model.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.stockify.dto.response.HourlySalesResponse;
+import org.stockify.dto.response.ProductSalesResponse;
+import org.stockify.model.entity.HourlySalesRollupEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface HourlySalesRollupRepository extends JpaRepository<HourlySalesRollupEntity, HourlySalesRollupEntity.Key> {
+
+    @Query("SELECT new org.stockify.dto.response.HourlySalesResponse(r.bucketStart, SUM(r.units), SUM(r.revenue)) " +
+            "FROM HourlySalesRollupEntity r " +
+            "WHERE r.storeId = :storeId AND r.type = :type AND r.bucketStart >= :from AND r.bucketStart < :to " +
+            "GROUP BY r.bucketStart ORDER BY r.bucketStart")
+    List<HourlySalesResponse> findHourlyTotals(@Param("storeId") Long storeId, @Param("type") String type,
+                                               @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT new org.stockify.dto.response.ProductSalesResponse(r.productId, p.name, " +
+            "SUM(r.transactionCount), SUM(r.units), SUM(r.revenue)) " +
+            "FROM HourlySalesRollupEntity r LEFT JOIN ProductEntity p ON p.id = r.productId " +
+            "WHERE r.storeId = :storeId AND r.type = :type AND r.bucketStart >= :from AND r.bucketStart < :to " +
+            "GROUP BY r.productId, p.name ORDER BY SUM(r.revenue) DESC, r.productId")
+    List<ProductSalesResponse> findTopProducts(@Param("storeId") Long storeId, @Param("type") String type,
+                                               @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                               Pageable pageable);
+}
@@ -0,0 +1,48 @@
+package org.stockify.model.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.stockify.model.entity.IdempotencyKeyEntity;
+
+import java.time.Instant;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+    /**
+     * Claims a key for the current transaction. Returns 1 when the key is new or had expired, 0 when it is taken.
+     * While another transaction holds an uncommitted claim on the same key, the insert waits for it to finish.
+     * The query space hint tells Hibernate the statement only touches this table, so it does not clear
+     * the second-level cache.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "idempotency_keys"))
+    @Query(value = """
+            INSERT INTO idempotency_keys (key_hash, request_hash, created_at, expires_at)
+            VALUES (:keyHash, :requestHash, :now, :expiresAt)
+            ON CONFLICT (key_hash) DO UPDATE SET
+                request_hash = EXCLUDED.request_hash,
+                resource_id = NULL,
+                created_at = EXCLUDED.created_at,
+                expires_at = EXCLUDED.expires_at
+            WHERE idempotency_keys.expires_at < EXCLUDED.created_at
+            """, nativeQuery = true)
+    int claim(@Param("keyHash") String keyHash,
+              @Param("requestHash") String requestHash,
+              @Param("now") Instant now,
+              @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("UPDATE IdempotencyKeyEntity k SET k.resourceId = :resourceId WHERE k.keyHash = :keyHash")
+    int complete(@Param("keyHash") String keyHash, @Param("resourceId") Long resourceId);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
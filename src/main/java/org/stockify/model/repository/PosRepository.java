@@ -1,13 +1,19 @@
 package org.stockify.model.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.stockify.model.entity.PosEntity;
 import org.stockify.model.enums.Status;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 
 /**
@@ -41,4 +47,46 @@ public interface PosRepository extends JpaRepository<PosEntity,Long>, JpaSpecifi
      * @return An Optional containing the POS entity if found, or empty if not found
      */
     Optional<PosEntity> findByEmployeeId(Long employeeId);
+
+    /**
+     * Finds a POS terminal and locks its row until the transaction ends.
+     *
+     * @param id The ID of the POS terminal
+     * @return An Optional containing the locked POS entity, or empty if not found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<PosEntity> findForUpdateById(Long id);
+
+    /**
+     * Atomically adds a signed amount to the cash of an ONLINE POS.
+     * A negative amount is only applied if the POS holds at least that much cash.
+     * The row stays locked until the transaction commits, so concurrent movements on one till never lose updates.
+     *
+     * @param posId  the ID of the POS
+     * @param amount the signed amount to add
+     * @return 1 if the amount was applied, 0 if the POS is not ONLINE or holds too little cash
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+    UPDATE PosEntity p
+    SET p.currentAmount = COALESCE(p.currentAmount, 0) + :amount
+    WHERE p.id = :posId AND p.status = org.stockify.model.enums.Status.ONLINE
+      AND COALESCE(p.currentAmount, 0) + :amount >= 0
+    """)
+    int addToCurrentAmount(@Param("posId") Long posId, @Param("amount") BigDecimal amount);
+
+    /**
+     * Atomically takes an ONLINE POS offline, unlinking its employee and resetting its cash.
+     * Waits for in-flight cash movements on the POS to commit, and blocks later ones.
+     *
+     * @param posId the ID of the POS
+     * @return 1 if the POS was closed, 0 if it was not ONLINE
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+    UPDATE PosEntity p
+    SET p.status = org.stockify.model.enums.Status.OFFLINE, p.employee = null, p.currentAmount = 0
+    WHERE p.id = :posId AND p.status = org.stockify.model.enums.Status.ONLINE
+    """)
+    int closeIfOnline(@Param("posId") Long posId);
 }
@@ -9,15 +9,68 @@ import org.springframework.stereotype.Repository;
 import org.stockify.model.entity.CategoryEntity;
 import org.stockify.model.entity.ProductEntity;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 
 @Repository
 public interface ProductRepository extends JpaRepository<ProductEntity,Long>, JpaSpecificationExecutor<ProductEntity> {
 
+    /**
+     * Text searched by the full-text index. Must match the expression of the idx_products_search_document index.
+     */
+    String SEARCH_DOCUMENT =
+            "to_tsvector('simple', coalesce(name, '') || ' ' || coalesce(brand, '') || ' ' || coalesce(description, ''))";
+
+    String SEARCH_CONDITION =
+            " FROM products p WHERE " + SEARCH_DOCUMENT + " @@ to_tsquery('simple', :tsQuery)" +
+            " OR lower(p.name) % lower(:term) OR p.barcode = :term OR p.sku = :term";
+
     @Query("SELECT p.categories FROM ProductEntity p WHERE p.id = :prodID")
     Page<CategoryEntity> findCategoriesByProductId(@Param("prodID") Long prodID, Pageable pageable);
 
     Page<ProductEntity> findAllByProviders_Id(Long providerId, Pageable pageable);
 
+    /**
+     * Ranked product search: exact barcode or SKU matches first, then full-text rank (with prefix matching)
+     * plus trigram similarity on the name, which tolerates typos.
+     * Backed by the indexes created by {@code SearchIndexConfig}.
+     */
+    @Query(value = "SELECT p.id" + SEARCH_CONDITION +
+            " ORDER BY CASE WHEN p.barcode = :term OR p.sku = :term THEN 1 ELSE 0 END DESC," +
+            " ts_rank(" + SEARCH_DOCUMENT + ", to_tsquery('simple', :tsQuery)) + similarity(lower(p.name), lower(:term)) DESC," +
+            " p.id",
+            countQuery = "SELECT count(*)" + SEARCH_CONDITION,
+            nativeQuery = true)
+    Page<Long> searchIds(@Param("term") String term, @Param("tsQuery") String tsQuery, Pageable pageable);
+
+    String PLAIN_SEARCH_CONDITION =
+            " FROM products p WHERE " + SEARCH_DOCUMENT + " @@ to_tsquery('simple', :tsQuery)" +
+            " OR p.name ILIKE :pattern OR p.barcode = :term OR p.sku = :term";
+
+    /**
+     * Ranked product search for databases without the pg_trgm extension: exact barcode or SKU matches first,
+     * then full-text rank (with prefix matching). Names containing the term also match, without typo tolerance.
+     */
+    @Query(value = "SELECT p.id" + PLAIN_SEARCH_CONDITION +
+            " ORDER BY CASE WHEN p.barcode = :term OR p.sku = :term THEN 1 ELSE 0 END DESC," +
+            " ts_rank(" + SEARCH_DOCUMENT + ", to_tsquery('simple', :tsQuery)) DESC," +
+            " p.id",
+            countQuery = "SELECT count(*)" + PLAIN_SEARCH_CONDITION,
+            nativeQuery = true)
+    Page<Long> searchIdsWithoutTrigrams(@Param("term") String term, @Param("tsQuery") String tsQuery,
+                                        @Param("pattern") String pattern, Pageable pageable);
+
+    @Query("SELECT p.name FROM ProductEntity p WHERE p.name IN :names")
+    Set<String> findExistingNames(@Param("names") Collection<String> names);
+
+    @Query("SELECT p.barcode FROM ProductEntity p WHERE p.barcode IN :barcodes")
+    Set<String> findExistingBarcodes(@Param("barcodes") Collection<String> barcodes);
+
+    @Query("SELECT p.id FROM ProductEntity p JOIN p.categories c WHERE c.id = :categoryId")
+    List<Long> findIdsByCategoryId(@Param("categoryId") Integer categoryId);
+
 
 
 }
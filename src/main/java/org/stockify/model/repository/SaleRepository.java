@@ -2,9 +2,29 @@ package org.stockify.model.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.stockify.dto.response.OfflineSaleResult;
 import org.stockify.model.entity.SaleEntity;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface SaleRepository extends JpaRepository<SaleEntity,Long>, JpaSpecificationExecutor<SaleEntity> {
+
+    /**
+     * Finds the offline sales already synced among the given till-generated IDs.
+     *
+     * @param clientSaleIds the IDs generated by the tills
+     * @return a DUPLICATE result for each sale already synced
+     */
+    @Query("""
+    SELECT new org.stockify.dto.response.OfflineSaleResult(
+        s.clientSaleId, org.stockify.model.enums.OfflineSaleStatus.DUPLICATE, s.id, s.transaction.id, 'Already synced')
+    FROM SaleEntity s
+    WHERE s.clientSaleId IN :clientSaleIds
+    """)
+    List<OfflineSaleResult> findSyncedByClientSaleIds(@Param("clientSaleIds") Collection<String> clientSaleIds);
 }
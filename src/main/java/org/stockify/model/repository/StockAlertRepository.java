@@ -0,0 +1,39 @@
+package org.stockify.model.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.stockify.model.entity.StockAlertEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StockAlertRepository extends JpaRepository<StockAlertEntity, Long> {
+
+    /**
+     * Locks the oldest pending alerts that are due for a send attempt.
+     * Rows locked by another dispatcher are skipped, so several dispatchers never send the same alert.
+     *
+     * @param now         the current time
+     * @param maxAttempts alerts with this many failed attempts are given up
+     * @param pageable    the maximum number of alerts to lock
+     * @return the locked alerts, oldest first
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+    SELECT a FROM StockAlertEntity a
+    WHERE a.sentAt IS NULL AND a.attempts < :maxAttempts AND a.nextAttemptAt <= :now
+    ORDER BY a.id
+    """)
+    List<StockAlertEntity> findDueForUpdate(@Param("now") LocalDateTime now,
+                                            @Param("maxAttempts") int maxAttempts,
+                                            Pageable pageable);
+}
@@ -0,0 +1,38 @@
+package org.stockify.model.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.stockify.model.entity.StockMovementEntity;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface StockMovementRepository extends JpaRepository<StockMovementEntity, Long> {
+
+    Page<StockMovementEntity> findByStoreIdAndProductIdAndRecordedAtBetween(Long storeId, Long productId,
+                                                                           LocalDateTime from, LocalDateTime to,
+                                                                           Pageable pageable);
+
+    /**
+     * Sums the movements of a product in a store recorded in a period.
+     *
+     * @param storeId   the store ID
+     * @param productId the product ID
+     * @param after     start of the period, exclusive
+     * @param until     end of the period, inclusive
+     * @return the net change of the quantity, 0 if there are no movements
+     */
+    @Query("""
+    SELECT COALESCE(SUM(m.quantity), 0) FROM StockMovementEntity m
+    WHERE m.storeId = :storeId AND m.productId = :productId
+      AND m.recordedAt > :after AND m.recordedAt <= :until
+    """)
+    Double sumQuantity(@Param("storeId") Long storeId,
+                       @Param("productId") Long productId,
+                       @Param("after") LocalDateTime after,
+                       @Param("until") LocalDateTime until);
+}
@@ -1,8 +1,16 @@
 package org.stockify.model.repository;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.stockify.model.entity.StockEntity;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +20,91 @@ public interface StockRepository extends JpaRepository<StockEntity,Long>, JpaSpe
     Optional<StockEntity> findByProductIdAndStoreId(Long productId, Long storeId);
 
     void deleteByProductIdAndStoreId(Long productId, Long storeId);
+
+    /**
+     * Loads and locks the stock rows of several products in one store with a single query.
+     * Rows are returned ordered by product ID so concurrent baskets always lock in the same order.
+     *
+     * @param storeId    the store ID
+     * @param productIds the product IDs to load
+     * @return the locked stock rows that exist for the given products
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+    SELECT s FROM StockEntity s
+    JOIN FETCH s.product p
+    JOIN FETCH s.store st
+    WHERE st.id = :storeId AND p.id IN :productIds
+    ORDER BY p.id
+    """)
+    List<StockEntity> findAllByStoreIdAndProductIdsForUpdate(@Param("storeId") Long storeId,
+                                                            @Param("productIds") Collection<Long> productIds);
+
+    /**
+     * Atomically decreases the quantity of a stock row, only if enough stock is available.
+     *
+     * @param productId the product ID
+     * @param storeId   the store ID
+     * @param quantity  the quantity to subtract
+     * @return the number of updated rows, 0 if the stock doesn't exist or isn't enough
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+    UPDATE StockEntity s
+    SET s.quantity = s.quantity - :quantity, s.version = s.version + 1
+    WHERE s.product.id = :productId AND s.store.id = :storeId AND s.quantity >= :quantity
+    """)
+    int decreaseQuantity(@Param("productId") Long productId,
+                         @Param("storeId") Long storeId,
+                         @Param("quantity") Double quantity);
+
+    /**
+     * Atomically increases the quantity of a stock row and resets the low stock flag
+     * when the new quantity surpasses the alert threshold.
+     *
+     * @param productId the product ID
+     * @param storeId   the store ID
+     * @param quantity  the quantity to add
+     * @param threshold the low stock alert threshold
+     * @return the number of updated rows, 0 if the stock doesn't exist
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+    UPDATE StockEntity s
+    SET s.quantity = s.quantity + :quantity,
+        s.lowStockAlertSent = CASE WHEN s.quantity + :quantity > :threshold THEN false ELSE s.lowStockAlertSent END,
+        s.version = s.version + 1
+    WHERE s.product.id = :productId AND s.store.id = :storeId
+    """)
+    int increaseQuantity(@Param("productId") Long productId,
+                         @Param("storeId") Long storeId,
+                         @Param("quantity") Double quantity,
+                         @Param("threshold") Double threshold);
+
+    /**
+     * Flags a stock row as alerted, only if no alert was sent yet.
+     * Lets exactly one of several concurrent sales send the low stock email.
+     *
+     * @param productId the product ID
+     * @param storeId   the store ID
+     * @return 1 if the caller claimed the alert, 0 otherwise
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+    UPDATE StockEntity s
+    SET s.lowStockAlertSent = true, s.version = s.version + 1
+    WHERE s.product.id = :productId AND s.store.id = :storeId AND s.lowStockAlertSent = false
+    """)
+    int markLowStockAlertSent(@Param("productId") Long productId, @Param("storeId") Long storeId);
+
+    /**
+     * Reads the current quantity straight from the database, bypassing any stale managed entity.
+     *
+     * @param productId the product ID
+     * @param storeId   the store ID
+     * @return the current quantity, if the stock exists
+     */
+    @Query("SELECT s.quantity FROM StockEntity s WHERE s.product.id = :productId AND s.store.id = :storeId")
+    Optional<Double> findQuantityByProductIdAndStoreId(@Param("productId") Long productId,
+                                                       @Param("storeId") Long storeId);
 }
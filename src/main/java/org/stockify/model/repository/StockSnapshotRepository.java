@@ -0,0 +1,15 @@
+package org.stockify.model.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import org.stockify.model.entity.StockSnapshotEntity;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface StockSnapshotRepository extends JpaRepository<StockSnapshotEntity, Long> {
+
+    Optional<StockSnapshotEntity> findFirstByStoreIdAndProductIdAndAsOfLessThanEqualOrderByAsOfDesc(
+            Long storeId, Long productId, LocalDateTime asOf);
+}
@@ -2,11 +2,17 @@ package org.stockify.model.service;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
 import org.hibernate.envers.AuditReader;
 import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.DefaultRevisionEntity;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.query.AuditQuery;
+import org.hibernate.envers.query.criteria.AuditCriterion;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.stockify.dto.request.audit.PurchaseAuditDTO;
 import org.stockify.dto.request.audit.SaleAuditDTO;
@@ -14,25 +20,31 @@ import org.stockify.dto.request.audit.TransactionAuditDTO;
 import org.stockify.dto.request.audit.filter.PurchaseAuditFilterRequest;
 import org.stockify.dto.request.audit.filter.SaleAuditFilterRequest;
 import org.stockify.dto.request.audit.filter.TransactionAuditFilterRequest;
-import org.stockify.model.entity.DetailTransactionEntity;
 import org.stockify.model.entity.PurchaseEntity;
 import org.stockify.model.entity.SaleEntity;
 import org.stockify.model.entity.TransactionEntity;
+import org.stockify.model.exception.TypeNotAcceptedException;
 import org.stockify.model.mapper.TransactionMapper;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Service responsible for retrieving audit revisions of Purchase, Sale,
  * and Transaction entities using Hibernate Envers.
  * <p>
- * It fetches all revisions of these entities, loads related transaction details
- * where applicable, and maps the results into audit DTOs for external use.
+ * Filters and paging are pushed into a single Envers revisions query per page,
+ * transaction details of the page are loaded with one batched query,
+ * and the results are mapped into audit DTOs for external use.
  */
 @Service
+@Transactional
 public class AuditService {
 
     @PersistenceContext
@@ -50,69 +62,50 @@ public class AuditService {
     }
 
     /**
-     * Retrieves all audit revisions for Purchase entities.
+     * Retrieves a page of audit revisions for Purchase entities.
      * <p>
-     * For each Purchase entity, this method fetches all its audit revisions,
-     * loads associated transaction details manually if present,
-     * and converts the data into a list of PurchaseAuditDTOs.
+     * Revisions are filtered and paged in the database; the transactions of the page,
+     * with their details, are loaded in a single query.
      *
-     * @return List of PurchaseAuditDTO containing revision data and transaction details.
+     * @param pageable pagination information
+     * @param filter   filter criteria for the revisions
+     * @return Page of PurchaseAuditDTO containing revision data and transaction details.
      */
     public Page<PurchaseAuditDTO> getAllPurchaseAudits(Pageable pageable, PurchaseAuditFilterRequest filter) {
-        AuditReader auditReader = AuditReaderFactory.get(entityManager);
-        List<PurchaseEntity> purchases = entityManager.createQuery("SELECT p FROM PurchaseEntity p", PurchaseEntity.class).getResultList();
-        List<PurchaseAuditDTO> auditList = new ArrayList<>();
-
-        for (PurchaseEntity purchase : purchases) {
-            List<Number> revisions = auditReader.getRevisions(PurchaseEntity.class, purchase.getId());
-            for (Number rev : revisions) {
-                PurchaseEntity auditedPurchase = auditReader.find(PurchaseEntity.class, purchase.getId(), rev);
-
-                // Determine a revision type: "ADD" for the first revision, else "MOD"
-                String revisionTypeStr = rev.equals(revisions.getFirst()) ? "ADD" : "MOD";
-
-                TransactionEntity transaction = auditedPurchase.getTransaction();
-
-                // Load transaction details manually if transaction exists
-                if (transaction != null) {
-                    List<DetailTransactionEntity> details = entityManager.createQuery(
-                                    "SELECT d FROM DetailTransactionEntity d WHERE d.transaction.id = :txId",
-                                    DetailTransactionEntity.class)
-                            .setParameter("txId", transaction.getId())
-                            .getResultList();
-
-                    transaction.setDetailTransactions(new HashSet<>(details));
-                }
-
-                PurchaseAuditDTO auditDTO = PurchaseAuditDTO.builder()
-                        .revision(rev.longValue())
-                        .revisionType(revisionTypeStr)
-                        .id(auditedPurchase.getId())
-                        .transaction(transactionMapper.toDto(transaction))
-                        .build();
-
-                auditList.add(auditDTO);
-            }
+        List<AuditCriterion> criteria = new ArrayList<>();
+        addRevisionCriteria(criteria, filter.getRevision(), filter.getRevisionType());
+        if (filter.getPurchaseId() != null) {
+            criteria.add(AuditEntity.id().eq(filter.getPurchaseId()));
         }
-
-        // Apply filters
-        List<PurchaseAuditDTO> filteredList = auditList.stream()
-            .filter(audit -> filter.getRevision() == null || audit.getRevision().equals(filter.getRevision()))
-            .filter(audit -> filter.getRevisionType() == null || audit.getRevisionType().equals(filter.getRevisionType()))
-            .filter(audit -> filter.getPurchaseId() == null || audit.getId().equals(filter.getPurchaseId()))
-            .filter(audit -> filter.getTransactionId() == null ||
-                    (audit.getTransaction() != null && audit.getTransaction().getId().equals(filter.getTransactionId())))
-            .collect(Collectors.toList());
-
-        // Apply pagination
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), filteredList.size());
-
-        if (start > filteredList.size()) {
-            return new PageImpl<>(new ArrayList<>(), pageable, filteredList.size());
+        if (filter.getTransactionId() != null) {
+            criteria.add(AuditEntity.relatedId("transaction").eq(filter.getTransactionId()));
+        }
+        if (filter.getProviderId() != null) {
+            criteria.add(AuditEntity.relatedId("provider").eq(filter.getProviderId()));
         }
 
-        return new PageImpl<>(filteredList.subList(start, end), pageable, filteredList.size());
+        List<Object[]> rows = findRevisions(PurchaseEntity.class, criteria, pageable);
+        Map<Long, TransactionEntity> transactions = loadTransactions(rows.stream()
+                .map(row -> ((PurchaseEntity) row[0]).getTransaction())
+                .filter(Objects::nonNull)
+                .map(TransactionEntity::getId)
+                .collect(Collectors.toSet()));
+
+        List<PurchaseAuditDTO> content = rows.stream()
+                .map(row -> {
+                    PurchaseEntity auditedPurchase = (PurchaseEntity) row[0];
+                    TransactionEntity transaction = auditedPurchase.getTransaction() != null
+                            ? transactions.get(auditedPurchase.getTransaction().getId()) : null;
+                    return PurchaseAuditDTO.builder()
+                            .revision(revisionNumber(row))
+                            .revisionType(revisionType(row))
+                            .id(auditedPurchase.getId())
+                            .transaction(transaction != null ? transactionMapper.toDto(transaction) : null)
+                            .build();
+                })
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> countRevisions(PurchaseEntity.class, criteria));
     }
 
     /**
@@ -127,72 +120,51 @@ public class AuditService {
     }
 
     /**
-     * Retrieves all audit revisions for Sale entities.
+     * Retrieves a page of audit revisions for Sale entities.
      * <p>
-     * For each Sale entity, this method fetches all its audit revisions,
-     * loads associated transaction details manually if present,
-     * and converts the data into a list of SaleAuditDTOs including client information.
+     * Revisions are filtered and paged in the database; the transactions of the page,
+     * with their details, are loaded in a single query.
      *
-     * @return List of SaleAuditDTO containing revision data, transaction details, and client ID.
+     * @param pageable pagination information
+     * @param filter   filter criteria for the revisions
+     * @return Page of SaleAuditDTO containing revision data, transaction details, and client ID.
      */
     public Page<SaleAuditDTO> getAllSaleAudits(Pageable pageable, SaleAuditFilterRequest filter) {
-        AuditReader auditReader = AuditReaderFactory.get(entityManager);
-        List<SaleEntity> sales = entityManager.createQuery("SELECT s FROM SaleEntity s", SaleEntity.class).getResultList();
-        List<SaleAuditDTO> auditList = new ArrayList<>();
-
-        for (SaleEntity sale : sales) {
-            List<Number> revisions = auditReader.getRevisions(SaleEntity.class, sale.getId());
-            for (Number rev : revisions) {
-                SaleEntity auditedSale = auditReader.find(SaleEntity.class, sale.getId(), rev);
-
-                // Determine a revision type: "ADD" for the first revision, else "MOD"
-                String revisionTypeStr = rev.equals(revisions.getFirst()) ? "ADD" : "MOD";
-
-                TransactionEntity transaction = auditedSale.getTransaction();
-
-                // Load transaction details manually if transaction exists
-                if (transaction != null) {
-                    List<DetailTransactionEntity> details = entityManager.createQuery(
-                                    "SELECT d FROM DetailTransactionEntity d WHERE d.transaction.id = :txId",
-                                    DetailTransactionEntity.class)
-                            .setParameter("txId", transaction.getId())
-                            .getResultList();
-
-                    transaction.setDetailTransactions(new HashSet<>(details));
-                }
-
-                SaleAuditDTO auditDTO = SaleAuditDTO.builder()
-                        .revision(rev.longValue())
-                        .revisionType(revisionTypeStr)
-                        .id(auditedSale.getId())
-                        .transaction(transactionMapper.toDto(transaction))
-                        .clientId(auditedSale.getClient() != null ? auditedSale.getClient().getId() : null)
-                        .build();
-
-                auditList.add(auditDTO);
-            }
+        List<AuditCriterion> criteria = new ArrayList<>();
+        addRevisionCriteria(criteria, filter.getRevision(), filter.getRevisionType());
+        if (filter.getSaleId() != null) {
+            criteria.add(AuditEntity.id().eq(filter.getSaleId()));
         }
-
-        // Apply filters
-        List<SaleAuditDTO> filteredList = auditList.stream()
-            .filter(audit -> filter.getRevision() == null || audit.getRevision().equals(filter.getRevision()))
-            .filter(audit -> filter.getRevisionType() == null || audit.getRevisionType().equals(filter.getRevisionType()))
-            .filter(audit -> filter.getSaleId() == null || audit.getId().equals(filter.getSaleId()))
-            .filter(audit -> filter.getTransactionId() == null ||
-                    (audit.getTransaction() != null && audit.getTransaction().getId().equals(filter.getTransactionId())))
-            .filter(audit -> filter.getClientId() == null ||
-                    (audit.getClientId() != null && audit.getClientId().equals(filter.getClientId())))
-            .collect(Collectors.toList());
-
-        // Apply pagination
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), filteredList.size());
-
-        if (start > filteredList.size()) {
-            return new PageImpl<>(new ArrayList<>(), pageable, filteredList.size());
+        if (filter.getTransactionId() != null) {
+            criteria.add(AuditEntity.relatedId("transaction").eq(filter.getTransactionId()));
+        }
+        if (filter.getClientId() != null) {
+            criteria.add(AuditEntity.relatedId("client").eq(filter.getClientId()));
         }
 
-        return new PageImpl<>(filteredList.subList(start, end), pageable, filteredList.size());
+        List<Object[]> rows = findRevisions(SaleEntity.class, criteria, pageable);
+        Map<Long, TransactionEntity> transactions = loadTransactions(rows.stream()
+                .map(row -> ((SaleEntity) row[0]).getTransaction())
+                .filter(Objects::nonNull)
+                .map(TransactionEntity::getId)
+                .collect(Collectors.toSet()));
+
+        List<SaleAuditDTO> content = rows.stream()
+                .map(row -> {
+                    SaleEntity auditedSale = (SaleEntity) row[0];
+                    TransactionEntity transaction = auditedSale.getTransaction() != null
+                            ? transactions.get(auditedSale.getTransaction().getId()) : null;
+                    return SaleAuditDTO.builder()
+                            .revision(revisionNumber(row))
+                            .revisionType(revisionType(row))
+                            .id(auditedSale.getId())
+                            .transaction(transaction != null ? transactionMapper.toDto(transaction) : null)
+                            .clientId(auditedSale.getClient() != null ? auditedSale.getClient().getId() : null)
+                            .build();
+                })
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> countRevisions(SaleEntity.class, criteria));
     }
 
     /**
@@ -207,66 +179,58 @@ public class AuditService {
     }
 
     /**
-     * Retrieves all audit revisions for Transaction entities.
+     * Retrieves a page of audit revisions for Transaction entities.
      * <p>
-     * For each Transaction entity, this method fetches all its audit revisions
-     * and converts them into a list of TransactionAuditDTOs containing
-     * revision metadata and key transaction properties.
+     * Every filter is applied by the revisions query itself, so only the requested page is read.
      *
-     * @return List of TransactionAuditDTO containing transaction audit information.
+     * @param pageable pagination information
+     * @param filter   filter criteria for the revisions
+     * @return Page of TransactionAuditDTO containing transaction audit information.
      */
     public Page<TransactionAuditDTO> getAllTransactionAudits(Pageable pageable, TransactionAuditFilterRequest filter) {
-        AuditReader auditReader = AuditReaderFactory.get(entityManager);
-        List<TransactionEntity> transactions = entityManager.createQuery("SELECT t FROM TransactionEntity t", TransactionEntity.class).getResultList();
-        List<TransactionAuditDTO> auditList = new ArrayList<>();
-
-        for (TransactionEntity transaction : transactions) {
-            List<Number> revisions = auditReader.getRevisions(TransactionEntity.class, transaction.getId());
-            for (Number rev : revisions) {
-                TransactionEntity auditedTransaction = auditReader.find(TransactionEntity.class, transaction.getId(), rev);
-
-                // Determine a revision type: "ADD" for the first revision, else "MOD"
-                String revisionTypeStr = rev.equals(revisions.getFirst()) ? "ADD" : "MOD";
-
-                TransactionAuditDTO auditDTO = TransactionAuditDTO.builder()
-                        .revision(rev.longValue())
-                        .revisionType(revisionTypeStr)
-                        .id(auditedTransaction.getId())
-                        .total(auditedTransaction.getTotal())
-                        .dateTime(auditedTransaction.getDateTime())
-                        .paymentMethod(auditedTransaction.getPaymentMethod())
-                        .description(auditedTransaction.getDescription())
-                        .type(auditedTransaction.getType())
-                        .storeId(auditedTransaction.getStore() != null ? auditedTransaction.getStore().getId() : null)
-                        .sessionPosId(auditedTransaction.getSessionPosEntity() != null ? auditedTransaction.getSessionPosEntity().getId() : null)
-                        .build();
-
-                auditList.add(auditDTO);
-            }
+        List<AuditCriterion> criteria = new ArrayList<>();
+        addRevisionCriteria(criteria, filter.getRevision(), filter.getRevisionType());
+        if (filter.getTransactionId() != null) {
+            criteria.add(AuditEntity.id().eq(filter.getTransactionId()));
         }
-
-        // Apply filters
-        List<TransactionAuditDTO> filteredList = auditList.stream()
-            .filter(audit -> filter.getRevision() == null || audit.getRevision().equals(filter.getRevision()))
-            .filter(audit -> filter.getRevisionType() == null || audit.getRevisionType().equals(filter.getRevisionType()))
-            .filter(audit -> filter.getTransactionId() == null || audit.getId().equals(filter.getTransactionId()))
-            .filter(audit -> filter.getPaymentMethod() == null || audit.getPaymentMethod() == filter.getPaymentMethod())
-            .filter(audit -> filter.getType() == null || audit.getType() == filter.getType())
-            .filter(audit -> filter.getStoreId() == null || (audit.getStoreId() != null && audit.getStoreId().equals(filter.getStoreId())))
-            .filter(audit -> filter.getSessionPosId() == null || (audit.getSessionPosId() != null && audit.getSessionPosId().equals(filter.getSessionPosId())))
-            .filter(audit -> filter.getFromDate() == null || (audit.getDateTime() != null && !audit.getDateTime().isBefore(filter.getFromDate())))
-            .filter(audit -> filter.getToDate() == null || (audit.getDateTime() != null && !audit.getDateTime().isAfter(filter.getToDate())))
-            .collect(Collectors.toList());
-
-        // Apply pagination
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), filteredList.size());
-
-        if (start > filteredList.size()) {
-            return new PageImpl<>(new ArrayList<>(), pageable, filteredList.size());
+        if (filter.getPaymentMethod() != null) {
+            criteria.add(AuditEntity.property("paymentMethod").eq(filter.getPaymentMethod()));
+        }
+        if (filter.getType() != null) {
+            criteria.add(AuditEntity.property("type").eq(filter.getType()));
+        }
+        if (filter.getStoreId() != null) {
+            criteria.add(AuditEntity.relatedId("store").eq(filter.getStoreId()));
+        }
+        if (filter.getSessionPosId() != null) {
+            criteria.add(AuditEntity.relatedId("sessionPosEntity").eq(filter.getSessionPosId()));
+        }
+        if (filter.getFromDate() != null) {
+            criteria.add(AuditEntity.property("dateTime").ge(filter.getFromDate()));
+        }
+        if (filter.getToDate() != null) {
+            criteria.add(AuditEntity.property("dateTime").le(filter.getToDate()));
         }
 
-        return new PageImpl<>(filteredList.subList(start, end), pageable, filteredList.size());
+        List<TransactionAuditDTO> content = findRevisions(TransactionEntity.class, criteria, pageable).stream()
+                .map(row -> {
+                    TransactionEntity auditedTransaction = (TransactionEntity) row[0];
+                    return TransactionAuditDTO.builder()
+                            .revision(revisionNumber(row))
+                            .revisionType(revisionType(row))
+                            .id(auditedTransaction.getId())
+                            .total(auditedTransaction.getTotal())
+                            .dateTime(auditedTransaction.getDateTime())
+                            .paymentMethod(auditedTransaction.getPaymentMethod())
+                            .description(auditedTransaction.getDescription())
+                            .type(auditedTransaction.getType())
+                            .storeId(auditedTransaction.getStore() != null ? auditedTransaction.getStore().getId() : null)
+                            .sessionPosId(auditedTransaction.getSessionPosEntity() != null ? auditedTransaction.getSessionPosEntity().getId() : null)
+                            .build();
+                })
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> countRevisions(TransactionEntity.class, criteria));
     }
 
     /**
@@ -279,4 +243,107 @@ public class AuditService {
     public List<TransactionAuditDTO> getAllTransactionAudits() {
         return getAllTransactionAudits(Pageable.unpaged(), new TransactionAuditFilterRequest()).getContent();
     }
+
+    /**
+     * Adds the revision number and revision type filters shared by every audit endpoint.
+     *
+     * @param criteria     the criteria list to extend
+     * @param revision     the revision number, or null
+     * @param revisionType the revision type (ADD, MOD or DEL), or null
+     * @throws TypeNotAcceptedException if the revision type is not valid
+     */
+    private void addRevisionCriteria(List<AuditCriterion> criteria, Long revision, String revisionType) {
+        if (revision != null) {
+            criteria.add(AuditEntity.revisionNumber().eq(revision.intValue()));
+        }
+        if (revisionType != null) {
+            try {
+                criteria.add(AuditEntity.revisionType().eq(RevisionType.valueOf(revisionType.toUpperCase(Locale.ROOT))));
+            } catch (IllegalArgumentException e) {
+                throw new TypeNotAcceptedException("Revision type must be one of ADD, MOD or DEL.");
+            }
+        }
+    }
+
+    /**
+     * Runs one revisions query for an entity, returning only the requested page.
+     * Each row holds the audited entity, its revision entity and the revision type.
+     *
+     * @param entityClass the audited entity class
+     * @param criteria    the filters to apply
+     * @param pageable    pagination information
+     * @return the rows of the page, ordered by entity ID and revision
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object[]> findRevisions(Class<?> entityClass, List<AuditCriterion> criteria, Pageable pageable) {
+        AuditQuery query = revisionsQuery(entityClass, criteria)
+                .addOrder(AuditEntity.id().asc())
+                .addOrder(AuditEntity.revisionNumber().asc());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize());
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * Counts the revisions of an entity matching the filters.
+     *
+     * @param entityClass the audited entity class
+     * @param criteria    the filters to apply
+     * @return the total number of matching revisions
+     */
+    private long countRevisions(Class<?> entityClass, List<AuditCriterion> criteria) {
+        return ((Number) revisionsQuery(entityClass, criteria)
+                .addProjection(AuditEntity.revisionNumber().count())
+                .getSingleResult()).longValue();
+    }
+
+    /**
+     * Builds a revisions query, deletions included, with the given filters.
+     *
+     * @param entityClass the audited entity class
+     * @param criteria    the filters to apply
+     * @return the audit query
+     */
+    private AuditQuery revisionsQuery(Class<?> entityClass, List<AuditCriterion> criteria) {
+        AuditReader auditReader = AuditReaderFactory.get(entityManager);
+        AuditQuery query = auditReader.createQuery().forRevisionsOfEntity(entityClass, false, true);
+        criteria.forEach(query::add);
+        return query;
+    }
+
+    /**
+     * Loads the transactions of an audit page with their details, store and POS session in one query.
+     *
+     * @param ids the transaction IDs
+     * @return transactions by ID
+     */
+    private Map<Long, TransactionEntity> loadTransactions(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return entityManager.createQuery("""
+                        SELECT DISTINCT t FROM TransactionEntity t
+                        LEFT JOIN FETCH t.detailTransactions d
+                        LEFT JOIN FETCH d.product
+                        LEFT JOIN FETCH t.store
+                        LEFT JOIN FETCH t.sessionPosEntity s
+                        LEFT JOIN FETCH s.posEntity
+                        LEFT JOIN FETCH s.employee
+                        WHERE t.id IN :ids
+                        """, TransactionEntity.class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .stream()
+                .collect(Collectors.toMap(TransactionEntity::getId, Function.identity()));
+    }
+
+    private Long revisionNumber(Object[] row) {
+        return (long) ((DefaultRevisionEntity) row[1]).getId();
+    }
+
+    private String revisionType(Object[] row) {
+        return ((RevisionType) row[2]).name();
+    }
 }
@@ -0,0 +1,352 @@
+package org.stockify.model.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.stockify.model.enums.InvalidatedCache;
+import org.stockify.model.event.CacheInvalidatedEvent;
+import org.stockify.model.event.ProductsChangedEvent;
+import org.stockify.model.event.StockChangedEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cluster-wide invalidation of the in-process caches over PostgreSQL {@code LISTEN/NOTIFY}.
+ * <p>
+ * Changes are queued once their transaction commits, coalesced per cache, and sent as {@code NOTIFY} notices
+ * every flush interval, so a write burst costs a few notices instead of one per row. Notices are sent from a
+ * dedicated thread, so the short flush interval does not compete with the scheduled jobs for the scheduler thread. A cache with too many
+ * changed keys is sent as a single flush of the whole cache. Every node listens on a dedicated connection and
+ * republishes the notices of the other nodes as {@link CacheInvalidatedEvent}. Notices sent while a node is not
+ * listening are lost, so each time the listener reconnects it flushes every local cache.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheInvalidationBus {
+
+    /**
+     * Key queued to flush a whole cache
+     */
+    private static final String ALL_KEYS = "*";
+
+    /**
+     * Payload budget per notice, below the 8000-byte limit of PostgreSQL
+     */
+    private static final int MAX_PAYLOAD_BYTES = 7000;
+
+    private final ObjectMapper objectMapper;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<InvalidatedCache, Set<String>> pending = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private Thread listener;
+    private ScheduledExecutorService flusher;
+
+    @Value("${cache-invalidation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache-invalidation.channel:stockify_cache_invalidation}")
+    private String channel;
+
+    @Value("${cache-invalidation.flush-interval-ms:100}")
+    private long flushIntervalMs;
+
+    @Value("${cache-invalidation.max-keys-per-notice:500}")
+    private int maxKeysPerNotice;
+
+    @Value("${cache-invalidation.poll-timeout-ms:5000}")
+    private int pollTimeoutMs;
+
+    @Value("${cache-invalidation.reconnect-delay-ms:5000}")
+    private long reconnectDelayMs;
+
+    /**
+     * Notifies the other nodes that entries of a cache changed, once the current transaction (if any) commits.
+     *
+     * @param cache the cache holding the changed entries
+     * @param keys  the keys of the changed entries
+     */
+    public void publish(InvalidatedCache cache, Collection<String> keys) {
+        if (!enabled || keys.isEmpty()) {
+            return;
+        }
+        List<String> changed = List.copyOf(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(cache, changed);
+                }
+            });
+        } else {
+            enqueue(cache, changed);
+        }
+    }
+
+    /**
+     * Notifies the other nodes that every entry of a cache changed, once the current transaction (if any) commits.
+     *
+     * @param cache the cache to flush
+     */
+    public void publishAll(InvalidatedCache cache) {
+        publish(cache, List.of(ALL_KEYS));
+    }
+
+    /**
+     * Queues changed products once their transaction has committed.
+     *
+     * @param event the products changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        if (enabled && !event.productIds().isEmpty()) {
+            enqueue(InvalidatedCache.PRODUCTS, event.productIds().stream().map(String::valueOf).toList());
+        }
+    }
+
+    /**
+     * Queues changed stock rows, keyed {@code storeId:productId}, once their transaction has committed.
+     *
+     * @param event the stock changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        if (enabled && !event.productIds().isEmpty()) {
+            enqueue(InvalidatedCache.STOCK, event.productIds().stream()
+                    .map(productId -> event.storeId() + ":" + productId)
+                    .toList());
+        }
+    }
+
+    /**
+     * Sends the queued changes, one notice per cache unless the keys exceed the payload limit.
+     * Runs every flush interval on the flusher thread.
+     */
+    public void flush() {
+        for (InvalidatedCache cache : InvalidatedCache.values()) {
+            Set<String> keys = pending.remove(cache);
+            if (keys == null) {
+                continue;
+            }
+            try {
+                if (keys.contains(ALL_KEYS) || keys.size() > maxKeysPerNotice) {
+                    send(new Notice(nodeId, cache, true, List.of()));
+                } else {
+                    for (List<String> chunk : chunks(keys)) {
+                        send(new Notice(nodeId, cache, false, chunk));
+                    }
+                }
+            } catch (RuntimeException ex) {
+                logger.warn("Could not send the invalidation of cache {}: {}", cache, ex.getMessage());
+                pending.compute(cache, (c, queued) -> merge(queued, keys));
+            }
+        }
+    }
+
+    /**
+     * Starts the flusher and listener threads once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalStateException("Invalid cache invalidation channel: " + channel);
+        }
+        running = true;
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-invalidation-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        listener = new Thread(this::listen, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    /**
+     * Stops the listener thread, and the flusher once it has sent the changes still queued.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                if (flusher.awaitTermination(flushIntervalMs * 10, TimeUnit.MILLISECONDS)) {
+                    flush();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException ex) {
+                logger.warn("Could not send the last cache invalidations: {}", ex.getMessage());
+            }
+        }
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    // --- Auxiliary methods ---
+
+    /**
+     * Flushes without letting an error cancel the next runs of the flusher.
+     */
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            logger.warn("Could not flush the cache invalidations: {}", ex.getMessage());
+        }
+    }
+
+    private void enqueue(InvalidatedCache cache, Collection<String> keys) {
+        pending.compute(cache, (c, queued) -> merge(queued, keys));
+    }
+
+    private Set<String> merge(Set<String> queued, Collection<String> keys) {
+        Set<String> merged = queued != null ? queued : new HashSet<>();
+        merged.addAll(keys);
+        return merged;
+    }
+
+    private List<List<String>> chunks(Set<String> keys) {
+        List<List<String>> chunks = new ArrayList<>();
+        List<String> chunk = new ArrayList<>();
+        int bytes = 0;
+        for (String key : keys) {
+            int size = key.getBytes(StandardCharsets.UTF_8).length + 3;
+            if (!chunk.isEmpty() && bytes + size > MAX_PAYLOAD_BYTES) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                bytes = 0;
+            }
+            chunk.add(key);
+            bytes += size;
+        }
+        chunks.add(chunk);
+        return chunks;
+    }
+
+    private void send(Notice notice) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(notice);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize the cache invalidation notice", ex);
+        }
+        jdbcTemplate.query("SELECT pg_notify(:channel, :payload)",
+                new MapSqlParameterSource("channel", channel).addValue("payload", payload),
+                rs -> {
+                });
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                logger.info("Listening for cache invalidations on channel {}", channel);
+                if (reconnecting) {
+                    // Notices sent while this node was disconnected are lost
+                    flushLocalCaches();
+                }
+                reconnecting = true;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null || notifications.length == 0) {
+                        if (!connection.isValid(pollTimeoutMs / 1000 + 1)) {
+                            throw new SQLException("Listener connection is no longer valid");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        receive(notification.getParameter());
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Cache invalidation listener disconnected, reconnecting in {} ms: {}",
+                        reconnectDelayMs, ex.getMessage());
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        try {
+            Notice notice = objectMapper.readValue(payload, Notice.class);
+            if (!nodeId.equals(notice.node())) {
+                eventPublisher.publishEvent(new CacheInvalidatedEvent(notice.cache(),
+                        Set.copyOf(notice.keys()), notice.all()));
+            }
+        } catch (Exception ex) {
+            logger.warn("Could not apply the cache invalidation notice {}: {}", payload, ex.getMessage());
+        }
+    }
+
+    private void flushLocalCaches() {
+        for (InvalidatedCache cache : InvalidatedCache.values()) {
+            try {
+                eventPublisher.publishEvent(new CacheInvalidatedEvent(cache, Set.of(), true));
+            } catch (RuntimeException ex) {
+                logger.warn("Could not flush the local cache {}: {}", cache, ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Payload of a notice.
+     *
+     * @param node  the node that made the change, which ignores its own notices
+     * @param cache the cache holding the changed entries
+     * @param all   whether the whole cache changed
+     * @param keys  the keys of the changed entries
+     */
+    record Notice(String node, InvalidatedCache cache, boolean all, List<String> keys) {
+    }
+}
@@ -0,0 +1,190 @@
+package org.stockify.model.service;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.stockify.dto.response.CashBalanceResponse;
+import org.stockify.dto.response.CashMovementResponse;
+import org.stockify.model.entity.CashMovementEntity;
+import org.stockify.model.entity.SessionPosEntity;
+import org.stockify.model.entity.TransactionEntity;
+import org.stockify.model.enums.CashMovementType;
+import org.stockify.model.enums.PaymentMethod;
+import org.stockify.model.exception.InvalidSessionStatusException;
+import org.stockify.model.exception.NotFoundException;
+import org.stockify.model.repository.CashMovementRepository;
+import org.stockify.model.repository.PosRepository;
+import org.stockify.model.repository.SessionPosRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Append-only cash ledger of POS sessions.
+ * <p>
+ * Every change to the cash in a drawer is recorded as a movement of its session: the opening float,
+ * cash received by sales, cash paid out by purchases and manual adjustments.
+ * The running balance on the POS is updated with a single atomic SQL statement per movement, so concurrent
+ * operations on one till never lose updates, and the balance of a session can always be reconciled
+ * with one aggregate query over its movements.
+ * </p>
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class CashLedgerService {
+
+    private final CashMovementRepository cashMovementRepository;
+    private final PosRepository posRepository;
+    private final SessionPosRepository sessionPosRepository;
+
+    /**
+     * Records the opening float of a new session. The POS balance is set by the opening itself.
+     *
+     * @param session the session being opened, already saved
+     */
+    public void recordOpeningFloat(SessionPosEntity session) {
+        append(session, CashMovementType.OPENING_FLOAT, session.getOpeningAmount(), null, "Opening float");
+    }
+
+    /**
+     * Records the cash received by a sale. Sales paid by other methods do not change the drawer.
+     *
+     * @param posId       the ID of the POS where the sale took place
+     * @param transaction the sale transaction
+     * @throws InvalidSessionStatusException if the POS was closed meanwhile
+     */
+    public void recordSale(Long posId, TransactionEntity transaction) {
+        if (transaction.getPaymentMethod() != PaymentMethod.CASH) {
+            return;
+        }
+        move(posId, transaction.getSessionPosEntity(), CashMovementType.SALE_CASH_IN,
+                transaction.getTotal(), transaction.getId(), null);
+    }
+
+    /**
+     * Records the cash received by a batch of sales with a single update of the POS balance.
+     * Sales paid by other methods do not change the drawer.
+     *
+     * @param posId        the ID of the POS where the sales took place
+     * @param transactions the sale transactions, already saved
+     * @throws InvalidSessionStatusException if the POS was closed meanwhile
+     */
+    public void recordSales(Long posId, List<TransactionEntity> transactions) {
+        List<TransactionEntity> cashSales = transactions.stream()
+                .filter(transaction -> transaction.getPaymentMethod() == PaymentMethod.CASH)
+                .toList();
+        if (cashSales.isEmpty()) {
+            return;
+        }
+
+        BigDecimal total = cashSales.stream()
+                .map(TransactionEntity::getTotal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (posRepository.addToCurrentAmount(posId, total) == 0) {
+            throw new InvalidSessionStatusException("POS with ID " + posId + " is closed.");
+        }
+        cashMovementRepository.saveAll(cashSales.stream()
+                .map(transaction -> movement(transaction.getSessionPosEntity(), CashMovementType.SALE_CASH_IN,
+                        transaction.getTotal(), transaction.getId(), null))
+                .toList());
+    }
+
+    /**
+     * Records the cash paid out by a purchase. Purchases paid by other methods do not change the drawer.
+     *
+     * @param posId       the ID of the POS paying the purchase
+     * @param transaction the purchase transaction
+     * @throws InvalidSessionStatusException if the POS is closed or does not hold enough cash
+     */
+    public void recordPurchase(Long posId, TransactionEntity transaction) {
+        if (transaction.getPaymentMethod() != PaymentMethod.CASH) {
+            return;
+        }
+        move(posId, transaction.getSessionPosEntity(), CashMovementType.PURCHASE_CASH_OUT,
+                transaction.getTotal().negate(), transaction.getId(), null);
+    }
+
+    /**
+     * Records a manual adjustment of the cash in an open POS, such as a cash drop or a float top-up.
+     *
+     * @param posId  the ID of the POS
+     * @param amount the signed amount, negative when cash is removed
+     * @param reason the reason of the adjustment
+     * @return the recorded movement
+     * @throws NotFoundException              if the POS has no open session
+     * @throws InvalidSessionStatusException if the POS is closed or does not hold enough cash
+     */
+    public CashMovementResponse adjust(Long posId, BigDecimal amount, String reason) {
+        SessionPosEntity session = sessionPosRepository.findByPosEntity_IdAndCloseTime(posId, null)
+                .orElseThrow(() -> new NotFoundException("POS with ID " + posId + " has no open session."));
+        return toResponse(move(posId, session, CashMovementType.ADJUSTMENT, amount, null, reason));
+    }
+
+    /**
+     * Computes the expected cash of a session from its ledger.
+     *
+     * @param sessionId the ID of the session
+     * @return the balance and number of movements
+     * @throws NotFoundException if the session does not exist
+     */
+    public CashBalanceResponse getBalance(Long sessionId) {
+        if (!sessionPosRepository.existsById(sessionId)) {
+            throw new NotFoundException("SessionPos with ID " + sessionId + " not found.");
+        }
+        return cashMovementRepository.getBalance(sessionId);
+    }
+
+    /**
+     * Retrieves the movements of a session.
+     *
+     * @param sessionId the ID of the session
+     * @param pageable  pagination and sorting information
+     * @return a page of movements
+     * @throws NotFoundException if the session does not exist
+     */
+    public Page<CashMovementResponse> getMovements(Long sessionId, Pageable pageable) {
+        if (!sessionPosRepository.existsById(sessionId)) {
+            throw new NotFoundException("SessionPos with ID " + sessionId + " not found.");
+        }
+        return cashMovementRepository.findBySession_Id(sessionId, pageable).map(this::toResponse);
+    }
+
+    // --- Auxiliary methods ---
+
+    private CashMovementEntity move(Long posId, SessionPosEntity session, CashMovementType type,
+                                    BigDecimal amount, Long transactionId, String description) {
+        if (posRepository.addToCurrentAmount(posId, amount) == 0) {
+            BigDecimal available = posRepository.findById(posId)
+                    .map(pos -> pos.getCurrentAmount() != null ? pos.getCurrentAmount() : BigDecimal.ZERO)
+                    .orElse(BigDecimal.ZERO);
+            throw new InvalidSessionStatusException("The POS is closed or does not hold enough cash. Available: "
+                    + available + ", Required: " + amount.negate());
+        }
+        return append(session, type, amount, transactionId, description);
+    }
+
+    private CashMovementEntity append(SessionPosEntity session, CashMovementType type, BigDecimal amount,
+                                      Long transactionId, String description) {
+        return cashMovementRepository.save(movement(session, type, amount, transactionId, description));
+    }
+
+    private CashMovementEntity movement(SessionPosEntity session, CashMovementType type, BigDecimal amount,
+                                        Long transactionId, String description) {
+        return CashMovementEntity.builder()
+                .session(session)
+                .type(type)
+                .amount(amount)
+                .transactionId(transactionId)
+                .description(description)
+                .build();
+    }
+
+    private CashMovementResponse toResponse(CashMovementEntity movement) {
+        return new CashMovementResponse(movement.getId(), movement.getSession().getId(), movement.getType(),
+                movement.getAmount(), movement.getTransactionId(), movement.getDescription(),
+                movement.getCreatedAt());
+    }
+}
@@ -1,6 +1,7 @@
 package org.stockify.model.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -8,9 +9,11 @@ import org.springframework.stereotype.Service;
 import org.stockify.dto.request.category.CategoryRequest;
 import org.stockify.dto.response.CategoryResponse;
 import org.stockify.model.entity.CategoryEntity;
+import org.stockify.model.event.ProductsChangedEvent;
 import org.stockify.model.exception.NotFoundException;
 import org.stockify.model.mapper.CategoryMapper;
 import org.stockify.model.repository.CategoryRepository;
+import org.stockify.model.repository.ProductRepository;
 import org.stockify.model.specification.CategorySpecification;
 
 /**
@@ -24,6 +27,8 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Retrieves a paginated list of categories filtered optionally by name.
@@ -80,7 +85,9 @@ public class CategoryService {
     public CategoryResponse update(int id, CategoryRequest request) {
         CategoryEntity existingCategory = findEntityById(id);
         CategoryEntity updatedEntity = categoryMapper.updateEntityFromRequest(request, existingCategory);
-        return categoryMapper.toResponse(categoryRepository.save(updatedEntity));
+        CategoryResponse response = categoryMapper.toResponse(categoryRepository.save(updatedEntity));
+        productsChanged(id);
+        return response;
     }
 
     /**
@@ -94,7 +101,18 @@ public class CategoryService {
     public CategoryResponse patch(int id, CategoryRequest request) {
         CategoryEntity existingCategory = findEntityById(id);
         categoryMapper.patchEntityFromRequest(request, existingCategory);
-        return categoryMapper.toResponse(categoryRepository.save(existingCategory));
+        CategoryResponse response = categoryMapper.toResponse(categoryRepository.save(existingCategory));
+        productsChanged(id);
+        return response;
+    }
+
+    /**
+     * Helper method to publish a change of every product in a category, since products expose category names.
+     *
+     * @param id the ID of the changed category
+     */
+    private void productsChanged(int id) {
+        eventPublisher.publishEvent(new ProductsChangedEvent(productRepository.findIdsByCategoryId(id)));
     }
 
     /**
@@ -5,12 +5,15 @@ import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 import org.stockify.config.GlobalPreferencesConfig;
-import org.stockify.model.entity.StockEntity;
+import org.stockify.model.entity.StockAlertEntity;
+
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Service responsible for sending email notifications.
  * <p>
- * Provides methods to send general emails and specific stock alert emails based on configured global preferences.
+ * Provides methods to send general emails and low-stock alert digests based on configured global preferences.
  * </p>
  */
 @RequiredArgsConstructor
@@ -34,33 +37,31 @@ public class EmailService {
     }
 
     /**
-     * Sends a low-stock alert email if the stock quantity is below the configured threshold,
-     * and an alert has not been sent previously for this stock.
+     * Sends a single email summarizing several low-stock alerts.
      * <p>
-     * This method checks global preferences to determine whether the alert should be sent.
-     * Once sent, it marks the stock entity to prevent duplicate alerts.
+     * A digest of one alert keeps the product name in the subject, as the individual alerts did.
      * </p>
      *
-     * @param stock The StockEntity containing product and current quantity information.
+     * @param alerts The queued alerts to include in the email.
      */
-    public void sendStockAlert(StockEntity stock) {
-        if (globalPreferencesConfig.shouldSendStockAlert(stock.getQuantity(), stock.isLowStockAlertSent())) {
-            String subject = "Low stock alert: " + stock.getProduct().getName();
-            String body = String.format("""
-                    Product: %s
-                    Store: %s
-                    %s
-                    Current quantity: %.2f
-                    Minimum expected: %.2f
-                    """,
-                    stock.getProduct().getName(),
-                    stock.getStore().getStoreName(),
-                    stock.getStore().getAddress(),
-                    stock.getQuantity(),
-                    globalPreferencesConfig.getStockAlertThreshold()
-            );
-            stock.setLowStockAlertSent(true);
-            sendEmail(subject, body);
-        }
+    public void sendStockAlertDigest(List<StockAlertEntity> alerts) {
+        String subject = alerts.size() == 1
+                ? "Low stock alert: " + alerts.get(0).getProductName()
+                : "Low stock alert: " + alerts.size() + " products";
+        String body = alerts.stream()
+                .map(alert -> String.format("""
+                        Product: %s
+                        Store: %s
+                        %s
+                        Current quantity: %.2f
+                        Minimum expected: %.2f
+                        """,
+                        alert.getProductName(),
+                        alert.getStoreName(),
+                        alert.getStoreAddress(),
+                        alert.getQuantity(),
+                        globalPreferencesConfig.getStockAlertThreshold()))
+                .collect(Collectors.joining("\n"));
+        sendEmail(subject, body);
     }
 }
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.stockify.model.enums.Status;
@@ -16,6 +17,7 @@ import org.stockify.model.mapper.EmployeeMapper;
 import org.stockify.model.repository.EmployeeRepository;
 import org.stockify.model.specification.EmployeeSpecifications;
 import org.stockify.security.model.entity.CredentialsEntity;
+import org.stockify.security.repository.CredentialRepository;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +35,7 @@ import java.util.Optional;
 public class EmployeeService {
     private final EmployeeRepository employeeRepository;
     private final EmployeeMapper employeeMapper;
+    private final CredentialRepository credentialRepository;
 
     /**
      *
@@ -85,7 +88,8 @@ public class EmployeeService {
      * @return The EmployeeEntity associated with the authenticated user
      */
     public EmployeeEntity getProfile(Authentication authentication){
-        CredentialsEntity credentials = (CredentialsEntity) authentication.getPrincipal();
+        CredentialsEntity credentials = credentialRepository.findByEmail(authentication.getName())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + authentication.getName()));
         return credentials.getEmployee();
     }
 
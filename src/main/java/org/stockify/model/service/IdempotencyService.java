@@ -0,0 +1,121 @@
+package org.stockify.model.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.stockify.model.entity.IdempotencyKeyEntity;
+import org.stockify.model.exception.InvalidIdempotencyKeyException;
+import org.stockify.model.repository.IdempotencyKeyRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates retried create requests carrying an {@code Idempotency-Key} header.
+ * <p>
+ * The key is claimed with an insert in the same database transaction that creates the resource, and the ID of the
+ * created resource is stored with it before commit, so a request either commits together with its key or leaves
+ * no trace. A duplicate arriving while the first request is still running blocks on that insert until the first
+ * one commits, then replays its result; if the first one fails, the duplicate runs instead.
+ * Replays read the created resource again by ID. Keys are scoped to the authenticated user and expire after a TTL.
+ * </p>
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    /**
+     * Runs a create operation at most once per idempotency key.
+     *
+     * @param key       the client-supplied key, or null to run the operation without deduplication
+     * @param operation identifies the endpoint and its path variables, e.g. {@code "sale:pos=10"}
+     * @param request   the request body, compared with the body of the first request using the key
+     * @param action    creates the resource
+     * @param idOf      extracts the ID of the created resource
+     * @param replay    loads the resource created by the first request
+     * @param <T>       the response type
+     * @return the created resource, or the one created by the first request using the key
+     * @throws InvalidIdempotencyKeyException if the key is blank, too long, or was used with a different request
+     */
+    public <T> T execute(String key, String operation, Object request,
+                         Supplier<T> action, Function<T, Long> idOf, Function<Long, T> replay) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(
+                    "The Idempotency-Key header must have between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String keyHash = sha256(currentUser() + "\n" + key);
+        String requestHash = sha256(operation + "\n" + toJson(request));
+        Instant now = Instant.now();
+
+        if (idempotencyKeyRepository.claim(keyHash, requestHash, now, now.plus(Duration.ofHours(ttlHours))) == 0) {
+            IdempotencyKeyEntity existing = idempotencyKeyRepository.findById(keyHash)
+                    .orElseThrow(() -> new InvalidIdempotencyKeyException("Idempotency key " + key + " could not be claimed"));
+            if (!existing.getRequestHash().equals(requestHash) || existing.getResourceId() == null) {
+                throw new InvalidIdempotencyKeyException(
+                        "Idempotency key " + key + " was already used with a different request");
+            }
+            return replay.apply(existing.getResourceId());
+        }
+
+        T result = action.get();
+        idempotencyKeyRepository.complete(keyHash, idOf.apply(result));
+        return result;
+    }
+
+    /**
+     * Deletes expired keys. Their requests are executed again if retried.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.sweep-interval-ms:3600000}")
+    public void sweepExpired() {
+        idempotencyKeyRepository.deleteExpired(Instant.now());
+    }
+
+    // --- Auxiliary methods ---
+
+    private String toJson(Object request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize the request to check its idempotency key", ex);
+        }
+    }
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "anonymous";
+    }
+}
@@ -0,0 +1,113 @@
+package org.stockify.model.service;
+
+import lombok.Getter;
+import org.stockify.dto.response.ImportJobResponse;
+import org.stockify.model.enums.ImportJobStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory state of a background import job, updated by the worker thread and read by status requests.
+ */
+@Getter
+public class ImportJob implements ImportProgress {
+
+    private final String id;
+    private final String type;
+    private final String owner;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger errors = new AtomicInteger();
+
+    private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+    private volatile boolean cancelRequested;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String message;
+    private volatile Object result;
+
+    ImportJob(String id, String type, String owner) {
+        this.id = id;
+        this.type = type;
+        this.owner = owner;
+    }
+
+    @Override
+    public void rowsProcessed(int created, int skipped, int errors) {
+        this.created.addAndGet(created);
+        this.skipped.addAndGet(skipped);
+        this.errors.addAndGet(errors);
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelRequested;
+    }
+
+    boolean isActive() {
+        return status == ImportJobStatus.QUEUED || status == ImportJobStatus.RUNNING;
+    }
+
+    /**
+     * Requests cancellation. A queued job is cancelled right away and skipped by its worker,
+     * a running one stops before its next chunk.
+     */
+    synchronized void cancel() {
+        if (!isActive()) {
+            return;
+        }
+        cancelRequested = true;
+        if (status == ImportJobStatus.QUEUED) {
+            finish(ImportJobStatus.CANCELLED, null, null);
+        }
+    }
+
+    /**
+     * Marks the job as running, unless it was cancelled while queued.
+     *
+     * @return true if the job should run
+     */
+    synchronized boolean start() {
+        if (status != ImportJobStatus.QUEUED) {
+            return false;
+        }
+        status = ImportJobStatus.RUNNING;
+        startedAt = LocalDateTime.now();
+        return true;
+    }
+
+    synchronized void complete(Object result) {
+        finish(cancelRequested ? ImportJobStatus.CANCELLED : ImportJobStatus.COMPLETED, result, null);
+    }
+
+    synchronized void fail(String message) {
+        finish(ImportJobStatus.FAILED, null, message);
+    }
+
+    private void finish(ImportJobStatus status, Object result, String message) {
+        this.result = result;
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    /**
+     * Builds a snapshot of the job's progress.
+     *
+     * @return the job status response
+     */
+    public ImportJobResponse toResponse() {
+        int processed = created.get() + skipped.get() + errors.get();
+        double rowsPerSecond = 0;
+        if (startedAt != null) {
+            LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+            long millis = Math.max(1, Duration.between(startedAt, end).toMillis());
+            rowsPerSecond = Math.round(processed * 10_000.0 / millis) / 10.0;
+        }
+        return new ImportJobResponse(id, type, status, processed, created.get(), skipped.get(), errors.get(),
+                rowsPerSecond, submittedAt, startedAt, finishedAt, message);
+    }
+}
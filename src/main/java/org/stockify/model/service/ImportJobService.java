@@ -0,0 +1,210 @@
+package org.stockify.model.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.stockify.dto.response.ImportJobResponse;
+import org.stockify.model.exception.ImportJobRejectedException;
+import org.stockify.model.exception.NotFoundException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs CSV imports as background jobs.
+ * <p>
+ * Uploads are spooled to a temporary file so the request thread returns right away with a job ID.
+ * Jobs run on a bounded pool owned by this service; the number of active jobs per user is capped,
+ * and submissions beyond the cap or the queue capacity are rejected.
+ * Finished jobs are kept in memory for the configured retention period so their status and result can be polled.
+ * </p>
+ */
+@Service
+public class ImportJobService {
+
+    /**
+     * The actual import work run by a job.
+     */
+    @FunctionalInterface
+    public interface ImportTask {
+        Object run(InputStream input, ImportProgress progress) throws Exception;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ImportJobService.class);
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${import-job.pool-size:2}")
+    private int poolSize;
+
+    @Value("${import-job.queue-capacity:10}")
+    private int queueCapacity;
+
+    @Value("${import-job.max-active-per-user:2}")
+    private int maxActivePerUser;
+
+    @Value("${import-job.retention-minutes:60}")
+    private long retentionMinutes;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void initExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "import-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Submits an import job for the uploaded file.
+     *
+     * @param type the type of data being imported, reported in the job status
+     * @param file the uploaded CSV file
+     * @param task the import to run over the file content
+     * @return the status of the queued job
+     * @throws ImportJobRejectedException if the user already has too many active jobs or the queue is full
+     */
+    public ImportJobResponse submit(String type, MultipartFile file, ImportTask task) {
+        String owner = currentUser();
+        Path spool = spool(file);
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), type, owner);
+
+        synchronized (jobs) {
+            long active = jobs.values().stream()
+                    .filter(j -> j.getOwner().equals(owner) && j.isActive())
+                    .count();
+            if (active >= maxActivePerUser) {
+                deleteSpool(spool);
+                throw new ImportJobRejectedException(
+                        "Maximum of " + maxActivePerUser + " active import jobs reached, try again when one finishes");
+            }
+            jobs.put(job.getId(), job);
+        }
+
+        try {
+            executor.execute(() -> run(job, spool, task));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.getId());
+            deleteSpool(spool);
+            throw new ImportJobRejectedException("Import queue is full, try again later");
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * Gets the status and progress of a job.
+     *
+     * @param id the ID of the job
+     * @return the job status
+     * @throws NotFoundException if no job exists with the given ID
+     */
+    public ImportJobResponse getStatus(String id) {
+        return getJob(id).toResponse();
+    }
+
+    /**
+     * Gets the per-row result of a finished job.
+     *
+     * @param id the ID of the job
+     * @return the import result, or null while the job has not finished
+     * @throws NotFoundException if no job exists with the given ID
+     */
+    public Object getResult(String id) {
+        return getJob(id).getResult();
+    }
+
+    /**
+     * Cancels a job. Chunks already committed by a running job are kept.
+     *
+     * @param id the ID of the job
+     * @return the job status after the cancellation request
+     * @throws NotFoundException if no job exists with the given ID
+     */
+    public ImportJobResponse cancel(String id) {
+        ImportJob job = getJob(id);
+        job.cancel();
+        return job.toResponse();
+    }
+
+    /**
+     * Removes finished jobs older than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${import-job.sweep-interval-ms:60000}")
+    public void sweepFinishedJobs() {
+        LocalDateTime limit = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> !job.isActive() && job.getFinishedAt().isBefore(limit));
+    }
+
+    // --- Auxiliary methods ---
+
+    private void run(ImportJob job, Path spool, ImportTask task) {
+        try {
+            if (!job.start()) {
+                return;
+            }
+            try (InputStream input = Files.newInputStream(spool)) {
+                job.complete(task.run(input, job));
+            } catch (Exception ex) {
+                logger.error("Import job {} ({}) failed: {}", job.getId(), job.getType(), ex.getMessage(), ex);
+                job.fail(ex.getMessage());
+            }
+        } finally {
+            deleteSpool(spool);
+        }
+    }
+
+    private ImportJob getJob(String id) {
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new NotFoundException("Import job with ID " + id + " not found");
+        }
+        return job;
+    }
+
+    private Path spool(MultipartFile file) {
+        try {
+            Path spool = Files.createTempFile("stockify-import-", ".csv");
+            file.transferTo(spool);
+            return spool;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not store the uploaded file", ex);
+        }
+    }
+
+    private void deleteSpool(Path spool) {
+        try {
+            Files.deleteIfExists(spool);
+        } catch (IOException ex) {
+            logger.warn("Could not delete import file {}: {}", spool, ex.getMessage());
+        }
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "anonymous";
+    }
+}
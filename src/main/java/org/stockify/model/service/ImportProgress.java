@@ -0,0 +1,39 @@
+package org.stockify.model.service;
+
+/**
+ * Progress sink for chunked imports.
+ * <p>
+ * Importers report the outcome of each processed chunk and check for cancellation between chunks,
+ * so rows already committed stay committed when a job is cancelled.
+ * </p>
+ */
+public interface ImportProgress {
+
+    /**
+     * Progress sink for imports that are not tracked by a job.
+     */
+    ImportProgress NONE = new ImportProgress() {
+        @Override
+        public void rowsProcessed(int created, int skipped, int errors) {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    };
+
+    /**
+     * Records the outcome of a processed chunk.
+     *
+     * @param created number of rows created
+     * @param skipped number of rows skipped
+     * @param errors  number of rows rejected
+     */
+    void rowsProcessed(int created, int skipped, int errors);
+
+    /**
+     * @return true if the import should stop before the next chunk
+     */
+    boolean isCancelled();
+}
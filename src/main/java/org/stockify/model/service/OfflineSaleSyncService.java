@@ -0,0 +1,342 @@
+package org.stockify.model.service;
+
+import jakarta.transaction.Transactional;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.stockify.dto.request.sale.OfflineSaleRequest;
+import org.stockify.dto.request.sale.OfflineSyncRequest;
+import org.stockify.dto.request.transaction.DetailTransactionRequest;
+import org.stockify.dto.response.OfflineSaleResult;
+import org.stockify.dto.response.OfflineSyncResponse;
+import org.stockify.model.entity.*;
+import org.stockify.model.enums.NegativeStockPolicy;
+import org.stockify.model.enums.OfflineSaleStatus;
+import org.stockify.model.enums.StockMovementType;
+import org.stockify.model.enums.TransactionType;
+import org.stockify.model.event.StockChangedEvent;
+import org.stockify.model.event.TransactionRecordedEvent;
+import org.stockify.model.exception.InvalidSessionStatusException;
+import org.stockify.model.exception.NotFoundException;
+import org.stockify.model.repository.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ingests the sales a till recorded while it was offline, as one batch.
+ * <p>
+ * The POS, its employee and its open session are validated once for the whole batch. Every sale is validated on its
+ * own, and one that is invalid, or dated further in the future than the tolerated till clock skew, is rejected
+ * without failing the others.
+ * Products, clients and the stock rows of the store are loaded with one query each, stock rows locked in product
+ * order. Sales are then applied in the order they took place against the in-memory quantities, so every stock row
+ * is written once with its final quantity, and all transactions, sales and cash movements are saved together.
+ * Sales already synced are recognised by the ID the till generated for them and reported as duplicates, so a batch
+ * can be resent safely after a timeout. Syncs of a POS are serialised with a transaction-scoped advisory lock taken
+ * before that check, so a batch resent while the first attempt is still running waits for it, then finds its sales
+ * and reports them as duplicates. The advisory lock is not a row lock, so it cannot deadlock with online sales and
+ * purchases, which lock the stock rows before the POS row.
+ * </p>
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class OfflineSaleSyncService {
+
+    private final TransactionService transactionService;
+    private final SessionPosRepository sessionPosRepository;
+    private final SaleRepository saleRepository;
+    private final TransactionRepository transactionRepository;
+    private final ProductRepository productRepository;
+    private final ClientRepository clientRepository;
+    private final StockRepository stockRepository;
+    private final StockAlertService stockAlertService;
+    private final CashLedgerService cashLedgerService;
+    private final StockLedgerService stockLedgerService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Validator validator;
+
+    @Value("${offline-sync.clock-skew-tolerance-seconds:300}")
+    private long clockSkewToleranceSeconds;
+
+    /**
+     * Records a batch of offline sales of a POS.
+     * Each sale is created, reported as a duplicate or rejected on its own; a rejected sale does not fail the batch.
+     *
+     * @param posId   the ID of the POS that recorded the sales
+     * @param request the sales and the policy for lines that exceed the remaining stock
+     * @return the outcome of every sale, in request order
+     * @throws NotFoundException              if the POS is not found
+     * @throws InvalidSessionStatusException if the POS has no open session or belongs to another employee
+     */
+    public OfflineSyncResponse sync(Long posId, OfflineSyncRequest request) {
+        PosEntity pos = transactionService.validatePosAndEmployee(posId);
+        StoreEntity store = pos.getStore();
+        SessionPosEntity session = sessionPosRepository.findByPosEntity_IdAndCloseTime(posId, null)
+                .orElseThrow(() -> new InvalidSessionStatusException("POS with ID " + posId + " has no open session."));
+        // Serialises the syncs of a POS, so the check below sees the sales of an attempt still in flight
+        jdbcTemplate.queryForObject(
+                "SELECT pg_advisory_xact_lock(hashtext('offline_sale_sync'), CAST(:posId AS integer))",
+                new MapSqlParameterSource("posId", posId), Object.class);
+        NegativeStockPolicy policy = Optional.ofNullable(request.getNegativeStockPolicy())
+                .orElse(NegativeStockPolicy.ALLOW_NEGATIVE);
+
+        // Invalid sales, sales synced by an earlier attempt, and the first occurrence of each sale in this batch
+        Map<OfflineSaleRequest, OfflineSaleResult> invalid = new IdentityHashMap<>();
+        Map<String, OfflineSaleResult> results = new HashMap<>();
+        Map<String, OfflineSaleRequest> pending = new LinkedHashMap<>();
+        request.getSales().forEach(sale -> {
+            String violation = checkRequest(sale);
+            if (violation != null) {
+                invalid.put(sale, rejected(sale, violation));
+            } else {
+                pending.putIfAbsent(sale.getClientSaleId(), sale);
+            }
+        });
+        if (!pending.isEmpty()) {
+            saleRepository.findSyncedByClientSaleIds(pending.keySet()).forEach(result -> {
+                results.put(result.clientSaleId(), result);
+                pending.remove(result.clientSaleId());
+            });
+        }
+
+        // Reference data of the whole batch, one query each
+        Set<Long> productIds = pending.values().stream()
+                .flatMap(sale -> sale.getTransaction().getDetailTransactions().stream())
+                .map(DetailTransactionRequest::getProductID)
+                .collect(Collectors.toCollection(TreeSet::new));
+        Set<Long> clientIds = pending.values().stream()
+                .map(OfflineSaleRequest::getClientId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, ProductEntity> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+        Map<Long, ClientEntity> clients = clientRepository.findAllById(clientIds).stream()
+                .collect(Collectors.toMap(ClientEntity::getId, Function.identity()));
+        Map<Long, StockEntity> stocks = productIds.isEmpty() ? Map.of() : stockRepository
+                .findAllByStoreIdAndProductIdsForUpdate(store.getId(), productIds).stream()
+                .collect(Collectors.toMap(stock -> stock.getProduct().getId(), Function.identity()));
+        Map<Long, Double> quantities = new HashMap<>();
+        stocks.forEach((productId, stock) -> quantities.put(productId, stock.getQuantity()));
+
+        // Apply the sales in the order they took place
+        List<OfflineSaleRequest> ordered = pending.values().stream()
+                .sorted(Comparator.comparing(OfflineSaleRequest::getOccurredAt))
+                .toList();
+        Map<String, SaleEntity> created = new LinkedHashMap<>();
+        Map<Long, Double> sold = new TreeMap<>();
+        Map<String, String> shortfalls = new HashMap<>();
+        for (OfflineSaleRequest sale : ordered) {
+            String rejection = validate(sale, products, clients, stocks);
+            if (rejection != null) {
+                results.put(sale.getClientSaleId(), rejected(sale, rejection));
+                continue;
+            }
+
+            Map<Long, Double> requested = sale.getTransaction().getDetailTransactions().stream()
+                    .collect(Collectors.toMap(DetailTransactionRequest::getProductID,
+                            DetailTransactionRequest::getQuantity, Double::sum, TreeMap::new));
+            List<Long> shortProducts = requested.entrySet().stream()
+                    .filter(line -> quantities.get(line.getKey()) < line.getValue())
+                    .map(Map.Entry::getKey)
+                    .toList();
+            if (!shortProducts.isEmpty()) {
+                if (policy == NegativeStockPolicy.REJECT_SALE) {
+                    results.put(sale.getClientSaleId(),
+                            rejected(sale, "Not enough stock for product ids " + shortProducts));
+                    continue;
+                }
+                shortfalls.put(sale.getClientSaleId(), "Stock short for product ids " + shortProducts
+                        + (policy == NegativeStockPolicy.CLAMP_TO_ZERO ? ", floored at zero" : ", left negative"));
+            }
+
+            requested.forEach((productId, quantity) -> {
+                sold.merge(productId, quantity, Double::sum);
+                quantities.compute(productId, (id, current) -> {
+                    double remaining = current - quantity;
+                    return policy == NegativeStockPolicy.CLAMP_TO_ZERO ? Math.max(0, remaining) : remaining;
+                });
+            });
+            created.put(sale.getClientSaleId(), toEntity(sale, products, clients, session, store));
+        }
+
+        // Persist the accepted sales and write every touched stock row once
+        List<TransactionEntity> transactions = transactionRepository.saveAll(created.values().stream()
+                .map(SaleEntity::getTransaction)
+                .toList());
+        saleRepository.saveAll(created.values());
+
+        List<Long> touched = created.values().stream()
+                .flatMap(sale -> sale.getTransaction().getDetailTransactions().stream())
+                .map(detail -> detail.getProduct().getId())
+                .distinct()
+                .sorted()
+                .toList();
+        Map<Long, Double> saleMovements = new TreeMap<>();
+        Map<Long, Double> clampMovements = new TreeMap<>();
+        touched.forEach(productId -> {
+            StockEntity stock = stocks.get(productId);
+            // Whatever the clamp added back on top of the sales is recorded as an adjustment
+            saleMovements.put(productId, -sold.get(productId));
+            clampMovements.put(productId, quantities.get(productId) - stock.getQuantity() + sold.get(productId));
+            stock.setQuantity(quantities.get(productId));
+            stockAlertService.enqueue(stock);
+        });
+        stockLedgerService.record(store.getId(), StockMovementType.SALE, saleMovements);
+        if (policy == NegativeStockPolicy.CLAMP_TO_ZERO) {
+            stockLedgerService.record(store.getId(), StockMovementType.ADJUSTMENT, clampMovements);
+        }
+
+        if (!transactions.isEmpty()) {
+            cashLedgerService.recordSales(posId, transactions);
+            eventPublisher.publishEvent(new TransactionRecordedEvent(
+                    transactions.stream().map(TransactionEntity::getId).toList()));
+            eventPublisher.publishEvent(new StockChangedEvent(store.getId(), touched));
+        }
+
+        created.forEach((clientSaleId, sale) -> results.put(clientSaleId, new OfflineSaleResult(clientSaleId,
+                OfflineSaleStatus.CREATED, sale.getId(), sale.getTransaction().getId(), shortfalls.get(clientSaleId))));
+
+        return toResponse(posId, request.getSales(), invalid, results);
+    }
+
+    // --- Auxiliary methods ---
+
+    /**
+     * Checks the fields of a sale and its lines, and that it is not dated in the future beyond the tolerated clock
+     * skew of the till.
+     *
+     * @return the reason to reject the sale, or null if it is well formed
+     */
+    private String checkRequest(OfflineSaleRequest sale) {
+        Set<String> violations = new TreeSet<>();
+        validator.validate(sale).forEach(violation -> violations.add(violation.getMessage()));
+        List<DetailTransactionRequest> details = sale.getTransaction() != null
+                ? sale.getTransaction().getDetailTransactions()
+                : null;
+        if (details != null) {
+            if (details.contains(null)) {
+                return "Sale lines must not be null";
+            }
+            details.forEach(detail -> validator.validate(detail)
+                    .forEach(violation -> violations.add(violation.getMessage())));
+        }
+        if (!violations.isEmpty()) {
+            return String.join(", ", violations);
+        }
+        if (sale.getOccurredAt().isAfter(LocalDateTime.now().plusSeconds(clockSkewToleranceSeconds))) {
+            return "occurredAt is more than " + clockSkewToleranceSeconds + " seconds in the future";
+        }
+        return null;
+    }
+
+    /**
+     * Checks that every product and client of a sale exists and that the store stocks every product.
+     *
+     * @return the reason to reject the sale, or null if it can be recorded
+     */
+    private String validate(OfflineSaleRequest sale, Map<Long, ProductEntity> products,
+                            Map<Long, ClientEntity> clients, Map<Long, StockEntity> stocks) {
+        List<DetailTransactionRequest> details = sale.getTransaction().getDetailTransactions();
+        if (details.isEmpty()) {
+            return "The sale has no lines";
+        }
+        if (sale.getClientId() != null && !clients.containsKey(sale.getClientId())) {
+            return "Client not found with ID " + sale.getClientId();
+        }
+        List<Long> unknown = details.stream()
+                .map(DetailTransactionRequest::getProductID)
+                .filter(productId -> !products.containsKey(productId))
+                .distinct()
+                .toList();
+        if (!unknown.isEmpty()) {
+            return "Products not found with ids " + unknown;
+        }
+        List<Long> unstocked = details.stream()
+                .map(DetailTransactionRequest::getProductID)
+                .filter(productId -> !stocks.containsKey(productId))
+                .distinct()
+                .toList();
+        if (!unstocked.isEmpty()) {
+            return "Products not stocked in the store: " + unstocked;
+        }
+        return null;
+    }
+
+    private SaleEntity toEntity(OfflineSaleRequest request, Map<Long, ProductEntity> products,
+                                Map<Long, ClientEntity> clients, SessionPosEntity session, StoreEntity store) {
+        TransactionEntity transaction = TransactionEntity.builder()
+                .dateTime(request.getOccurredAt())
+                .paymentMethod(request.getTransaction().getPaymentMethod())
+                .description(request.getTransaction().getDescription())
+                .type(TransactionType.SALE)
+                .sessionPosEntity(session)
+                .store(store)
+                .build();
+
+        Set<DetailTransactionEntity> details = request.getTransaction().getDetailTransactions().stream()
+                .map(line -> {
+                    ProductEntity product = products.get(line.getProductID());
+                    BigDecimal quantity = BigDecimal.valueOf(line.getQuantity());
+                    return DetailTransactionEntity.builder()
+                            .product(product)
+                            .quantity(quantity)
+                            .subtotal(product.getPrice().multiply(quantity))
+                            .transaction(transaction)
+                            .build();
+                })
+                .collect(Collectors.toSet());
+        transaction.setDetailTransactions(details);
+        transaction.setTotal(details.stream()
+                .map(DetailTransactionEntity::getSubtotal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+
+        SaleEntity sale = new SaleEntity();
+        sale.setTransaction(transaction);
+        sale.setClient(request.getClientId() != null ? clients.get(request.getClientId()) : null);
+        sale.setClientSaleId(request.getClientSaleId());
+        return sale;
+    }
+
+    private OfflineSaleResult rejected(OfflineSaleRequest sale, String reason) {
+        return new OfflineSaleResult(sale.getClientSaleId(), OfflineSaleStatus.REJECTED, null, null, reason);
+    }
+
+    private OfflineSyncResponse toResponse(Long posId, List<OfflineSaleRequest> sales,
+                                           Map<OfflineSaleRequest, OfflineSaleResult> invalid,
+                                           Map<String, OfflineSaleResult> results) {
+        Set<String> reported = new HashSet<>();
+        List<OfflineSaleResult> ordered = new ArrayList<>(sales.size());
+        for (OfflineSaleRequest sale : sales) {
+            if (invalid.containsKey(sale)) {
+                ordered.add(invalid.get(sale));
+                continue;
+            }
+            OfflineSaleResult result = results.get(sale.getClientSaleId());
+            if (!reported.add(sale.getClientSaleId())) {
+                // Repeated within the batch: only its first occurrence was applied
+                result = new OfflineSaleResult(result.clientSaleId(), OfflineSaleStatus.DUPLICATE,
+                        result.saleId(), result.transactionId(), "Repeated in the batch");
+            }
+            ordered.add(result);
+        }
+
+        Map<OfflineSaleStatus, Long> counts = ordered.stream()
+                .collect(Collectors.groupingBy(OfflineSaleResult::status, Collectors.counting()));
+        return new OfflineSyncResponse(posId,
+                counts.getOrDefault(OfflineSaleStatus.CREATED, 0L).intValue(),
+                counts.getOrDefault(OfflineSaleStatus.DUPLICATE, 0L).intValue(),
+                counts.getOrDefault(OfflineSaleStatus.REJECTED, 0L).intValue(),
+                ordered);
+    }
+}
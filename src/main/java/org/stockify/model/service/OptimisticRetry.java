@@ -0,0 +1,90 @@
+package org.stockify.model.service;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Bounded retry of writes that lose an optimistic locking race on a versioned row.
+ * <p>
+ * Every attempt runs in its own transaction, so it reads the row again with its new version. Attempts are spaced
+ * by an exponential backoff with jitter, so concurrent writers that collided once do not collide again. Once the
+ * attempts are used up, the last conflict is thrown and reported to the client as a 409.
+ * A write called inside a transaction that is already running cannot be retried on its own, and runs only once.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class OptimisticRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final Logger logger = LoggerFactory.getLogger(OptimisticRetry.class);
+
+    @Value("${optimistic-retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${optimistic-retry.backoff-ms:10}")
+    private long backoffMs;
+
+    @Value("${optimistic-retry.max-backoff-ms:200}")
+    private long maxBackoffMs;
+
+    /**
+     * Runs a write, retrying it in a new transaction while it fails on an optimistic locking conflict.
+     *
+     * @param operation the write to run
+     * @param <T>       the type of the result
+     * @return the result of the first attempt that succeeds
+     * @throws ObjectOptimisticLockingFailureException if every attempt conflicts
+     */
+    public <T> T execute(Supplier<T> operation) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return operation.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> operation.get());
+            } catch (ObjectOptimisticLockingFailureException ex) {
+                if (attempt >= maxAttempts) {
+                    throw ex;
+                }
+                logger.debug("Optimistic locking conflict on attempt {} of {}: {}", attempt, maxAttempts, ex.getMessage());
+                pause(attempt);
+            }
+        }
+    }
+
+    /**
+     * Runs a write without result, retrying it in a new transaction while it fails on an optimistic locking conflict.
+     *
+     * @param operation the write to run
+     * @throws ObjectOptimisticLockingFailureException if every attempt conflicts
+     */
+    public void run(Runnable operation) {
+        execute(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    // --- Auxiliary methods ---
+
+    private void pause(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, backoffMs << Math.min(attempt - 1, 20));
+        long delay = ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry a conflicting write", ex);
+        }
+    }
+}
@@ -1,10 +1,7 @@
 package org.stockify.model.service;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.hateoas.EntityModel;
-import org.springframework.http.ResponseEntity;
+import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
-import org.stockify.dto.response.TransactionPDFResponse;
 import org.stockify.dto.response.TransactionResponse;
 import org.stockify.model.entity.TransactionEntity;
 import org.stockify.model.enums.TransactionType;
@@ -14,12 +11,11 @@ import org.stockify.model.mapper.TransactionMapper;
 import org.stockify.model.repository.TransactionRepository;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
 import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
 import org.xhtmlrenderer.pdf.ITextRenderer;
 
-import javax.swing.filechooser.FileSystemView;
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,84 +25,73 @@ import java.util.stream.Collectors;
  *
  * Service responsible for generating PDF documents from transaction data.
  * This service fetches transaction details, maps them to DTOs, processes HTML templates using Thymeleaf,
- * and converts the resulting HTML into a PDF file stored in the user's home directory.
+ * and converts the resulting HTML into a PDF rendered in memory, ready to be written to the HTTP response.
  * It currently supports PDF generation only for PURCHASE and SALE transaction types.
+ * <p>
+ * The template engine is built once and caches the parsed receipt templates, so each request only
+ * evaluates the template and lays out the resulting document.
+ * </p>
  *
  */
 @Service
-@RequiredArgsConstructor
 public class PdfGeneratorService {
 
     private final TransactionRepository transactionRepository;
     private final TransactionMapper transactionMapper;
+    private final TemplateEngine templateEngine;
+
+    public PdfGeneratorService(TransactionRepository transactionRepository, TransactionMapper transactionMapper) {
+        this.transactionRepository = transactionRepository;
+        this.transactionMapper = transactionMapper;
+        this.templateEngine = createTemplateEngine();
+    }
 
     /**
      *
-     * Generates a PDF file for a transaction identified by its ID.
+     * Generates the PDF receipt for a transaction identified by its ID.
      *
      * <p>
      * The method fetches the transaction entity from the database, verifies if its type is supported,
-     * then generates the corresponding PDF using an HTML template rendered with Thymeleaf.
-     * The resulting PDF file is saved to the user's home directory with a filename pattern:
-     * transaction_{id}.pdf.
+     * then renders the corresponding HTML template with Thymeleaf and converts it to PDF in memory.
+     * No file is written to disk.
      * </p>
      *
      * @param id the unique identifier of the transaction
-     * @return a {@link ResponseEntity} containing an {@link EntityModel} with a {@link TransactionPDFResponse}
-     *         that includes the path to the generated PDF and transaction data
-     * @throws NotFoundException if the transaction does not exist, or if the transaction type is not supported for PDF generation
-     * @throws Exception         if any error occurs during the PDF generation process
+     * @return the PDF document bytes
+     * @throws NotFoundException        if the transaction does not exist
+     * @throws TypeNotAcceptedException if the transaction type is not supported for PDF generation
+     * @throws Exception                if any error occurs during the PDF generation process
      */
-    public ResponseEntity<EntityModel<TransactionPDFResponse>> generatePdf(Long id) throws Exception {
+    @Transactional
+    public byte[] generatePdf(Long id) throws Exception {
         TransactionEntity transaction = transactionRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Transaction with ID " + id + " not found."));
 
-        // Map entity to DTO for template rendering
-        TransactionResponse dto = transactionMapper.toDto(transaction);
-
-        // Define an output PDF file path in the user's home directory
-        String fileName = "transaction_" + id + ".pdf";
-        String outputPath = FileSystemView.getFileSystemView().getHomeDirectory().getAbsolutePath() + File.separator + fileName;
-
         // Only PURCHASE and SALE types supported for PDF generation
-        if (transaction.getType() == TransactionType.PURCHASE || transaction.getType() == TransactionType.SALE) {
-            generateHtmlToPdf(dto, outputPath, transaction);
-        } else {
+        if (transaction.getType() != TransactionType.PURCHASE && transaction.getType() != TransactionType.SALE) {
             throw new TypeNotAcceptedException("Transaction type not supported for PDF generation.");
         }
 
-        // Return response with PDF file path and transaction details
-        return ResponseEntity.ok(EntityModel.of(
-                TransactionPDFResponse.builder()
-                        .path(outputPath)
-                        .transaction(dto)
-                        .build()));
+        // Map entity to DTO for template rendering
+        TransactionResponse dto = transactionMapper.toDto(transaction);
+
+        return generateHtmlToPdf(dto, transaction);
     }
 
     /**
      * Generates a PDF from HTML using Thymeleaf templates.
      *
-     * Converts transaction data into an HTML string using Thymeleaf templates and then generates a PDF file.
+     * Converts transaction data into an HTML string using the shared template engine and then renders it to PDF.
      * <p>
-     * This method sets up Thymeleaf with a classpath template resolver, creates a context with transaction data,
-     * processes either a purchase or sale HTML template,
-     * and renders it to a PDF file using the Flying Saucer library.
+     * This method creates a context with transaction data, processes either a purchase or sale HTML template,
+     * and renders it into an in-memory buffer using the Flying Saucer library.
+     * The renderer keeps per-document state and is not thread-safe, so a fresh one is used for each document.
      * @param dto          the transaction data transfer object containing transaction details for the template
-     * @param outputPath   the file system path where the generated PDF should be saved
      * @param transaction  the original transaction entity, used to determine a transaction type and related details
-     * @throws Exception if any IO or rendering error occurs during PDF generation
+     * @return the PDF document bytes
+     * @throws Exception if any rendering error occurs during PDF generation
      */
-    private void generateHtmlToPdf(TransactionResponse dto, String outputPath, TransactionEntity transaction) throws Exception {
-        // Configure Thymeleaf template resolver for HTML files with UTF-8 encoding
-        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
-        resolver.setTemplateMode("HTML");
-        resolver.setPrefix("");
-        resolver.setSuffix(".html");
-        resolver.setCharacterEncoding("UTF-8");
-
-        TemplateEngine templateEngine = new TemplateEngine();
-        templateEngine.setTemplateResolver(resolver);
-
+    private byte[] generateHtmlToPdf(TransactionResponse dto, TransactionEntity transaction) throws Exception {
         // Prepare Thymeleaf context with transaction variables
         Context context = new Context();
 
@@ -150,8 +135,27 @@ public class PdfGeneratorService {
         renderer.setDocumentFromString(html);
         renderer.layout();
 
-        try (FileOutputStream os = new FileOutputStream(outputPath)) {
-            renderer.createPDF(os);
-        }
+        ByteArrayOutputStream os = new ByteArrayOutputStream(16 * 1024);
+        renderer.createPDF(os);
+        return os.toByteArray();
+    }
+
+    /**
+     * Builds the template engine shared by all requests, resolving the receipt templates from the classpath
+     * with UTF-8 encoding and caching them after the first parse.
+     *
+     * @return the configured template engine
+     */
+    private static TemplateEngine createTemplateEngine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setPrefix("");
+        resolver.setSuffix(".html");
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+
+        TemplateEngine templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        return templateEngine;
     }
 }
@@ -56,6 +56,7 @@ public class PosService {
     private final JwtService jwtService;
     private final CredentialRepository credentialsRepository;
     private final AuthService authService;
+    private final CashLedgerService cashLedgerService;
 
     /**
      * Creates and saves a new POS terminal associated with a store.
@@ -164,27 +165,21 @@ public class PosService {
 
     /**
      * Sets the current amount of a POS terminal with the given ID.
+     * The difference with the current amount is recorded as an adjustment in the cash ledger of the open session.
      *
      * @param id               ID of the POS terminal.
      * @param posAmountRequest DTO containing the amount to set.
+     * @throws NotFoundException              if the POS has no open session.
+     * @throws InvalidSessionStatusException if the POS is not ONLINE.
      */
+    @Transactional
     public void addAmount(Long id, PosAmountRequest posAmountRequest) {
-        posRepository.findById(id).ifPresent(posEntity -> {
-            posEntity.setCurrentAmount(posAmountRequest.getCurrentAmount());
-            posRepository.save(posEntity);
-        });
-    }
-
-    /**
-     * Adds the specified total amount to the current amount of a POS terminal.
-     *
-     * @param id          ID of the POS terminal.
-     * @param totalAmount Amount to add to the current amount.
-     */
-    public void addAmount(Long id, BigDecimal totalAmount) {
-        posRepository.findById(id).ifPresent(posEntity -> {
-            posEntity.setCurrentAmount(posEntity.getCurrentAmount().add(totalAmount));
-            posRepository.save(posEntity);
+        posRepository.findForUpdateById(id).ifPresent(posEntity -> {
+            BigDecimal current = posEntity.getCurrentAmount() != null ? posEntity.getCurrentAmount() : BigDecimal.ZERO;
+            BigDecimal difference = posAmountRequest.getCurrentAmount().subtract(current);
+            if (difference.signum() != 0) {
+                cashLedgerService.adjust(id, difference, "Amount set to " + posAmountRequest.getCurrentAmount());
+            }
         });
     }
     /**
@@ -216,6 +211,7 @@ public class PosService {
      *     <li>Retrieves the employee by their DNI and links them to the POS.</li>
      *     <li>Updates the POS status to ONLINE and sets the initial cash amount.</li>
      *     <li>Creates and persists a new session associated with the POS and employee.</li>
+     *     <li>Records the opening amount as the first movement of the session's cash ledger.</li>
      * </ul>
      * </p>
      *
@@ -253,7 +249,9 @@ public class PosService {
         session.setPosEntity(pos);
         posRepository.save(pos);
 
-        return sessionPosService.save(session);
+        SessionPosCreateResponse created = sessionPosService.save(session);
+        cashLedgerService.recordOpeningFloat(session);
+        return created;
     }
 
     /**
@@ -262,6 +260,10 @@ public class PosService {
      * Updates the session close time, close amount, expected amount,
      * and calculates cash difference. Also sets the POS status to OFFLINE,
      * unlinks the employee, and resets the current amount.
+     * <p>
+     * The POS is taken offline with one atomic update, which waits for in-flight cash movements on the till
+     * and rejects later ones. The expected amount is then the sum of the session's cash ledger.
+     * </p>
      *
      * @param idPos       ID of the POS terminal to close.
      * @param closeRequest Request data including the closing amount.
@@ -279,21 +281,20 @@ public class PosService {
         }
 
         SessionPosEntity session = sessionPosService.findByIdPosAndCloseTime(idPos, null);
+        if (posRepository.closeIfOnline(idPos) == 0) {
+            throw new InvalidSessionStatusException("This POS is already closed");
+        }
+
+        BigDecimal expectedAmount = cashLedgerService.getBalance(session.getId()).balance();
         session.setCloseTime(LocalDateTime.now());
         session.setCloseAmount(closeRequest.getCloseAmount());
-        session.setExpectedAmount(pos.getCurrentAmount());
+        session.setExpectedAmount(expectedAmount);
 
-        if (pos.getCurrentAmount() != null && closeRequest.getCloseAmount() != null) {
-            session.setCashDifference(closeRequest.getCloseAmount().subtract(pos.getCurrentAmount()));
+        if (closeRequest.getCloseAmount() != null) {
+            session.setCashDifference(closeRequest.getCloseAmount().subtract(expectedAmount));
         }
 
-        pos.setStatus(Status.OFFLINE);
-        pos.setEmployee(null);
-        pos.setCurrentAmount(BigDecimal.ZERO);
-        posRepository.save(pos);
-
-        String token = jwtService.extractTokenFromSecurityContext();
-        jwtService.invalidateToken(token);
+        jwtService.invalidateToken(jwtService.currentToken());
 
         return sessionPosService.update(session);
     }
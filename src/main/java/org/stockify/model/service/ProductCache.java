@@ -0,0 +1,181 @@
+package org.stockify.model.service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.stockify.model.enums.InvalidatedCache;
+import org.stockify.model.event.CacheInvalidatedEvent;
+import org.stockify.model.event.ProductsChangedEvent;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Bounded, expiring read-through cache of immutable product views keyed by product ID.
+ * <p>
+ * Lets basket lines, stock operations and product lookups resolve hot products without hitting the database;
+ * a basket resolves all its missing products with one batch of queries. Stock is not part of the view.
+ * Changed products are evicted once the transaction that changed them commits, through {@link ProductsChangedEvent}
+ * on this node and through the {@link CacheInvalidationBus} on the other ones, and entries also expire after a TTL.
+ * Hit, miss, load time and eviction metrics are published as {@code cache.*} metrics with {@code cache=products}.
+ * </p>
+ */
+@Component
+public class ProductCache {
+
+    private static final String SELECT_PRODUCTS = """
+            SELECT id, name, price, unit_price, sku, barcode, brand, description
+            FROM products WHERE id IN (:ids)
+            """;
+
+    private static final String SELECT_CATEGORIES = """
+            SELECT pc.product_id, c.name FROM products_categories pc
+            JOIN categories c ON c.id = pc.category_id
+            WHERE pc.product_id IN (:ids)
+            """;
+
+    private static final String SELECT_PROVIDERS = """
+            SELECT product_id, provider_id FROM products_providers WHERE product_id IN (:ids)
+            """;
+
+    /**
+     * Template used to load products on a cache miss
+     */
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Product views by ID
+     */
+    private final LoadingCache<Long, ProductView> cache;
+
+    /**
+     * Constructor for ProductCache
+     *
+     * @param jdbcTemplate  Template used to load products on a cache miss
+     * @param meterRegistry Registry where the cache statistics are published
+     * @param maxSize       Maximum number of cached products
+     * @param ttlSeconds    Seconds a product stays cached after being loaded
+     */
+    public ProductCache(NamedParameterJdbcTemplate jdbcTemplate,
+                        MeterRegistry meterRegistry,
+                        @Value("${product-cache.max-size:50000}") long maxSize,
+                        @Value("${product-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public ProductView load(Long id) {
+                        return loadAll(Set.of(id)).get(id);
+                    }
+
+                    @Override
+                    public Map<Long, ProductView> loadAll(Set<? extends Long> ids) {
+                        return ProductCache.this.loadAll(ids);
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "products");
+    }
+
+    /**
+     * Returns the view of a product, loading it on a miss
+     *
+     * @param id The product ID
+     * @return The product view, or empty if no product has the ID
+     */
+    public Optional<ProductView> find(Long id) {
+        return Optional.ofNullable(cache.get(id));
+    }
+
+    /**
+     * Returns the views of several products, loading all the missing ones together
+     *
+     * @param ids The product IDs
+     * @return The product views by ID; IDs of products that do not exist are absent
+     */
+    public Map<Long, ProductView> getAll(Collection<Long> ids) {
+        return cache.getAll(ids);
+    }
+
+    /**
+     * Evicts changed products once their transaction has committed
+     *
+     * @param event The products changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        cache.invalidateAll(event.productIds());
+    }
+
+    /**
+     * Evicts products changed by another node
+     *
+     * @param event The cache invalidated event
+     */
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidatedEvent event) {
+        if (event.cache() != InvalidatedCache.PRODUCTS) {
+            return;
+        }
+        if (event.all()) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidateAll(event.ids());
+        }
+    }
+
+    /**
+     * Evicts every product
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    // --- Auxiliary methods ---
+
+    private Map<Long, ProductView> loadAll(Collection<? extends Long> ids) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+
+        Map<Long, Set<String>> categories = new HashMap<>();
+        jdbcTemplate.query(SELECT_CATEGORIES, params, rs -> {
+            categories.computeIfAbsent(rs.getLong("product_id"), id -> new HashSet<>()).add(rs.getString("name"));
+        });
+        Map<Long, Set<Long>> providers = new HashMap<>();
+        jdbcTemplate.query(SELECT_PROVIDERS, params, rs -> {
+            providers.computeIfAbsent(rs.getLong("product_id"), id -> new HashSet<>()).add(rs.getLong("provider_id"));
+        });
+
+        Map<Long, ProductView> products = new HashMap<>();
+        jdbcTemplate.query(SELECT_PRODUCTS, params, rs -> {
+            long id = rs.getLong("id");
+            products.put(id, new ProductView(id, rs.getString("name"), rs.getBigDecimal("price"),
+                    rs.getBigDecimal("unit_price"), rs.getString("sku"), rs.getString("barcode"),
+                    rs.getString("brand"), rs.getString("description"),
+                    Set.copyOf(categories.getOrDefault(id, Set.of())),
+                    Set.copyOf(providers.getOrDefault(id, Set.of()))));
+        });
+        return products;
+    }
+
+    /**
+     * Immutable view of a product, without its stock.
+     *
+     * @param categories the names of its categories
+     * @param providers  the IDs of its providers
+     */
+    public record ProductView(Long id, String name, BigDecimal price, BigDecimal unitPrice, String sku,
+                              String barcode, String brand, String description,
+                              Set<String> categories, Set<Long> providers) {
+    }
+}
@@ -0,0 +1,392 @@
+package org.stockify.model.service;
+
+import com.opencsv.bean.CsvToBean;
+import com.opencsv.bean.CsvToBeanBuilder;
+import com.opencsv.exceptions.CsvException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.stockify.dto.request.product.ProductCSVRequest;
+import org.stockify.dto.request.product.ProductRequest;
+import org.stockify.dto.response.BulkItemResponse;
+import org.stockify.dto.response.BulkProductResponse;
+import org.stockify.model.entity.CategoryEntity;
+import org.stockify.model.event.ProductsChangedEvent;
+import org.stockify.model.mapper.ProductMapper;
+import org.stockify.model.repository.CategoryRepository;
+import org.stockify.model.repository.ProductRepository;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming import pipeline for product CSV files.
+ * <p>
+ * Rows are read incrementally and processed in chunks: each chunk is validated in parallel,
+ * checked for duplicates, and inserted with JDBC batches in its own transaction.
+ * Categories are resolved from a name to ID map loaded once per import.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+
+    private static final String INSERT_PRODUCT =
+            "INSERT INTO products (name, description, price, unit_price, sku, barcode, brand) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PRODUCT_CATEGORY =
+            "INSERT INTO products_categories (product_id, category_id) VALUES (?, ?)";
+    private static final String DUPLICATED_MESSAGE = "Duplicated, item skipped";
+
+    private final ProductMapper productMapper;
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Logger logger = LoggerFactory.getLogger(ProductImportService.class);
+
+    @Value("${product-import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    /**
+     * Imports products from a CSV stream without loading the whole file into memory.
+     * Progress is reported after every chunk, and the import stops between chunks once cancelled.
+     *
+     * @param input    the CSV content
+     * @param progress the sink for per-chunk progress
+     * @return a response summarizing the import operation including counts and detailed results
+     */
+    public BulkProductResponse importCsv(InputStream input, ImportProgress progress) {
+        Reader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        CsvToBean<ProductCSVRequest> csv = new CsvToBeanBuilder<ProductCSVRequest>(reader)
+                .withType(ProductCSVRequest.class)
+                .withIgnoreLeadingWhiteSpace(true)
+                .withThrowExceptions(false)
+                .build();
+
+        ImportState state = new ImportState(loadCategoryIds(), progress);
+        List<ProductCSVRequest> chunk = new ArrayList<>(chunkSize);
+
+        for (ProductCSVRequest row : csv) {
+            if (progress.isCancelled()) {
+                return state.toResponse();
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, state);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty() && !progress.isCancelled()) {
+            importChunk(chunk, state);
+        }
+
+        for (CsvException ex : csv.getCapturedExceptions()) {
+            state.error("Line " + ex.getLineNumber(), "Invalid data: " + ex.getMessage());
+        }
+
+        return state.toResponse();
+    }
+
+    /**
+     * Validates, deduplicates and persists one chunk of rows, recording a result per row in input order.
+     *
+     * @param rows  the parsed CSV rows of the chunk
+     * @param state the running state of the import
+     */
+    private void importChunk(List<ProductCSVRequest> rows, ImportState state) {
+        List<ValidatedRow> validated = rows.parallelStream()
+                .map(this::validate)
+                .toList();
+
+        Set<String> names = validated.stream()
+                .filter(ValidatedRow::isValid)
+                .map(row -> row.request().name())
+                .collect(Collectors.toSet());
+        Set<String> existingNames = names.isEmpty()
+                ? Set.of()
+                : productRepository.findExistingNames(names);
+        Set<String> barcodes = validated.stream()
+                .filter(ValidatedRow::isValid)
+                .map(row -> row.request().barcode())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> existingBarcodes = barcodes.isEmpty()
+                ? Set.of()
+                : productRepository.findExistingBarcodes(barcodes);
+
+        BulkItemResponse[] results = new BulkItemResponse[validated.size()];
+        List<Integer> pending = new ArrayList<>();
+
+        for (int i = 0; i < validated.size(); i++) {
+            ValidatedRow row = validated.get(i);
+            if (!row.isValid()) {
+                results[i] = new BulkItemResponse(row.name(), "ERROR", "Invalid data: " + row.error());
+                continue;
+            }
+            ProductRequest request = row.request();
+            boolean duplicated = existingNames.contains(request.name())
+                    || (request.barcode() != null && existingBarcodes.contains(request.barcode()))
+                    || !state.claim(request);
+            if (duplicated) {
+                results[i] = new BulkItemResponse(request.name(), "SKIPPED", DUPLICATED_MESSAGE);
+            } else {
+                pending.add(i);
+            }
+        }
+
+        List<ProductRequest> requests = pending.stream()
+                .map(i -> validated.get(i).request())
+                .toList();
+        try {
+            persist(requests, state);
+            pending.forEach(i -> results[i] = created(validated.get(i).request()));
+        } catch (DataIntegrityViolationException ex) {
+            logger.warn("Chunk insert failed, retrying {} rows one by one: {}", requests.size(), ex.getMessage());
+            state.categoryIds.putAll(loadCategoryIds());
+            pending.forEach(i -> results[i] = persistSingle(validated.get(i).request(), state));
+        }
+
+        state.record(results);
+    }
+
+    /**
+     * Fallback used when a chunk collides with concurrent writes, so each row gets its own outcome.
+     *
+     * @param request the product to insert
+     * @param state   the running state of the import
+     * @return the result for the row
+     */
+    private BulkItemResponse persistSingle(ProductRequest request, ImportState state) {
+        try {
+            persist(List.of(request), state);
+            return created(request);
+        } catch (DataIntegrityViolationException ex) {
+            return new BulkItemResponse(request.name(), "SKIPPED", DUPLICATED_MESSAGE);
+        } catch (Exception ex) {
+            logger.error("Unexpected error saving product {}: {}", request.name(), ex.getMessage(), ex);
+            return new BulkItemResponse(request.name(), "ERROR", "Unexpected error: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Inserts the products and their category links in a single transaction using JDBC batches.
+     * Categories missing from the map are created first and only added to the map once the transaction commits.
+     *
+     * @param requests the products to insert
+     * @param state    the running state of the import
+     */
+    private void persist(List<ProductRequest> requests, ImportState state) {
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        Map<String, Integer> createdCategories = transactionTemplate.execute(status -> {
+            Map<String, Integer> categoryIds = new HashMap<>(state.categoryIds);
+            Map<String, Integer> newCategories = createMissingCategories(requests, categoryIds);
+            categoryIds.putAll(newCategories);
+
+            List<Long> productIds = insertProducts(requests);
+            List<Object[]> links = new ArrayList<>();
+            for (int i = 0; i < requests.size(); i++) {
+                for (String category : requests.get(i).categories()) {
+                    links.add(new Object[]{productIds.get(i), categoryIds.get(category)});
+                }
+            }
+            for (int from = 0; from < links.size(); from += batchSize) {
+                jdbcTemplate.batchUpdate(INSERT_PRODUCT_CATEGORY, links.subList(from, Math.min(from + batchSize, links.size())));
+            }
+            eventPublisher.publishEvent(new ProductsChangedEvent(productIds));
+            return newCategories;
+        });
+
+        state.categoryIds.putAll(createdCategories);
+    }
+
+    /**
+     * Inserts the products in JDBC batches and returns their generated IDs in input order.
+     *
+     * @param requests the products to insert
+     * @return the generated product IDs
+     */
+    private List<Long> insertProducts(List<ProductRequest> requests) {
+        List<Long> ids = new ArrayList<>(requests.size());
+
+        for (int from = 0; from < requests.size(); from += batchSize) {
+            List<ProductRequest> batch = requests.subList(from, Math.min(from + batchSize, requests.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_PRODUCT, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ProductRequest request = batch.get(i);
+                            ps.setString(1, request.name());
+                            ps.setString(2, request.description());
+                            ps.setBigDecimal(3, request.price());
+                            ps.setBigDecimal(4, request.unitPrice());
+                            ps.setString(5, request.sku());
+                            ps.setString(6, request.barcode());
+                            ps.setString(7, request.brand());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return batch.size();
+                        }
+                    },
+                    keyHolder);
+
+            keyHolder.getKeyList().forEach(keys -> ids.add(((Number) keys.get("id")).longValue()));
+        }
+        return ids;
+    }
+
+    /**
+     * Creates the categories referenced by the requests that do not exist yet.
+     *
+     * @param requests    the products being inserted
+     * @param categoryIds the known category IDs by name
+     * @return the IDs of the created categories by name
+     */
+    private Map<String, Integer> createMissingCategories(List<ProductRequest> requests, Map<String, Integer> categoryIds) {
+        List<CategoryEntity> missing = requests.stream()
+                .flatMap(request -> request.categories().stream())
+                .filter(name -> !categoryIds.containsKey(name))
+                .distinct()
+                .map(name -> {
+                    CategoryEntity category = new CategoryEntity();
+                    category.setName(name);
+                    return category;
+                })
+                .toList();
+
+        if (missing.isEmpty()) {
+            return Map.of();
+        }
+        return categoryRepository.saveAllAndFlush(missing).stream()
+                .collect(Collectors.toMap(CategoryEntity::getName, CategoryEntity::getId));
+    }
+
+    /**
+     * Maps and validates a single CSV row. Safe to run in parallel.
+     *
+     * @param row the parsed CSV row
+     * @return the validated request, or the validation error
+     */
+    private ValidatedRow validate(ProductCSVRequest row) {
+        try {
+            ProductRequest request = productMapper.toRequest(row);
+            Set<ConstraintViolation<ProductRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                String error = violations.stream()
+                        .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+                return new ValidatedRow(row.getName(), null, error);
+            }
+            return new ValidatedRow(row.getName(), request, null);
+        } catch (IllegalArgumentException | IllegalStateException ex) {
+            return new ValidatedRow(row.getName(), null, ex.getMessage());
+        }
+    }
+
+    /**
+     * Loads every category once so rows can be resolved without a query per category name.
+     *
+     * @return the category IDs by name
+     */
+    private Map<String, Integer> loadCategoryIds() {
+        return categoryRepository.findAll().stream()
+                .collect(Collectors.toMap(CategoryEntity::getName, CategoryEntity::getId));
+    }
+
+    private static BulkItemResponse created(ProductRequest request) {
+        return new BulkItemResponse(request.name(), "CREATED", null);
+    }
+
+    private record ValidatedRow(String name, ProductRequest request, String error) {
+        boolean isValid() {
+            return error == null;
+        }
+    }
+
+    /**
+     * Mutable state shared across the chunks of one import.
+     */
+    private static final class ImportState {
+        private final Map<String, Integer> categoryIds;
+        private final ImportProgress progress;
+        private final Set<String> seenNames = new HashSet<>();
+        private final Set<String> seenBarcodes = new HashSet<>();
+        private final List<BulkItemResponse> results = new ArrayList<>();
+        private int created, skipped, error;
+
+        private ImportState(Map<String, Integer> categoryIds, ImportProgress progress) {
+            this.categoryIds = categoryIds;
+            this.progress = progress;
+        }
+
+        /**
+         * Reserves the unique keys of a row, so later rows of the same file with the same keys are skipped.
+         */
+        private boolean claim(ProductRequest request) {
+            if (seenNames.contains(request.name())
+                    || (request.barcode() != null && seenBarcodes.contains(request.barcode()))) {
+                return false;
+            }
+            seenNames.add(request.name());
+            if (request.barcode() != null) {
+                seenBarcodes.add(request.barcode());
+            }
+            return true;
+        }
+
+        private void record(BulkItemResponse[] chunkResults) {
+            int chunkCreated = 0, chunkSkipped = 0, chunkError = 0;
+            for (BulkItemResponse result : chunkResults) {
+                switch (result.getStatus()) {
+                    case "CREATED" -> chunkCreated++;
+                    case "SKIPPED" -> chunkSkipped++;
+                    default -> chunkError++;
+                }
+                results.add(result);
+            }
+            created += chunkCreated;
+            skipped += chunkSkipped;
+            error += chunkError;
+            progress.rowsProcessed(chunkCreated, chunkSkipped, chunkError);
+        }
+
+        private void error(String name, String message) {
+            record(new BulkItemResponse[]{new BulkItemResponse(name, "ERROR", message)});
+        }
+
+        private BulkProductResponse toResponse() {
+            return new BulkProductResponse(results.size(), created, skipped, error, results);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package org.stockify.model.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+import org.stockify.dto.request.product.ProductViewRequest;
+import org.stockify.dto.response.ProductResponse;
+import org.stockify.dto.response.StockResponse;
+import org.stockify.model.entity.ProductEntity;
+import org.stockify.model.enums.ProductField;
+import org.stockify.model.exception.NotFoundException;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Read path for product listings and lookups that never loads product entities or their lazy collections.
+ * <p>
+ * The scalar columns of a page are read with one tuple query (plus one count query when needed);
+ * the long description is only selected when requested.
+ * Category names, provider IDs and stock rows of the whole page are then loaded with one {@code IN (...)}
+ * query each, and only for the parts the request includes. Stock can be restricted to a single store.
+ * A page therefore costs a fixed number of queries whatever its size.
+ * Single products are served from the {@link ProductCache}, and only their stock is read from the database.
+ * </p>
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ProductReadService {
+
+    private final ProductCache productCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Retrieves a page of products matching a specification.
+     *
+     * @param spec     the filters to apply
+     * @param pageable pagination and sorting information
+     * @param view     the optional parts to include and the store to restrict stock to
+     * @return the page of products
+     */
+    public Page<ProductResponse> findAll(Specification<ProductEntity> spec, Pageable pageable, ProductViewRequest view) {
+        Set<ProductField> fields = view.includedFields();
+        boolean withDescription = fields.contains(ProductField.DESCRIPTION);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ProductEntity> root = query.from(ProductEntity.class);
+
+        List<Selection<?>> selections = new ArrayList<>(List.of(
+                root.get("id"), root.get("name"), root.get("price"), root.get("unitPrice"),
+                root.get("sku"), root.get("barcode"), root.get("brand")));
+        if (withDescription) {
+            selections.add(root.get("description"));
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize());
+        }
+
+        List<ProductRow> rows = typedQuery.getResultList().stream()
+                .map(tuple -> new ProductRow(
+                        tuple.get(0, Long.class),
+                        tuple.get(1, String.class),
+                        tuple.get(2, BigDecimal.class),
+                        tuple.get(3, BigDecimal.class),
+                        tuple.get(4, String.class),
+                        tuple.get(5, String.class),
+                        tuple.get(6, String.class),
+                        withDescription ? tuple.get(7, String.class) : null))
+                .toList();
+
+        return PageableExecutionUtils.getPage(assemble(rows, fields, view.getStoreId()), pageable, () -> count(spec));
+    }
+
+    /**
+     * Retrieves a single product.
+     *
+     * @param id   the ID of the product
+     * @param view the optional parts to include and the store to restrict stock to
+     * @return the product
+     * @throws NotFoundException if no product exists with the given ID
+     */
+    public ProductResponse findById(Long id, ProductViewRequest view) {
+        ProductCache.ProductView product = productCache.find(id)
+                .orElseThrow(() -> new NotFoundException("Product with ID " + id + " not found"));
+        Set<ProductField> fields = view.includedFields();
+
+        return new ProductResponse(
+                product.id(),
+                product.name(),
+                product.price() != null ? product.price().doubleValue() : 0,
+                product.unitPrice() != null ? product.unitPrice().doubleValue() : 0,
+                product.sku(),
+                product.barcode(),
+                fields.contains(ProductField.DESCRIPTION) ? product.description() : null,
+                product.brand(),
+                fields.contains(ProductField.CATEGORIES) ? product.categories() : null,
+                fields.contains(ProductField.PROVIDERS) ? product.providers() : null,
+                fields.contains(ProductField.STOCKS) ? loadStocks(List.of(id), view.getStoreId()).get(id) : null);
+    }
+
+    /**
+     * Builds the responses of already loaded products, fetching their collections in batches.
+     *
+     * @param products the products, in the order of the responses
+     * @param view     the optional parts to include and the store to restrict stock to
+     * @return the responses, in the order of the products
+     */
+    public List<ProductResponse> toResponses(List<ProductEntity> products, ProductViewRequest view) {
+        Set<ProductField> fields = view.includedFields();
+        List<ProductRow> rows = products.stream()
+                .map(product -> new ProductRow(product.getId(), product.getName(), product.getPrice(),
+                        product.getUnitPrice(), product.getSku(), product.getBarcode(), product.getBrand(),
+                        fields.contains(ProductField.DESCRIPTION) ? product.getDescription() : null))
+                .toList();
+        return assemble(rows, fields, view.getStoreId());
+    }
+
+    // --- Auxiliary methods ---
+
+    private long count(Specification<ProductEntity> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<ProductEntity> root = query.from(ProductEntity.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<ProductResponse> assemble(List<ProductRow> rows, Set<ProductField> fields, Long storeId) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = rows.stream().map(ProductRow::id).toList();
+
+        Map<Long, Set<String>> categories = fields.contains(ProductField.CATEGORIES)
+                ? loadCategoryNames(ids) : Map.of();
+        Map<Long, Set<Long>> providers = fields.contains(ProductField.PROVIDERS)
+                ? loadProviderIds(ids) : Map.of();
+        Map<Long, Set<StockResponse>> stocks = fields.contains(ProductField.STOCKS)
+                ? loadStocks(ids, storeId) : Map.of();
+
+        return rows.stream()
+                .map(row -> new ProductResponse(
+                        row.id(),
+                        row.name(),
+                        row.price() != null ? row.price().doubleValue() : 0,
+                        row.unitPrice() != null ? row.unitPrice().doubleValue() : 0,
+                        row.sku(),
+                        row.barcode(),
+                        row.description(),
+                        row.brand(),
+                        categories.get(row.id()),
+                        providers.get(row.id()),
+                        stocks.get(row.id())))
+                .toList();
+    }
+
+    private Map<Long, Set<String>> loadCategoryNames(Collection<Long> ids) {
+        Map<Long, Set<String>> result = new HashMap<>();
+        entityManager.createQuery("SELECT p.id, c.name FROM ProductEntity p JOIN p.categories c WHERE p.id IN :ids",
+                        Tuple.class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .forEach(tuple -> result.computeIfAbsent(tuple.get(0, Long.class), id -> new HashSet<>())
+                        .add(tuple.get(1, String.class)));
+        return result;
+    }
+
+    private Map<Long, Set<Long>> loadProviderIds(Collection<Long> ids) {
+        Map<Long, Set<Long>> result = new HashMap<>();
+        entityManager.createQuery("SELECT p.id, pr.id FROM ProductEntity p JOIN p.providers pr WHERE p.id IN :ids",
+                        Tuple.class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .forEach(tuple -> result.computeIfAbsent(tuple.get(0, Long.class), id -> new HashSet<>())
+                        .add(tuple.get(1, Long.class)));
+        return result;
+    }
+
+    private Map<Long, Set<StockResponse>> loadStocks(Collection<Long> ids, Long storeId) {
+        String jpql = "SELECT s.product.id, s.store.id, s.quantity FROM StockEntity s WHERE s.product.id IN :ids"
+                + (storeId != null ? " AND s.store.id = :storeId" : "");
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class)
+                .setParameter("ids", ids);
+        if (storeId != null) {
+            query.setParameter("storeId", storeId);
+        }
+
+        Map<Long, Set<StockResponse>> result = new HashMap<>();
+        query.getResultList().forEach(tuple -> {
+            Long productId = tuple.get(0, Long.class);
+            result.computeIfAbsent(productId, id -> new HashSet<>())
+                    .add(new StockResponse(productId, tuple.get(1, Long.class), tuple.get(2, Double.class)));
+        });
+        return result;
+    }
+
+    /**
+     * Scalar columns of a product, as read from the database.
+     */
+    private record ProductRow(Long id, String name, BigDecimal price, BigDecimal unitPrice,
+                              String sku, String barcode, String brand, String description) {
+    }
+}
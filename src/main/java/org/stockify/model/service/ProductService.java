@@ -1,40 +1,50 @@
 package org.stockify.model.service;
 
-import com.opencsv.bean.CsvToBeanBuilder;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
-import org.stockify.dto.request.product.ProductCSVRequest;
+import org.stockify.config.SearchIndexConfig;
 import org.stockify.dto.request.product.ProductFilterRequest;
 import org.stockify.dto.request.product.ProductRequest;
+import org.stockify.dto.request.product.ProductViewRequest;
 import org.stockify.dto.response.BulkItemResponse;
 import org.stockify.dto.response.BulkProductResponse;
 import org.stockify.dto.response.CategoryResponse;
+import org.stockify.dto.response.ImportJobResponse;
 import org.stockify.dto.response.ProductResponse;
 import org.stockify.model.entity.CategoryEntity;
 import org.stockify.model.entity.ProductEntity;
 import org.stockify.model.entity.ProviderEntity;
+import org.stockify.model.event.ProductsChangedEvent;
 import org.stockify.model.exception.DuplicatedUniqueConstraintException;
+import org.stockify.model.exception.InvalidCursorException;
 import org.stockify.model.exception.NotFoundException;
 import org.stockify.model.mapper.CategoryMapper;
 import org.stockify.model.mapper.ProductMapper;
+import org.stockify.model.pagination.KeysetPagination;
 import org.stockify.model.repository.CategoryRepository;
 import org.stockify.model.repository.ProductRepository;
 import org.stockify.model.repository.ProviderRepository;
 import org.stockify.model.specification.ProductSpecifications;
 import org.stockify.model.specification.SpecificationBuilder;
 
-import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -48,22 +58,33 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProductService {
 
+    private static final int MAX_SEARCH_TOKENS = 8;
+
+    /** Non-null properties product windows can be sorted by in cursor mode; brand, SKU, barcode and price may be null. */
+    private static final Set<String> CURSOR_SORTS = Set.of("id", "name");
+
     private final ProductMapper productMapper;
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final Logger logger = LoggerFactory.getLogger(ProductService.class);
     private final CategoryMapper categoryMapper;
     private final ProviderRepository providerRepository;
+    private final ProductImportService productImportService;
+    private final ImportJobService importJobService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductReadService productReadService;
+    private final SearchIndexConfig searchIndexConfig;
 
     /**
      * Finds a product by its ID.
      *
-     * @param id the ID of the product to find
+     * @param id   the ID of the product to find
+     * @param view the optional parts to include in the response, and the store to restrict stock to
      * @return a DTO containing the found product's data
      * @throws NotFoundException if no product is found with the given ID
      */
-    public ProductResponse findById(Long id) {
-        return productMapper.toResponse(getProductById(id));
+    public ProductResponse findById(Long id, ProductViewRequest view) {
+        return productReadService.findById(id, view);
     }
 
     /**
@@ -89,6 +110,7 @@ public class ProductService {
         }
 
         product = productRepository.save(product);
+        productsChanged(product.getId());
         return productMapper.toResponse(product);
     }
 
@@ -143,26 +165,15 @@ public class ProductService {
     }
 
     /**
-     * Imports products from a CSV file.
+     * Imports products from a CSV file as a background job.
+     * The file is streamed and persisted in chunks by {@link ProductImportService}.
      *
      * @param file the CSV file containing product data
-     * @return a response summarizing the import operation including counts and detailed results
-     * @throws Exception if an error occurs while processing the file
+     * @return the status of the submitted import job, to be polled for progress and the per-row result
+     * @throws org.stockify.model.exception.ImportJobRejectedException if the import cannot be queued
      */
-    public BulkProductResponse importProductsCsv(MultipartFile file) throws Exception {
-        InputStreamReader reader = new InputStreamReader(file.getInputStream());
-
-        List<ProductCSVRequest> csvDtos = new CsvToBeanBuilder<ProductCSVRequest>(reader)
-                .withType(ProductCSVRequest.class)
-                .withIgnoreLeadingWhiteSpace(true)
-                .build()
-                .parse();
-
-        List<ProductRequest> requests = csvDtos.stream()
-                .map(productMapper::toRequest)
-                .collect(Collectors.toList());
-
-        return saveAll(requests);
+    public ImportJobResponse importProductsCsv(MultipartFile file) {
+        return importJobService.submit("products", file, productImportService::importCsv);
     }
 
     /**
@@ -172,6 +183,7 @@ public class ProductService {
      */
     public void deleteById(Long id) {
         productRepository.deleteById(id);
+        productsChanged(id);
     }
 
     /**
@@ -185,7 +197,9 @@ public class ProductService {
     public ProductResponse update(Long id, ProductRequest request) {
         ProductEntity product = getProductById(id);
         productMapper.updateEntityFromRequest(request, product);
-        return productMapper.toResponse(productRepository.save(product));
+        product = productRepository.save(product);
+        productsChanged(id);
+        return productMapper.toResponse(product);
     }
 
     /**
@@ -199,7 +213,9 @@ public class ProductService {
     public ProductResponse patch(Long id, ProductRequest request) {
         ProductEntity product = getProductById(id);
         productMapper.patchEntityFromRequest(request, product);
-        return productMapper.toResponse(productRepository.save(product));
+        product = productRepository.save(product);
+        productsChanged(id);
+        return productMapper.toResponse(product);
     }
 
     /**
@@ -214,7 +230,9 @@ public class ProductService {
         ProductEntity product = getProductById(productId);
         CategoryEntity category = getCategoryById(categoryId);
         product.getCategories().remove(category);
-        return productMapper.toResponse(productRepository.save(product));
+        product = productRepository.save(product);
+        productsChanged(productId);
+        return productMapper.toResponse(product);
     }
 
     /**
@@ -227,7 +245,9 @@ public class ProductService {
     public ProductResponse deleteAllCategoryFromProduct(Long productId) {
         ProductEntity product = getProductById(productId);
         product.getCategories().clear();
-        return productMapper.toResponse(productRepository.save(product));
+        product = productRepository.save(product);
+        productsChanged(productId);
+        return productMapper.toResponse(product);
     }
 
     /**
@@ -264,7 +284,9 @@ public class ProductService {
         ProductEntity product = getProductById(productId);
         CategoryEntity category = getCategoryById(categoryId);
         product.getCategories().add(category);
-        return productMapper.toResponse(productRepository.save(product));
+        product = productRepository.save(product);
+        productsChanged(productId);
+        return productMapper.toResponse(product);
     }
 
 
@@ -293,6 +315,7 @@ public class ProductService {
                     "Provider " + providerID + " already assigned to product " + productID + " or the other way around");
         }
 
+        productsChanged(productID);
         return productMapper.toResponse(product);
     }
 
@@ -314,6 +337,7 @@ public class ProductService {
         productRepository.save(product);
         providerRepository.save(provider);
 
+        productsChanged(productID);
         return productMapper.toResponse(product);
     }
 
@@ -338,6 +362,15 @@ public class ProductService {
 
     // --- Auxiliary methods ---
 
+    /**
+     * Publishes a product change, delivered to listeners once the surrounding transaction (if any) commits.
+     *
+     * @param id the ID of the changed product
+     */
+    private void productsChanged(Long id) {
+        eventPublisher.publishEvent(new ProductsChangedEvent(List.of(id)));
+    }
+
     /**
      * Auxiliary method to find a product entity by its ID.
      *
@@ -374,6 +407,50 @@ public class ProductService {
                 .orElseThrow(() -> new NotFoundException("Provider with ID " + id + " not found"));
     }
 
+    /**
+     * Auxiliary method to escape the wildcards of a LIKE pattern, so the term matches literally.
+     *
+     * @param term the text to match
+     * @return the escaped text
+     */
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Ranked free-text product search over name, brand, description, barcode and SKU.
+     * Each word of the query matches as a prefix, and names within a small edit distance also match,
+     * so partial and slightly misspelled queries still find the product. Exact barcode or SKU matches rank first.
+     * Without the pg_trgm extension, names match by substring instead, without typo tolerance.
+     *
+     * @param query    the text to search for
+     * @param pageable pagination information; sorting is ignored since results are ordered by relevance
+     * @param view     the optional parts to include in each product, and the store to restrict stock to
+     * @return a paginated list of matching products, most relevant first
+     */
+    public Page<ProductResponse> search(String query, Pageable pageable, ProductViewRequest view) {
+        String term = query == null ? "" : query.trim();
+        String tsQuery = Arrays.stream(term.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .limit(MAX_SEARCH_TOKENS)
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+
+        if (tsQuery.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        PageRequest page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Page<Long> ids = searchIndexConfig.isTrigramAvailable()
+                ? productRepository.searchIds(term, tsQuery, page)
+                : productRepository.searchIdsWithoutTrigrams(term, tsQuery, "%" + escapeLike(term) + "%", page);
+        Map<Long, ProductResponse> products = productReadService
+                .toResponses(productRepository.findAllById(ids.getContent()), view).stream()
+                .collect(Collectors.toMap(ProductResponse::id, Function.identity()));
+
+        return ids.map(products::get);
+    }
+
     /**
      * Searches for products applying filters and pagination.
      * This method builds a dynamic query specification based on the provided filter criteria,
@@ -390,11 +467,43 @@ public class ProductService {
      *                      - category, categories
      *                      - provider, providers
      *                      - stock, stockLessThan, stockGreaterThan, stockBetween
+     * @param view DTO selecting the optional parts to include in each product, and the store to restrict stock to.
      * @return A paginated list (Page) of products matching the filter criteria,
      *         each mapped to a ProductResponse DTO.
      */
-    public Page<ProductResponse> findAll(Pageable pageable, ProductFilterRequest filterRequest) {
-        Specification<ProductEntity> spec = new SpecificationBuilder<ProductEntity>()
+    public Page<ProductResponse> findAll(Pageable pageable, ProductFilterRequest filterRequest, ProductViewRequest view) {
+        Page<ProductResponse> page = productReadService.findAll(buildSpecification(filterRequest), pageable, view);
+
+        if (page.isEmpty()) {
+            logger.warn("Products list is empty for pageable: {}", pageable);
+        }
+
+        return page;
+    }
+
+    /**
+     * Retrieves the window of products after a cursor, applying the same filters as {@link #findAll}.
+     * Rows are read with a keyset condition on the sort keys and the product ID, and no total count is computed.
+     *
+     * @param pageable      the window size and sorting; the page number is ignored
+     * @param filterRequest DTO containing the filtering criteria to apply
+     * @param view          DTO selecting the optional parts to include in each product
+     * @param cursor        the cursor returned with the previous window, or null for the first one
+     * @return the window of products matching the filter criteria
+     * @throws InvalidCursorException if the cursor is malformed or the sort uses a property outside the cursor sorts
+     */
+    public Window<ProductResponse> scroll(Pageable pageable, ProductFilterRequest filterRequest,
+                                          ProductViewRequest view, String cursor) {
+        Window<ProductEntity> window =
+                KeysetPagination.scroll(productRepository, buildSpecification(filterRequest), pageable, cursor,
+                        CURSOR_SORTS);
+        Map<Long, ProductResponse> products = productReadService.toResponses(window.getContent(), view).stream()
+                .collect(Collectors.toMap(ProductResponse::id, Function.identity()));
+        return window.map(product -> products.get(product.getId()));
+    }
+
+    private Specification<ProductEntity> buildSpecification(ProductFilterRequest filterRequest) {
+        return new SpecificationBuilder<ProductEntity>()
                 .add(filterRequest.getPrice() != null ? ProductSpecifications.byPrice(filterRequest.getPrice()) : null)
                 .add(filterRequest.getName() != null && !filterRequest.getName().isEmpty() ? ProductSpecifications.byName(filterRequest.getName()) : null)
                 .add(filterRequest.getDescription() != null && !filterRequest.getDescription().isEmpty() ? ProductSpecifications.byDescription(filterRequest.getDescription()) : null)
@@ -421,14 +530,6 @@ public class ProductService {
                         filterRequest.getStockBetween().get(1))
                         : null)
                 .build();
-
-        Page<ProductEntity> page = productRepository.findAll(spec, pageable);
-
-        if (page.isEmpty()) {
-            logger.warn("Products list is empty for pageable: {}", pageable);
-        }
-
-        return page.map(productMapper::toResponse);
     }
 
 
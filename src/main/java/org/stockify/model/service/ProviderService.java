@@ -1,7 +1,11 @@
 package org.stockify.model.service;
 
+import com.opencsv.bean.CsvToBean;
 import com.opencsv.bean.CsvToBeanBuilder;
+import com.opencsv.exceptions.CsvException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -11,16 +15,22 @@ import org.stockify.dto.request.provider.ProviderCsvRequest;
 import org.stockify.dto.request.provider.ProviderFilterRequest;
 import org.stockify.dto.request.provider.ProviderRequest;
 import org.stockify.dto.response.BulkProviderResponse;
+import org.stockify.dto.response.ImportJobResponse;
 import org.stockify.dto.response.ProviderResponse;
 import org.stockify.model.entity.ProductEntity;
 import org.stockify.model.entity.ProviderEntity;
+import org.stockify.model.event.ProductsChangedEvent;
 import org.stockify.model.exception.NotFoundException;
 import org.stockify.model.mapper.ProviderMapper;
 import org.stockify.model.repository.ProductRepository;
 import org.stockify.model.repository.ProviderRepository;
 import org.stockify.model.specification.ProviderSpecification;
 
+import java.io.BufferedReader;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -36,6 +46,11 @@ public class ProviderService {
     private final ProviderRepository providerRepository;
     private final ProductRepository productRepository;
     private final ProviderMapper providerMapper;
+    private final ImportJobService importJobService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${provider-import.chunk-size:500}")
+    private int importChunkSize;
 
     /**
      * Saves a new provider in the system.
@@ -77,26 +92,56 @@ public class ProviderService {
     }
 
     /**
-     * Import providers from a CSV file.
+     * Import providers from a CSV file as a background job.
      *
      * @param file CSV file containing provider data
-     * @return BulkProviderResponse containing created providers and errors
-     * @throws Exception if there is an error, reading the file or processing the data
+     * @return the status of the submitted import job, to be polled for progress and the BulkProviderResponse result
+     * @throws org.stockify.model.exception.ImportJobRejectedException if the import cannot be queued
      */
-    public BulkProviderResponse importProvidersCsv(MultipartFile file) throws Exception {
-        InputStreamReader reader = new InputStreamReader(file.getInputStream());
+    public ImportJobResponse importProvidersCsv(MultipartFile file) {
+        return importJobService.submit("providers", file, this::importProviders);
+    }
 
-        List<ProviderCsvRequest> csvDto = new CsvToBeanBuilder<ProviderCsvRequest>(reader)
+    /**
+     * Imports providers from a CSV stream, reading and saving them in chunks.
+     * Progress is reported after every chunk, and the import stops between chunks once cancelled.
+     *
+     * @param input    the CSV content
+     * @param progress the sink for per-chunk progress
+     * @return BulkProviderResponse containing created providers and errors
+     */
+    public BulkProviderResponse importProviders(InputStream input, ImportProgress progress) {
+        CsvToBean<ProviderCsvRequest> csv = new CsvToBeanBuilder<ProviderCsvRequest>(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)))
                 .withType(ProviderCsvRequest.class)
                 .withIgnoreLeadingWhiteSpace(true)
-                .build()
-                .parse();
+                .withThrowExceptions(false)
+                .build();
+
+        List<ProviderResponse> responses = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        List<ProviderRequest> chunk = new ArrayList<>(importChunkSize);
+
+        for (ProviderCsvRequest row : csv) {
+            if (progress.isCancelled()) {
+                return new BulkProviderResponse(responses, errors);
+            }
+            chunk.add(providerMapper.toRequestDTO(row));
+            if (chunk.size() == importChunkSize) {
+                importChunk(chunk, responses, errors, progress);
+                chunk = new ArrayList<>(importChunkSize);
+            }
+        }
+        if (!chunk.isEmpty() && !progress.isCancelled()) {
+            importChunk(chunk, responses, errors, progress);
+        }
 
-        List<ProviderRequest> providers = csvDto.stream()
-                .map(providerMapper::toRequestDTO)
-                .toList();
+        for (CsvException ex : csv.getCapturedExceptions()) {
+            errors.add("Error reading line " + ex.getLineNumber() + ": " + ex.getMessage());
+        }
+        progress.rowsProcessed(0, 0, csv.getCapturedExceptions().size());
 
-        return saveAll(providers);
+        return new BulkProviderResponse(responses, errors);
     }
 
     /**
@@ -213,6 +258,7 @@ public class ProviderService {
 
         providerRepository.save(provider);
         productRepository.save(product);
+        eventPublisher.publishEvent(new ProductsChangedEvent(List.of(productID)));
 
         return providerMapper.toResponseDTO(provider);
     }
@@ -233,6 +279,7 @@ public class ProviderService {
 
         providerRepository.save(provider);
         productRepository.save(product);
+        eventPublisher.publishEvent(new ProductsChangedEvent(List.of(productID)));
 
         return providerMapper.toResponseDTO(provider);
     }
@@ -262,4 +309,20 @@ public class ProviderService {
         return providerRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Provider with ID " + id + " not found"));
     }
+
+    /**
+     * Saves one chunk of imported providers and reports its outcome.
+     *
+     * @param chunk     the providers to save
+     * @param responses accumulated created providers
+     * @param errors    accumulated error messages
+     * @param progress  the sink for per-chunk progress
+     */
+    private void importChunk(List<ProviderRequest> chunk, List<ProviderResponse> responses,
+                             List<String> errors, ImportProgress progress) {
+        BulkProviderResponse result = saveAll(chunk);
+        responses.addAll(result.getResults());
+        errors.addAll(result.getErrors());
+        progress.rowsProcessed(result.getResults().size(), 0, result.getErrors().size());
+    }
 }
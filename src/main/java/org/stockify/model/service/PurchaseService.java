@@ -4,22 +4,23 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.stockify.dto.request.purchase.PurchaseFilterRequest;
 import org.stockify.dto.request.purchase.PurchaseRequest;
+import org.stockify.dto.request.transaction.DetailTransactionRequest;
 import org.stockify.dto.response.PurchaseResponse;
 import org.stockify.model.entity.EmployeeEntity;
 import org.stockify.model.entity.PosEntity;
 import org.stockify.model.entity.PurchaseEntity;
 import org.stockify.model.entity.TransactionEntity;
-import org.stockify.model.enums.PaymentMethod;
 import org.stockify.model.enums.TransactionType;
-import org.stockify.model.exception.InvalidSessionStatusException;
+import org.stockify.model.exception.InvalidCursorException;
 import org.stockify.model.exception.NotFoundException;
 import org.stockify.model.mapper.PurchaseMapper;
-import org.stockify.model.repository.PosRepository;
+import org.stockify.model.pagination.KeysetPagination;
 import org.stockify.model.repository.ProviderRepository;
 import org.stockify.model.repository.PurchaseRepository;
 import org.stockify.model.repository.TransactionRepository;
@@ -28,7 +29,9 @@ import org.stockify.security.model.entity.CredentialsEntity;
 import org.stockify.security.repository.CredentialRepository;
 import org.stockify.security.service.JwtService;
 
-import java.math.BigDecimal;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 /**
  * Service class responsible for handling business logic related to purchases.
@@ -40,16 +43,19 @@ import java.math.BigDecimal;
 @Transactional
 public class PurchaseService {
 
+    /** Properties purchase windows can be sorted by in cursor mode. */
+    private static final Set<String> CURSOR_SORTS = Set.of("id");
+
     private final PurchaseRepository purchaseRepository;
     private final PurchaseMapper purchaseMapper;
     private final StockService stockService;
     private final TransactionService transactionService;
     private final TransactionRepository transactionRepository;
     private final ProviderRepository providerRepository;
-    private final PosRepository posRepository;
     private final SessionPosService sessionPosService;
     private final JwtService jwtService;
     private final CredentialRepository credentialRepository;
+    private final CashLedgerService cashLedgerService;
 
     /**
      * Creates a new purchase and updates the stock of the corresponding products.
@@ -65,29 +71,18 @@ public class PurchaseService {
         PosEntity posEntity = transactionService.validatePosAndEmployee(posID);
         Long localId = posEntity.getStore().getId();
 
-        request.getTransaction().getDetailTransactions()
-                .forEach(detail -> stockService.increaseStock(
-                        detail.getProductID(), localId, detail.getQuantity()));
+        // One update per product in ascending product ID order, the order sales lock the same stock rows in
+        request.getTransaction().getDetailTransactions().stream()
+                .collect(Collectors.toMap(DetailTransactionRequest::getProductID,
+                        DetailTransactionRequest::getQuantity, Double::sum, TreeMap::new))
+                .forEach((productId, quantity) -> stockService.increaseStock(productId, localId, quantity));
 
 
         TransactionEntity transaction = transactionService.createTransaction(
                 request.getTransaction(), localId, posID, TransactionType.PURCHASE);
 
-        // Check if payment method is CASH and verify if there's enough cash in the POS
-        if (request.getTransaction().getPaymentMethod() == PaymentMethod.CASH) {
-            BigDecimal transactionTotal = transaction.getTotal();
-            BigDecimal currentPosAmount = posEntity.getCurrentAmount();
-
-            // Verify if there's enough cash in the POS
-            if (currentPosAmount == null || currentPosAmount.compareTo(transactionTotal) < 0) {
-                throw new InvalidSessionStatusException("Not enough cash in the POS to complete this purchase. Available: " + 
-                    (currentPosAmount != null ? currentPosAmount : "0") + ", Required: " + transactionTotal);
-            }
-
-            // Deduct the cash from the POS
-            posEntity.setCurrentAmount(currentPosAmount.subtract(transactionTotal));
-            posRepository.save(posEntity);
-        }
+        // Pay the purchase from the POS drawer when it is paid in cash
+        cashLedgerService.recordPurchase(posID, transaction);
 
         PurchaseEntity purchase = purchaseMapper.toEntity(request);
 
@@ -131,12 +126,30 @@ public class PurchaseService {
      * @return a page of purchase response DTOs that match the criteria
      */
     public Page<PurchaseResponse> getAllPurchases(Pageable pageable, PurchaseFilterRequest request) {
-        Specification<PurchaseEntity> spec = Specification
+        return purchaseRepository.findAll(buildSpecification(request), pageable)
+                .map(purchaseMapper::toResponseDTO);
+    }
+
+    /**
+     * Retrieves the window of purchases after a cursor, applying the same filters as {@link #getAllPurchases}.
+     * No total count is computed.
+     *
+     * @param pageable the window size and sorting; the page number is ignored
+     * @param request  the filter DTO containing optional transaction ID, provider ID, and purchase ID
+     * @param cursor   the cursor returned with the previous window, or null for the first one
+     * @return the window of purchase response DTOs that match the criteria
+     * @throws InvalidCursorException if the cursor is malformed or the sort uses a property outside the cursor sorts
+     */
+    public Window<PurchaseResponse> scrollPurchases(Pageable pageable, PurchaseFilterRequest request, String cursor) {
+        return KeysetPagination.scroll(purchaseRepository, buildSpecification(request), pageable, cursor, CURSOR_SORTS)
+                .map(purchaseMapper::toResponseDTO);
+    }
+
+    private Specification<PurchaseEntity> buildSpecification(PurchaseFilterRequest request) {
+        return Specification
                 .where(PurchaseSpecification.ByTransactionId(request.getTransactionId()))
                 .and(PurchaseSpecification.ByProviderId(request.getProviderId()))
                 .and(PurchaseSpecification.ByPurchaseId(request.getPurchaseId()));
-        return purchaseRepository.findAll(spec, pageable)
-                .map(purchaseMapper::toResponseDTO);
     }
 
     /**
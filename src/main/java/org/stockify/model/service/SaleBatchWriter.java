@@ -0,0 +1,305 @@
+package org.stockify.model.service;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.stockify.dto.request.sale.SaleRequest;
+import org.stockify.dto.request.transaction.DetailTransactionRequest;
+import org.stockify.dto.response.SaleResponse;
+import org.stockify.model.entity.*;
+import org.stockify.model.enums.StockMovementType;
+import org.stockify.model.enums.TransactionType;
+import org.stockify.model.event.StockChangedEvent;
+import org.stockify.model.event.TransactionRecordedEvent;
+import org.stockify.model.exception.InsufficientStockException;
+import org.stockify.model.exception.InvalidSessionStatusException;
+import org.stockify.model.exception.NotFoundException;
+import org.stockify.model.mapper.SaleMapper;
+import org.stockify.model.repository.*;
+import org.stockify.security.model.entity.CredentialsEntity;
+import org.stockify.security.repository.CredentialRepository;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes a micro-batch of online sales, possibly from several POS and stores, in one transaction.
+ * <p>
+ * Every sale is first checked against its POS, its open session and the employee who sent it, as
+ * {@link TransactionService#validatePosAndEmployee} does on the request thread. Products are resolved from the
+ * {@link ProductCache}, clients with one query, and the stock rows of each store with one query, locked in product
+ * order. Sales are applied in queue order against the in-memory quantities, so
+ * every stock row is written once with the aggregated change of the batch, and all transactions, sales, stock
+ * movements and cash movements are saved with batched inserts. A sale that cannot be recorded gets the same error
+ * {@link SaleService#createSale} would throw for it, without failing the rest of the batch.
+ * </p>
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class SaleBatchWriter {
+
+    private final ProductCache productCache;
+    private final ProductRepository productRepository;
+    private final ClientRepository clientRepository;
+    private final StoreRepository storeRepository;
+    private final SessionPosRepository sessionPosRepository;
+    private final PosRepository posRepository;
+    private final CredentialRepository credentialRepository;
+    private final StockRepository stockRepository;
+    private final TransactionRepository transactionRepository;
+    private final SaleRepository saleRepository;
+    private final StockAlertService stockAlertService;
+    private final StockLedgerService stockLedgerService;
+    private final CashLedgerService cashLedgerService;
+    private final SaleMapper saleMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Validates and records a batch of sales.
+     *
+     * @param sales the sales, in the order they were received
+     * @return the outcome of every sale, in the same order
+     * @throws InvalidSessionStatusException if a POS was closed while its sales were being recorded,
+     *                                       which fails the whole batch
+     */
+    public List<Result> write(List<PendingSale> sales) {
+        // The POS, open session and employee of every sale, one query each per POS and employee
+        Map<Long, PosEntity> poses = posRepository.findAllById(sales.stream().map(PendingSale::posId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(PosEntity::getId, Function.identity()));
+        Map<Long, Optional<SessionPosEntity>> sessions = new HashMap<>();
+        Map<String, Optional<CredentialsEntity>> credentials = new HashMap<>();
+        Map<Integer, Long> storeIds = new HashMap<>();
+        Map<Integer, RuntimeException> rejected = new HashMap<>();
+        for (int i = 0; i < sales.size(); i++) {
+            PendingSale sale = sales.get(i);
+            Optional<SessionPosEntity> session = sessions.computeIfAbsent(sale.posId(),
+                    posId -> sessionPosRepository.findByPosEntity_IdAndCloseTime(posId, null));
+            Optional<CredentialsEntity> account = credentials.computeIfAbsent(sale.employeeEmail(),
+                    credentialRepository::findByEmail);
+            RuntimeException rejection = validatePos(sale, poses.get(sale.posId()), session, account);
+            if (rejection != null) {
+                rejected.put(i, rejection);
+            } else {
+                storeIds.put(i, poses.get(sale.posId()).getStore().getId());
+            }
+        }
+
+        Set<Long> productIds = sales.stream()
+                .flatMap(sale -> sale.request().getTransaction().getDetailTransactions().stream())
+                .map(DetailTransactionRequest::getProductID)
+                .collect(Collectors.toCollection(TreeSet::new));
+        Set<Long> clientIds = sales.stream()
+                .map(sale -> sale.request().getClientId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, ProductCache.ProductView> products = productCache.getAll(productIds);
+        Map<Long, ClientEntity> clients = clientRepository.findAllById(clientIds).stream()
+                .collect(Collectors.toMap(ClientEntity::getId, Function.identity()));
+
+        // Lock the stock rows of every store, stores and products always in the same order
+        Map<Long, Set<Long>> productsByStore = new TreeMap<>();
+        storeIds.forEach((i, storeId) -> sales.get(i).request().getTransaction().getDetailTransactions().forEach(line ->
+                productsByStore.computeIfAbsent(storeId, id -> new TreeSet<>()).add(line.getProductID())));
+        Map<Long, Map<Long, StockEntity>> stocks = new HashMap<>();
+        Map<Long, Map<Long, Double>> quantities = new HashMap<>();
+        productsByStore.forEach((storeId, storeProducts) -> {
+            Map<Long, StockEntity> storeStocks = stockRepository
+                    .findAllByStoreIdAndProductIdsForUpdate(storeId, storeProducts).stream()
+                    .collect(Collectors.toMap(stock -> stock.getProduct().getId(), Function.identity()));
+            stocks.put(storeId, storeStocks);
+            Map<Long, Double> storeQuantities = new HashMap<>();
+            storeStocks.forEach((productId, stock) -> storeQuantities.put(productId, stock.getQuantity()));
+            quantities.put(storeId, storeQuantities);
+        });
+
+        // Apply the sales in the order they were received
+        Map<Integer, SaleEntity> created = new LinkedHashMap<>();
+        Map<Long, Map<Long, Double>> sold = new TreeMap<>();
+        for (int i = 0; i < sales.size(); i++) {
+            if (rejected.containsKey(i)) {
+                continue;
+            }
+            PendingSale sale = sales.get(i);
+            Long storeId = storeIds.get(i);
+            Map<Long, Double> requested = sale.request().getTransaction().getDetailTransactions().stream()
+                    .collect(Collectors.toMap(DetailTransactionRequest::getProductID,
+                            DetailTransactionRequest::getQuantity, Double::sum, TreeMap::new));
+            RuntimeException rejection = validate(sale, storeId, requested, products, clients,
+                    stocks.getOrDefault(storeId, Map.of()), quantities.getOrDefault(storeId, Map.of()));
+            if (rejection != null) {
+                rejected.put(i, rejection);
+                continue;
+            }
+
+            requested.forEach((productId, quantity) -> {
+                quantities.get(storeId).merge(productId, -quantity, Double::sum);
+                sold.computeIfAbsent(storeId, id -> new TreeMap<>()).merge(productId, quantity, Double::sum);
+            });
+            created.put(i, toEntity(sale, storeId, products, clients, sessions.get(sale.posId()).get()));
+        }
+
+        // Persist the accepted sales and write every touched stock row once
+        List<TransactionEntity> transactions = transactionRepository.saveAll(created.values().stream()
+                .map(SaleEntity::getTransaction)
+                .toList());
+        saleRepository.saveAll(created.values());
+
+        sold.forEach((storeId, storeSold) -> {
+            Map<Long, Double> movements = new TreeMap<>();
+            storeSold.forEach((productId, quantity) -> {
+                StockEntity stock = stocks.get(storeId).get(productId);
+                stock.setQuantity(quantities.get(storeId).get(productId));
+                stockAlertService.enqueue(stock);
+                movements.put(productId, -quantity);
+            });
+            stockLedgerService.record(storeId, StockMovementType.SALE, movements);
+            eventPublisher.publishEvent(new StockChangedEvent(storeId, List.copyOf(storeSold.keySet())));
+        });
+
+        Map<Long, List<TransactionEntity>> transactionsByPos = new TreeMap<>();
+        created.forEach((i, sale) -> transactionsByPos
+                .computeIfAbsent(sales.get(i).posId(), id -> new ArrayList<>())
+                .add(sale.getTransaction()));
+        transactionsByPos.forEach(cashLedgerService::recordSales);
+        if (!transactions.isEmpty()) {
+            eventPublisher.publishEvent(new TransactionRecordedEvent(
+                    transactions.stream().map(TransactionEntity::getId).toList()));
+        }
+
+        List<Result> results = new ArrayList<>(sales.size());
+        for (int i = 0; i < sales.size(); i++) {
+            SaleEntity sale = created.get(i);
+            results.add(sale != null
+                    ? new Result(saleMapper.toResponseDTO(sale), null)
+                    : new Result(null, rejected.get(i)));
+        }
+        return results;
+    }
+
+    // --- Auxiliary methods ---
+
+    /**
+     * Checks that the POS of a sale has an open session and is assigned to the employee who sent it.
+     *
+     * @return the error {@link TransactionService#validatePosAndEmployee} would throw, or null if the POS is valid
+     */
+    private RuntimeException validatePos(PendingSale sale, PosEntity pos, Optional<SessionPosEntity> session,
+                                         Optional<CredentialsEntity> credentials) {
+        if (session.isEmpty()) {
+            return new InvalidSessionStatusException("POS with ID " + sale.posId()
+                    + " is closed. Please open it before creating a transaction.");
+        }
+        if (credentials.isEmpty()) {
+            return new UsernameNotFoundException("Usuario no encontrado");
+        }
+        if (pos == null) {
+            return new NotFoundException("POS with ID " + sale.posId() + " not found.");
+        }
+        EmployeeEntity employee = credentials.get().getEmployee();
+        if (pos.getEmployee() == null || employee == null
+                || !Objects.equals(pos.getEmployee().getId(), employee.getId())) {
+            return new InvalidSessionStatusException(
+                    "The employee associated with the POS is not the same as the authenticated employee.");
+        }
+        return null;
+    }
+
+    /**
+     * Checks a sale against the reference data of the batch and the quantities left by the sales before it.
+     *
+     * @return the error to report for the sale, or null if it can be recorded
+     */
+    private RuntimeException validate(PendingSale sale, Long storeId, Map<Long, Double> requested,
+                                      Map<Long, ProductCache.ProductView> products, Map<Long, ClientEntity> clients,
+                                      Map<Long, StockEntity> stocks, Map<Long, Double> quantities) {
+        Long clientId = sale.request().getClientId();
+        if (clientId != null && !clients.containsKey(clientId)) {
+            return new NotFoundException("Client not found with ID " + clientId);
+        }
+        Optional<Long> unknown = requested.keySet().stream()
+                .filter(productId -> !products.containsKey(productId))
+                .findFirst();
+        if (unknown.isPresent()) {
+            return new NotFoundException("Product with ID " + unknown.get() + " not found.");
+        }
+        List<Long> missing = requested.keySet().stream()
+                .filter(productId -> !stocks.containsKey(productId))
+                .toList();
+        if (!missing.isEmpty()) {
+            return new NotFoundException("Stock not found for product ids: " + missing
+                    + " and store id: " + storeId);
+        }
+
+        List<String> shortLines = new ArrayList<>();
+        requested.forEach((productId, quantity) -> {
+            double available = quantities.get(productId);
+            if (available < quantity) {
+                shortLines.add(String.format("product id %d (requested %.2f, available %.2f)",
+                        productId, quantity, available));
+            }
+        });
+        if (!shortLines.isEmpty()) {
+            return new InsufficientStockException("Stock not enough to decrease for " + String.join(", ", shortLines));
+        }
+        return null;
+    }
+
+    private SaleEntity toEntity(PendingSale pending, Long storeId, Map<Long, ProductCache.ProductView> products,
+                                Map<Long, ClientEntity> clients, SessionPosEntity session) {
+        SaleRequest request = pending.request();
+        TransactionEntity transaction = TransactionEntity.builder()
+                .paymentMethod(request.getTransaction().getPaymentMethod())
+                .description(request.getTransaction().getDescription())
+                .type(TransactionType.SALE)
+                .sessionPosEntity(session)
+                .store(storeRepository.getReferenceById(storeId))
+                .build();
+
+        Set<DetailTransactionEntity> details = request.getTransaction().getDetailTransactions().stream()
+                .map(line -> {
+                    BigDecimal quantity = BigDecimal.valueOf(line.getQuantity());
+                    return DetailTransactionEntity.builder()
+                            .product(productRepository.getReferenceById(line.getProductID()))
+                            .quantity(quantity)
+                            .subtotal(products.get(line.getProductID()).price().multiply(quantity))
+                            .transaction(transaction)
+                            .build();
+                })
+                .collect(Collectors.toSet());
+        transaction.setDetailTransactions(details);
+        transaction.setTotal(details.stream()
+                .map(DetailTransactionEntity::getSubtotal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+
+        SaleEntity sale = saleMapper.toEntity(request);
+        sale.setTransaction(transaction);
+        sale.setClient(request.getClientId() != null ? clients.get(request.getClientId()) : null);
+        return sale;
+    }
+
+    /**
+     * A sale waiting to be written.
+     *
+     * @param request       the sale request
+     * @param posId         the ID of the POS where the sale is taking place
+     * @param employeeEmail the email of the authenticated employee who sent the sale
+     */
+    public record PendingSale(SaleRequest request, Long posId, String employeeEmail) {
+    }
+
+    /**
+     * Outcome of a sale of the batch: either the created sale or the error that rejected it.
+     *
+     * @param response the created sale, or null if it was rejected
+     * @param error    the reason the sale was rejected, or null if it was created
+     */
+    public record Result(SaleResponse response, RuntimeException error) {
+    }
+}
@@ -0,0 +1,259 @@
+package org.stockify.model.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.stockify.dto.request.sale.SaleRequest;
+import org.stockify.dto.response.SaleResponse;
+import org.stockify.model.exception.InvalidSessionStatusException;
+import org.stockify.model.exception.NotFoundException;
+import org.stockify.model.exception.SaleIngestionUnavailableException;
+import org.stockify.security.service.JwtService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Group commit of online sales.
+ * <p>
+ * When enabled, a sale is put in a bounded in-memory queue with the email of the authenticated employee, read from
+ * the already verified token. The request thread does no database work, so with open-in-view it does not hold a
+ * pooled connection while it waits, and callers outnumbering the pool cannot starve the writer. A single writer thread drains the queue in micro-batches of up to {@code max-batch-size} sales,
+ * waiting at most {@code max-wait-ms} after the first one, and validates and writes each batch in one transaction
+ * through the {@link SaleBatchWriter}. Every caller waits for its own sale and gets its own result or error once the batch has
+ * committed. If the batch as a whole fails, its sales are written again one by one, so one bad sale never fails
+ * the others. Sales are rejected when the queue is full.
+ * </p>
+ * <p>
+ * The end-to-end latency of every sale is published as {@code sales.ingestion.latency}, tagged by outcome, the size
+ * of every batch as {@code sales.ingestion.batch.size}, and the queued sales as {@code sales.ingestion.queue.size}.
+ * </p>
+ */
+@Service
+public class SaleIngestionService {
+
+    private final JwtService jwtService;
+    private final SaleBatchWriter saleBatchWriter;
+    private final Logger logger = LoggerFactory.getLogger(SaleIngestionService.class);
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final long timeoutMs;
+    private final BlockingQueue<QueuedSale> queue;
+
+    private final Timer createdLatency;
+    private final Timer rejectedLatency;
+    private final DistributionSummary batchSize;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    /**
+     * Constructor for SaleIngestionService
+     *
+     * @param jwtService         Service reading the authenticated employee from the verified token
+     * @param saleBatchWriter    Service validating and writing every batch in one transaction
+     * @param meterRegistry      Registry where the ingestion metrics are published
+     * @param enabled            Whether sales go through the queue instead of being written on the request thread
+     * @param queueCapacity      Maximum number of queued sales
+     * @param maxBatchSize       Maximum number of sales written in one transaction
+     * @param maxWaitMs          Milliseconds the writer waits for more sales after the first one of a batch
+     * @param timeoutMs          Milliseconds a caller waits for its sale to be written
+     */
+    public SaleIngestionService(JwtService jwtService,
+                                SaleBatchWriter saleBatchWriter,
+                                MeterRegistry meterRegistry,
+                                @Value("${sale-ingestion.enabled:false}") boolean enabled,
+                                @Value("${sale-ingestion.queue-capacity:1000}") int queueCapacity,
+                                @Value("${sale-ingestion.max-batch-size:100}") int maxBatchSize,
+                                @Value("${sale-ingestion.max-wait-ms:5}") long maxWaitMs,
+                                @Value("${sale-ingestion.timeout-ms:30000}") long timeoutMs) {
+        this.jwtService = jwtService;
+        this.saleBatchWriter = saleBatchWriter;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.timeoutMs = timeoutMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.createdLatency = latency(meterRegistry, "created");
+        this.rejectedLatency = latency(meterRegistry, "rejected");
+        this.batchSize = DistributionSummary.builder("sales.ingestion.batch.size")
+                .description("Number of sales written in one transaction")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("sales.ingestion.queue.size", queue, BlockingQueue::size)
+                .description("Number of sales waiting to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether sales go through the queue
+     *
+     * @return true if the group commit is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a sale and waits until the batch holding it has been written.
+     *
+     * @param request the sale to create
+     * @param posID   the ID of the POS where the sale is taking place
+     * @return the created sale
+     * @throws NotFoundException                 if the POS, a product, a stock row or the client is not found
+     * @throws InvalidSessionStatusException     if the POS session is not open or belongs to another employee
+     * @throws UsernameNotFoundException         if the authenticated employee has no credentials
+     * @throws SaleIngestionUnavailableException if the queue is full, the service is stopping,
+     *                                           or the sale was not written in time
+     */
+    public SaleResponse submit(SaleRequest request, long posID) {
+        String employeeEmail = jwtService.currentToken().subject();
+        QueuedSale sale = new QueuedSale(new SaleBatchWriter.PendingSale(request, posID, employeeEmail),
+                new CompletableFuture<>(), System.nanoTime());
+        if (!running) {
+            throw new SaleIngestionUnavailableException("Sale ingestion is not running, try again later");
+        }
+        if (!queue.offer(sale)) {
+            throw new SaleIngestionUnavailableException("Sale queue is full, try again later");
+        }
+
+        try {
+            return sale.future().get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Could not create the sale", ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new SaleIngestionUnavailableException(
+                    "The sale was not confirmed in time, check whether it was created before retrying");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SaleIngestionUnavailableException(
+                    "Interrupted while waiting for the sale, check whether it was created before retrying");
+        }
+    }
+
+    /**
+     * Starts the writer thread when the group commit is enabled.
+     */
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drain, "sale-ingestion-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Stops the writer thread and fails the sales still queued, which were not written.
+     */
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+        }
+        List<QueuedSale> left = new ArrayList<>();
+        queue.drainTo(left);
+        left.forEach(sale -> complete(sale, new SaleBatchWriter.Result(null,
+                new SaleIngestionUnavailableException("The service is stopping, try again later"))));
+    }
+
+    // --- Auxiliary methods ---
+
+    private void drain() {
+        while (running) {
+            try {
+                QueuedSale first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<QueuedSale> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    QueuedSale next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void write(List<QueuedSale> batch) {
+        batchSize.record(batch.size());
+        List<SaleBatchWriter.Result> results;
+        try {
+            results = saleBatchWriter.write(batch.stream().map(QueuedSale::sale).toList());
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                complete(batch.get(0), new SaleBatchWriter.Result(null, ex));
+            } else {
+                // Rolled back as a whole: write the sales on their own so only the failing ones are rejected
+                logger.warn("Batch of {} sales failed, writing them one by one: {}", batch.size(), ex.getMessage());
+                batch.forEach(sale -> write(List.of(sale)));
+            }
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            complete(batch.get(i), results.get(i));
+        }
+    }
+
+    private void complete(QueuedSale sale, SaleBatchWriter.Result result) {
+        long elapsed = System.nanoTime() - sale.enqueuedAt();
+        if (result.error() == null) {
+            createdLatency.record(elapsed, TimeUnit.NANOSECONDS);
+            sale.future().complete(result.response());
+        } else {
+            rejectedLatency.record(elapsed, TimeUnit.NANOSECONDS);
+            sale.future().completeExceptionally(result.error());
+        }
+    }
+
+    private static Timer latency(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("sales.ingestion.latency")
+                .description("Time from queueing a sale to its batch being written")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * A queued sale and the future its caller waits on.
+     *
+     * @param sale       the sale to write
+     * @param future     completed with the created sale or the error that rejected it
+     * @param enqueuedAt the {@link System#nanoTime()} at which the sale was queued
+     */
+    private record QueuedSale(SaleBatchWriter.PendingSale sale, CompletableFuture<SaleResponse> future,
+                              long enqueuedAt) {
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -18,9 +19,11 @@ import org.stockify.model.entity.TransactionEntity;
 import org.stockify.model.enums.Status;
 import org.stockify.model.enums.TransactionType;
 import org.stockify.model.exception.InvalidSessionStatusException;
+import org.stockify.model.exception.InvalidCursorException;
 import org.stockify.model.exception.NotFoundException;
 import org.stockify.model.mapper.SaleMapper;
 import org.stockify.model.mapper.TransactionMapper;
+import org.stockify.model.pagination.KeysetPagination;
 import org.stockify.model.repository.ClientRepository;
 import org.stockify.model.repository.PosRepository;
 import org.stockify.model.repository.SaleRepository;
@@ -29,6 +32,8 @@ import org.stockify.security.model.entity.CredentialsEntity;
 import org.stockify.security.repository.CredentialRepository;
 import org.stockify.security.service.JwtService;
 
+import java.util.Set;
+
 /**
  * Service class that handles the business logic related to sales.
  * This includes creating, updating, retrieving, and deleting sales,
@@ -39,24 +44,27 @@ import org.stockify.security.service.JwtService;
 @Transactional
 public class SaleService {
 
+    /** Properties sale windows can be sorted by in cursor mode. */
+    private static final Set<String> CURSOR_SORTS = Set.of("id");
+
     private final StockService stockService;
     private final TransactionService transactionService;
     private final SaleMapper saleMapper;
     private final ClientRepository clientRepository;
     private final SaleRepository saleRepository;
     private final TransactionMapper transactionMapper;
-    private final PosService posService;
     private final PosRepository posRepository;
     private final SessionPosService sessionPosService;
     private final  JwtService jwtService;
     private final CredentialRepository credentialsRepository;
+    private final CashLedgerService cashLedgerService;
 
     /**
      * Creates a new sale in the system and updates stock accordingly.
      * It first validates if the POS exists and is open.
-     * Then, it decreases stock for all products involved in the transaction,
+     * Then, it decreases stock for all products involved in the transaction in a single batch,
      * creates the transaction, associates the client (if provided),
-     * updates the POS session amount, and saves the sale.
+     * records the cash received in the POS session's ledger, and saves the sale.
      *
      * @param request DTO containing the sale data to be created
      * @param posID   ID of the POS where the sale is taking place
@@ -69,11 +77,8 @@ public class SaleService {
         PosEntity posEntity = transactionService.validatePosAndEmployee(posID);
         Long localId = posEntity.getStore().getId();
 
-        // Decrease stock for each product in the sale
-        request.getTransaction()
-                .getDetailTransactions()
-                .forEach(detail ->
-                        stockService.decreaseStock(detail.getProductID(), localId, detail.getQuantity()));
+        // Decrease stock for the whole basket at once
+        stockService.decreaseStockBatch(localId, request.getTransaction().getDetailTransactions());
 
         // Map sale request to entity and create associated transaction
         SaleEntity sale = saleMapper.toEntity(request);
@@ -88,8 +93,8 @@ public class SaleService {
                                 new NotFoundException("Client not found with ID " + request.getClientId())));
         }
 
-        // Update the POS session with the sale total
-        posService.addAmount(posID, sale.getTransaction().getTotal());
+        // Record the cash received in the POS session's ledger
+        cashLedgerService.recordSale(posID, sale.getTransaction());
 
         return saleMapper.toResponseDTO(saleRepository.save(sale));
     }
@@ -115,13 +120,30 @@ public class SaleService {
      * @return a paginated list of {@link SaleResponse} objects matching the criteria
      */
     public Page<SaleResponse> findAll(SaleFilterRequest filterRequest, Pageable pageable) {
-        Specification<SaleEntity> specification = Specification
+        Page<SaleEntity> saleEntities = saleRepository.findAll(buildSpecification(filterRequest), pageable);
+        return saleEntities.map(saleMapper::toResponseDTO);
+    }
+
+    /**
+     * Retrieves the window of sales after a cursor, applying the same filters as {@link #findAll}.
+     * No total count is computed.
+     *
+     * @param filterRequest the filter criteria for the search (client ID, sale ID, transaction ID)
+     * @param pageable      the window size and sorting; the page number is ignored
+     * @param cursor        the cursor returned with the previous window, or null for the first one
+     * @return the window of {@link SaleResponse} objects matching the criteria
+     * @throws InvalidCursorException if the cursor is malformed or the sort uses a property outside the cursor sorts
+     */
+    public Window<SaleResponse> scroll(SaleFilterRequest filterRequest, Pageable pageable, String cursor) {
+        return KeysetPagination.scroll(saleRepository, buildSpecification(filterRequest), pageable, cursor, CURSOR_SORTS)
+                .map(saleMapper::toResponseDTO);
+    }
+
+    private Specification<SaleEntity> buildSpecification(SaleFilterRequest filterRequest) {
+        return Specification
                 .where(SaleSpecification.byClientId(filterRequest.getClientId()))
                 .and(SaleSpecification.bySaleId(filterRequest.getSaleId()))
                 .and(SaleSpecification.byTransactionId(filterRequest.getTransactionId()));
-
-        Page<SaleEntity> saleEntities = saleRepository.findAll(specification, pageable);
-        return saleEntities.map(saleMapper::toResponseDTO);
     }
 
     /**
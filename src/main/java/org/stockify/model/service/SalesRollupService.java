@@ -0,0 +1,214 @@
+package org.stockify.model.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.stockify.dto.response.DailySalesResponse;
+import org.stockify.dto.response.HourlySalesResponse;
+import org.stockify.dto.response.ProductSalesResponse;
+import org.stockify.dto.response.RollupRebuildResponse;
+import org.stockify.model.entity.DailySalesRollupEntity;
+import org.stockify.model.enums.TransactionType;
+import org.stockify.model.event.TransactionRecordedEvent;
+import org.stockify.model.exception.InvalidDateRangeException;
+import org.stockify.model.repository.DailySalesRollupRepository;
+import org.stockify.model.repository.HourlySalesRollupRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Maintains and reads the sales rollups: totals per (store, product, hour) and per (store, day),
+ * each broken down by transaction type and payment method.
+ * <p>
+ * Every sale or purchase adds its totals to the rollup rows with an upsert, inside the transaction that records it,
+ * so the rollups commit or roll back together with the sale. Upserts lock rows in key order to avoid deadlocks
+ * between concurrent baskets. The same aggregation, run over a date range, rebuilds the rollups from history.
+ * Reports only read rollup rows, so their cost depends on the period and not on the number of transactions kept.
+ * </p>
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class SalesRollupService {
+
+    private static final String UNSPECIFIED_PAYMENT = "UNSPECIFIED";
+
+    private static final String HOURLY_UPSERT = """
+            INSERT INTO sales_rollup_hourly
+                (store_id, product_id, bucket_start, type, payment_method, transaction_count, units, revenue)
+            SELECT t.store_id, d.product_id, date_trunc('hour', t.date_time), t.type,
+                   coalesce(t.payment_method, '%1$s'),
+                   count(DISTINCT t.id), coalesce(sum(d.quantity), 0), coalesce(sum(d.subtotal), 0)
+            FROM transactions t
+            JOIN details_transactions d ON d.transaction_id = t.id
+            WHERE t.type IN ('SALE', 'PURCHASE') AND t.store_id IS NOT NULL AND d.product_id IS NOT NULL
+              AND %2$s
+            GROUP BY 1, 2, 3, 4, 5
+            ORDER BY 1, 2, 3, 4, 5
+            ON CONFLICT (store_id, product_id, bucket_start, type, payment_method) DO UPDATE SET
+                transaction_count = sales_rollup_hourly.transaction_count + EXCLUDED.transaction_count,
+                units = sales_rollup_hourly.units + EXCLUDED.units,
+                revenue = sales_rollup_hourly.revenue + EXCLUDED.revenue
+            """;
+
+    private static final String DAILY_UPSERT = """
+            INSERT INTO sales_rollup_daily
+                (store_id, sales_day, type, payment_method, transaction_count, units, revenue)
+            SELECT t.store_id, CAST(t.date_time AS date), t.type,
+                   coalesce(t.payment_method, '%1$s'),
+                   count(*), coalesce(sum(u.units), 0), coalesce(sum(t.total), 0)
+            FROM transactions t
+            LEFT JOIN LATERAL (
+                SELECT sum(d.quantity) AS units FROM details_transactions d WHERE d.transaction_id = t.id
+            ) u ON true
+            WHERE t.type IN ('SALE', 'PURCHASE') AND t.store_id IS NOT NULL
+              AND %2$s
+            GROUP BY 1, 2, 3, 4
+            ORDER BY 1, 2, 3, 4
+            ON CONFLICT (store_id, sales_day, type, payment_method) DO UPDATE SET
+                transaction_count = sales_rollup_daily.transaction_count + EXCLUDED.transaction_count,
+                units = sales_rollup_daily.units + EXCLUDED.units,
+                revenue = sales_rollup_daily.revenue + EXCLUDED.revenue
+            """;
+
+    private static final String BY_TRANSACTION = "t.id IN (:transactionIds)";
+    private static final String BY_PERIOD = "t.date_time >= :from AND t.date_time < :to";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final HourlySalesRollupRepository hourlyRepository;
+    private final DailySalesRollupRepository dailyRepository;
+    private final Logger logger = LoggerFactory.getLogger(SalesRollupService.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Adds recorded sales or purchases to the rollups, just before their transaction commits.
+     *
+     * @param event the transaction recorded event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTransactionRecorded(TransactionRecordedEvent event) {
+        // The rollups are computed in SQL from the saved rows, so pending changes must reach the database first
+        entityManager.flush();
+
+        MapSqlParameterSource params = new MapSqlParameterSource("transactionIds", event.transactionIds());
+        jdbcTemplate.update(HOURLY_UPSERT.formatted(UNSPECIFIED_PAYMENT, BY_TRANSACTION), params);
+        jdbcTemplate.update(DAILY_UPSERT.formatted(UNSPECIFIED_PAYMENT, BY_TRANSACTION), params);
+    }
+
+    /**
+     * Recomputes the rollups of a period from the recorded transactions, replacing the existing rows.
+     * New sales and purchases wait while the rebuild runs, so long periods are best rebuilt outside business hours.
+     *
+     * @param from the first day to rebuild
+     * @param to   the last day to rebuild, inclusive
+     * @return the number of rollup rows written
+     * @throws InvalidDateRangeException if the period ends before it starts
+     */
+    public RollupRebuildResponse rebuild(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        long start = System.currentTimeMillis();
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("from", from.atStartOfDay())
+                .addValue("to", to.plusDays(1).atStartOfDay())
+                .addValue("fromDay", from)
+                .addValue("toDay", to);
+
+        // Blocks sales and purchases until the rebuild commits, so none is both recomputed and added incrementally
+        jdbcTemplate.getJdbcTemplate().execute(
+                "LOCK TABLE sales_rollup_hourly, sales_rollup_daily IN SHARE ROW EXCLUSIVE MODE");
+        jdbcTemplate.update("DELETE FROM sales_rollup_hourly WHERE bucket_start >= :from AND bucket_start < :to", params);
+        jdbcTemplate.update("DELETE FROM sales_rollup_daily WHERE sales_day BETWEEN :fromDay AND :toDay", params);
+        int hourlyRows = jdbcTemplate.update(HOURLY_UPSERT.formatted(UNSPECIFIED_PAYMENT, BY_PERIOD), params);
+        int dailyRows = jdbcTemplate.update(DAILY_UPSERT.formatted(UNSPECIFIED_PAYMENT, BY_PERIOD), params);
+
+        logger.info("Sales rollups rebuilt from {} to {}: {} hourly and {} daily rows in {} ms",
+                from, to, hourlyRows, dailyRows, System.currentTimeMillis() - start);
+        return new RollupRebuildResponse(from, to, hourlyRows, dailyRows);
+    }
+
+    /**
+     * Retrieves the daily totals of a store, with the amount per payment method.
+     *
+     * @param storeId the ID of the store
+     * @param type    SALE or PURCHASE
+     * @param from    the first day
+     * @param to      the last day, inclusive
+     * @return the totals of each day with transactions, in date order
+     * @throws InvalidDateRangeException if the period ends before it starts
+     */
+    public List<DailySalesResponse> getDailyTotals(Long storeId, TransactionType type, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        Map<LocalDate, List<DailySalesRollupEntity>> rowsByDay = new LinkedHashMap<>();
+        dailyRepository.findByStoreIdAndTypeAndDayBetweenOrderByDay(storeId, type.name(), from, to)
+                .forEach(row -> rowsByDay.computeIfAbsent(row.getDay(), day -> new ArrayList<>()).add(row));
+
+        List<DailySalesResponse> result = new ArrayList<>(rowsByDay.size());
+        rowsByDay.forEach((day, rows) -> {
+            long transactions = 0;
+            BigDecimal units = BigDecimal.ZERO;
+            BigDecimal revenue = BigDecimal.ZERO;
+            Map<String, BigDecimal> byPaymentMethod = new TreeMap<>();
+            for (DailySalesRollupEntity row : rows) {
+                transactions += row.getTransactionCount();
+                units = units.add(row.getUnits());
+                revenue = revenue.add(row.getRevenue());
+                byPaymentMethod.merge(row.getPaymentMethod(), row.getRevenue(), BigDecimal::add);
+            }
+            result.add(new DailySalesResponse(day, transactions, units, revenue, byPaymentMethod));
+        });
+        return result;
+    }
+
+    /**
+     * Retrieves the hourly totals of a store for one day.
+     *
+     * @param storeId the ID of the store
+     * @param type    SALE or PURCHASE
+     * @param day     the day
+     * @return the totals of each hour with transactions, in time order
+     */
+    public List<HourlySalesResponse> getHourlyTotals(Long storeId, TransactionType type, LocalDate day) {
+        return hourlyRepository.findHourlyTotals(storeId, type.name(),
+                day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Retrieves the products with the highest amount in a store over a period.
+     *
+     * @param storeId the ID of the store
+     * @param type    SALE or PURCHASE
+     * @param from    the first day
+     * @param to      the last day, inclusive
+     * @param limit   the maximum number of products to return
+     * @return the products, highest amount first
+     * @throws InvalidDateRangeException if the period ends before it starts
+     */
+    public List<ProductSalesResponse> getTopProducts(Long storeId, TransactionType type,
+                                                     LocalDate from, LocalDate to, int limit) {
+        validateRange(from, to);
+        return hourlyRepository.findTopProducts(storeId, type.name(),
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay(), PageRequest.of(0, Math.max(1, limit)));
+    }
+
+    // --- Auxiliary methods ---
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new InvalidDateRangeException("The end date " + to + " is before the start date " + from);
+        }
+    }
+}
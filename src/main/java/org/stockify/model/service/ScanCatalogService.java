@@ -0,0 +1,414 @@
+package org.stockify.model.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.stockify.dto.response.ScanResponse;
+import org.stockify.model.enums.InvalidatedCache;
+import org.stockify.model.event.CacheInvalidatedEvent;
+import org.stockify.model.event.ProductsChangedEvent;
+import org.stockify.model.event.StockChangedEvent;
+import org.stockify.model.exception.NotFoundException;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * In-memory barcode catalog serving till scans without touching the database.
+ * <p>
+ * The snapshot holds, per product, its barcode, name, price and the quantity in every store, kept as
+ * parallel primitive arrays so hundreds of thousands of SKUs fit in a small heap.
+ * Product and stock writes publish {@link ProductsChangedEvent} and {@link StockChangedEvent};
+ * after commit the affected rows are re-read and swapped into the snapshot by a single background thread, so the
+ * re-reads neither delay the request that made the change nor overtake each other. Products and stock changed on
+ * other nodes are re-read when their {@link CacheInvalidatedEvent} arrives.
+ * A periodic full reload corrects any drift. A barcode missing from the snapshot is looked up in the database, and
+ * a barcode no product has is remembered for a while in a bounded negative cache, cleared whenever products change,
+ * so repeated scans of an unknown barcode do not reach the database.
+ * Products and stock changed while a reload is building the new snapshot are recorded, and re-read into the new
+ * snapshot once it is swapped in, so changes committed during a reload are not lost.
+ * </p>
+ */
+@Service
+public class ScanCatalogService {
+
+    private static final String SELECT_PRODUCTS = "SELECT id, barcode, name, price FROM products WHERE barcode IS NOT NULL";
+    private static final String SELECT_STOCK = "SELECT product_id, store_id, quantity FROM stock";
+
+    private static final long[] NO_STORES = new long[0];
+    private static final double[] NO_QUANTITIES = new double[0];
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Logger logger = LoggerFactory.getLogger(ScanCatalogService.class);
+
+    /**
+     * Barcodes no product had when they were last looked up
+     */
+    private final Cache<String, Boolean> unknownBarcodes;
+
+    /**
+     * Applies the re-reads of changed products and stock, one at a time and in the order of the changes
+     */
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scan-catalog-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Snapshot snapshot = new Snapshot(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+
+    /**
+     * Guards the swap of the snapshot and the changes recorded during a reload
+     */
+    private final Object swapLock = new Object();
+
+    /**
+     * Changes recorded while a reload is in progress, or null when no reload is running
+     */
+    private Pending pending;
+
+    /**
+     * Constructor for ScanCatalogService
+     *
+     * @param jdbcTemplate              Template used to read products and stock
+     * @param unknownBarcodesMaxSize    Maximum number of unknown barcodes remembered
+     * @param unknownBarcodesTtlSeconds Seconds an unknown barcode is remembered
+     */
+    public ScanCatalogService(NamedParameterJdbcTemplate jdbcTemplate,
+                              @Value("${scan-catalog.unknown-barcodes.max-size:10000}") long unknownBarcodesMaxSize,
+                              @Value("${scan-catalog.unknown-barcodes.ttl-seconds:60}") long unknownBarcodesTtlSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.unknownBarcodes = Caffeine.newBuilder()
+                .maximumSize(unknownBarcodesMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(unknownBarcodesTtlSeconds))
+                .build();
+    }
+
+    /**
+     * Looks up a scanned barcode in a store.
+     *
+     * @param storeId the ID of the store where the product is scanned
+     * @param barcode the scanned barcode
+     * @return the product id, name, price and the store's quantity
+     * @throws NotFoundException if no product has the barcode, or the store holds no stock of it
+     */
+    public ScanResponse scan(Long storeId, String barcode) {
+        Snapshot current = snapshot;
+        Long productId = current.idsByBarcode().get(barcode);
+        ScanItem item = productId != null ? current.items().get(productId) : loadBarcode(barcode);
+        if (item == null) {
+            throw new NotFoundException("Product with barcode " + barcode + " not found");
+        }
+
+        int index = item.indexOf(storeId);
+        if (index < 0) {
+            throw new NotFoundException("Product with barcode " + barcode + " is not stocked in store " + storeId);
+        }
+        return new ScanResponse(item.productId(), item.name(), item.price(), item.quantities()[index]);
+    }
+
+    /**
+     * Rebuilds the whole snapshot and swaps it in atomically. Runs at startup and then periodically.
+     */
+    @Scheduled(fixedDelayString = "${scan-catalog.reload-interval-ms:300000}")
+    public synchronized void reload() {
+        long start = System.currentTimeMillis();
+        Snapshot fresh = new Snapshot(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        Pending missed;
+
+        synchronized (swapLock) {
+            pending = new Pending(new HashSet<>(), new HashMap<>());
+        }
+        unknownBarcodes.invalidateAll();
+        try {
+            jdbcTemplate.getJdbcTemplate().query(SELECT_PRODUCTS, (ResultSet rs) -> putProduct(fresh, rs));
+            jdbcTemplate.getJdbcTemplate().query(SELECT_STOCK, rs -> {
+                long storeId = rs.getLong("store_id");
+                double quantity = rs.getDouble("quantity");
+                fresh.items().computeIfPresent(rs.getLong("product_id"), (id, item) -> item.withQuantity(storeId, quantity));
+            });
+        } catch (RuntimeException ex) {
+            synchronized (swapLock) {
+                pending = null;
+            }
+            throw ex;
+        }
+
+        // Swapping and closing the pending changes together, a change lands either in them or in the new snapshot
+        synchronized (swapLock) {
+            snapshot = fresh;
+            missed = pending;
+            pending = null;
+        }
+        // Changes committed while the snapshot was being built may be missing from it
+        refreshProducts(fresh, missed.products());
+        missed.stock().forEach((storeId, productIds) -> refreshStock(fresh, storeId, productIds));
+        logger.info("Scan catalog loaded {} products in {} ms", fresh.items().size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Re-reads changed products in the background once their transaction has committed,
+     * and forgets the barcodes known to be unknown.
+     *
+     * @param event the products changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        if (event.productIds().isEmpty()) {
+            return;
+        }
+        unknownBarcodes.invalidateAll();
+        List<Long> productIds = List.copyOf(event.productIds());
+        refreshLater(() -> refreshProducts(target(changes -> changes.products().addAll(productIds)), productIds));
+    }
+
+    /**
+     * Re-reads products or stock changed by another node, or reloads the whole snapshot if notices may have been
+     * missed. Stock keys are {@code storeId:productId}.
+     *
+     * @param event the cache invalidated event
+     */
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidatedEvent event) {
+        if (event.cache() != InvalidatedCache.PRODUCTS && event.cache() != InvalidatedCache.STOCK) {
+            return;
+        }
+        if (event.all()) {
+            reload();
+        } else if (event.cache() == InvalidatedCache.PRODUCTS) {
+            onProductsChanged(new ProductsChangedEvent(event.ids()));
+        } else {
+            Map<Long, Set<Long>> productIdsByStore = new HashMap<>();
+            for (String key : event.keys()) {
+                int separator = key.indexOf(':');
+                productIdsByStore.computeIfAbsent(Long.valueOf(key.substring(0, separator)), id -> new HashSet<>())
+                        .add(Long.valueOf(key.substring(separator + 1)));
+            }
+            productIdsByStore.forEach((storeId, productIds) -> onStockChanged(new StockChangedEvent(storeId, productIds)));
+        }
+    }
+
+    /**
+     * Re-reads changed stock quantities in the background once their transaction has committed.
+     *
+     * @param event the stock changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        if (event.productIds().isEmpty()) {
+            return;
+        }
+        long storeId = event.storeId();
+        List<Long> productIds = List.copyOf(event.productIds());
+        refreshLater(() -> refreshStock(target(changes -> changes.stock()
+                .computeIfAbsent(storeId, id -> new HashSet<>())
+                .addAll(productIds)), storeId, productIds));
+    }
+
+    /**
+     * Stops the background thread re-reading changes.
+     */
+    @PreDestroy
+    public void stop() {
+        refresher.shutdownNow();
+    }
+
+    // --- Auxiliary methods ---
+
+    /**
+     * Queues a re-read on the background thread, logging it if it fails; the next reload corrects the snapshot.
+     */
+    private void refreshLater(Runnable refresh) {
+        refresher.execute(() -> {
+            try {
+                refresh.run();
+            } catch (RuntimeException ex) {
+                logger.warn("Could not refresh the scan catalog: {}", ex.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Returns the snapshot to apply a change to, recording the change if a reload is building the next snapshot.
+     *
+     * @param record records the change in the pending changes
+     * @return the current snapshot
+     */
+    private Snapshot target(Consumer<Pending> record) {
+        synchronized (swapLock) {
+            if (pending != null) {
+                record.accept(pending);
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Re-reads products into a snapshot, removing the ones deleted or left without a barcode.
+     */
+    private void refreshProducts(Snapshot target, Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        Set<Long> missing = new HashSet<>(productIds);
+
+        jdbcTemplate.query("SELECT id, barcode, name, price FROM products WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", productIds),
+                rs -> {
+                    missing.remove(rs.getLong("id"));
+                    putProduct(target, rs);
+                });
+
+        missing.forEach(id -> removeProduct(target, id));
+    }
+
+    /**
+     * Re-reads the quantities of products in a store into a snapshot, dropping the stock rows that were deleted.
+     */
+    private void refreshStock(Snapshot target, long storeId, Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        Set<Long> missing = new HashSet<>(productIds);
+
+        jdbcTemplate.query("SELECT product_id, quantity FROM stock WHERE store_id = :storeId AND product_id IN (:ids)",
+                new MapSqlParameterSource("storeId", storeId).addValue("ids", productIds),
+                rs -> {
+                    long productId = rs.getLong("product_id");
+                    double quantity = rs.getDouble("quantity");
+                    missing.remove(productId);
+                    target.items().computeIfPresent(productId, (id, item) -> item.withQuantity(storeId, quantity));
+                });
+
+        missing.forEach(productId -> target.items().computeIfPresent(productId,
+                (id, item) -> item.withoutStore(storeId)));
+    }
+
+    /**
+     * Loads a barcode that is not in the snapshot, e.g. scanned before the first load completed, into the current
+     * snapshot. A barcode no product has is remembered, so it is not looked up again until products change.
+     *
+     * @return the loaded entry, or null if no product has the barcode
+     */
+    private ScanItem loadBarcode(String barcode) {
+        if (unknownBarcodes.getIfPresent(barcode) != null) {
+            return null;
+        }
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM products WHERE barcode = :barcode",
+                new MapSqlParameterSource("barcode", barcode), Long.class);
+        if (ids.isEmpty()) {
+            unknownBarcodes.put(barcode, Boolean.TRUE);
+            return null;
+        }
+        Long productId = ids.get(0);
+        // Recorded like any change, so a reload running meanwhile also loads it into its new snapshot
+        Snapshot target = target(changes -> changes.products().add(productId));
+        refreshProducts(target, List.of(productId));
+        jdbcTemplate.query("SELECT store_id, quantity FROM stock WHERE product_id = :productId",
+                new MapSqlParameterSource("productId", productId),
+                rs -> {
+                    long storeId = rs.getLong("store_id");
+                    double quantity = rs.getDouble("quantity");
+                    target.items().computeIfPresent(productId, (id, item) -> item.withQuantity(storeId, quantity));
+                });
+        return target.items().get(productId);
+    }
+
+    private void putProduct(Snapshot target, ResultSet rs) throws SQLException {
+        long productId = rs.getLong("id");
+        String barcode = rs.getString("barcode");
+        if (barcode == null) {
+            removeProduct(target, productId);
+            return;
+        }
+        String name = rs.getString("name");
+        BigDecimal price = rs.getBigDecimal("price");
+
+        ScanItem previous = target.items().get(productId);
+        target.items().compute(productId, (id, item) -> item == null
+                ? new ScanItem(productId, barcode, name, price, NO_STORES, NO_QUANTITIES)
+                : new ScanItem(productId, barcode, name, price, item.storeIds(), item.quantities()));
+        if (previous != null && !previous.barcode().equals(barcode)) {
+            target.idsByBarcode().remove(previous.barcode(), productId);
+        }
+        target.idsByBarcode().put(barcode, productId);
+    }
+
+    private void removeProduct(Snapshot target, Long productId) {
+        ScanItem removed = target.items().remove(productId);
+        if (removed != null) {
+            target.idsByBarcode().remove(removed.barcode(), productId);
+        }
+    }
+
+    private record Snapshot(Map<Long, ScanItem> items, Map<String, Long> idsByBarcode) {
+    }
+
+    /**
+     * Products, and product IDs per store, changed while a reload is in progress.
+     */
+    private record Pending(Set<Long> products, Map<Long, Set<Long>> stock) {
+    }
+
+    /**
+     * Immutable catalog entry. Store quantities are parallel arrays, replaced on every change.
+     */
+    private record ScanItem(long productId, String barcode, String name, BigDecimal price,
+                            long[] storeIds, double[] quantities) {
+
+        int indexOf(long storeId) {
+            for (int i = 0; i < storeIds.length; i++) {
+                if (storeIds[i] == storeId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        ScanItem withQuantity(long storeId, double quantity) {
+            int index = indexOf(storeId);
+            if (index >= 0) {
+                double[] newQuantities = quantities.clone();
+                newQuantities[index] = quantity;
+                return new ScanItem(productId, barcode, name, price, storeIds, newQuantities);
+            }
+            long[] newStoreIds = Arrays.copyOf(storeIds, storeIds.length + 1);
+            double[] newQuantities = Arrays.copyOf(quantities, quantities.length + 1);
+            newStoreIds[storeIds.length] = storeId;
+            newQuantities[quantities.length] = quantity;
+            return new ScanItem(productId, barcode, name, price, newStoreIds, newQuantities);
+        }
+
+        ScanItem withoutStore(long storeId) {
+            int index = indexOf(storeId);
+            if (index < 0) {
+                return this;
+            }
+            long[] newStoreIds = new long[storeIds.length - 1];
+            double[] newQuantities = new double[quantities.length - 1];
+            for (int i = 0, j = 0; i < storeIds.length; i++) {
+                if (i != index) {
+                    newStoreIds[j] = storeIds[i];
+                    newQuantities[j++] = quantities[i];
+                }
+            }
+            return new ScanItem(productId, barcode, name, price, newStoreIds, newQuantities);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.stockify.model.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.stockify.dto.request.sessionpos.SessionPosFiltersRequest;
@@ -10,13 +11,16 @@ import org.stockify.dto.request.sessionpos.SessionPosRequest;
 import org.stockify.dto.response.SessionPosCreateResponse;
 import org.stockify.dto.response.SessionPosResponse;
 import org.stockify.model.entity.SessionPosEntity;
+import org.stockify.model.exception.InvalidCursorException;
 import org.stockify.model.exception.NotFoundException;
 import org.stockify.model.mapper.SessionPosMapper;
+import org.stockify.model.pagination.KeysetPagination;
 import org.stockify.model.repository.SessionPosRepository;
 import org.stockify.model.specification.SessionPosSpecifications;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -26,6 +30,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SessionPosService {
 
+    /** Non-null properties session windows can be sorted by in cursor mode; closing values are null while a session is open. */
+    private static final Set<String> CURSOR_SORTS = Set.of("id", "openingAmount");
+
     private final SessionPosRepository repository;
     private final SessionPosMapper sessionPosMapper;
 
@@ -152,7 +159,26 @@ public class SessionPosService {
      * @return a paginated list of {@link SessionPosResponse} matching the filters.
      */
     public Page<SessionPosResponse> findAllWithFilters(SessionPosFiltersRequest filtersRequest, Pageable pageable) {
-        Specification<SessionPosEntity> spec = Specification.where(SessionPosSpecifications.hasPosId(filtersRequest.getPosId()))
+        return findAll(buildSpecification(filtersRequest), pageable);
+    }
+
+    /**
+     * Retrieves the window of POS sessions after a cursor, applying the same filters as {@link #findAllWithFilters}.
+     * No total count is computed.
+     *
+     * @param filtersRequest filter criteria provided in {@link SessionPosFiltersRequest}.
+     * @param pageable       window size and sorting; the page number is ignored.
+     * @param cursor         the cursor returned with the previous window, or null for the first one.
+     * @return the window of {@link SessionPosResponse} matching the filters.
+     * @throws InvalidCursorException if the cursor is malformed or the sort uses a property outside the cursor sorts.
+     */
+    public Window<SessionPosResponse> scrollWithFilters(SessionPosFiltersRequest filtersRequest, Pageable pageable, String cursor) {
+        return KeysetPagination.scroll(repository, buildSpecification(filtersRequest), pageable, cursor, CURSOR_SORTS)
+                .map(sessionPosMapper::toDto);
+    }
+
+    private Specification<SessionPosEntity> buildSpecification(SessionPosFiltersRequest filtersRequest) {
+        return Specification.where(SessionPosSpecifications.hasPosId(filtersRequest.getPosId()))
                 .and(SessionPosSpecifications.hasEmployeeId(filtersRequest.getEmployeeId()))
                 .and(SessionPosSpecifications.hasOpeningTimeAfter(filtersRequest.getOpeningTimeStart()))
                 .and(SessionPosSpecifications.hasOpeningTimeBefore(filtersRequest.getOpeningTimeEnd()))
@@ -165,6 +191,5 @@ public class SessionPosService {
                 .and(SessionPosSpecifications.hasCashDifferenceGreaterThan(filtersRequest.getCashDifference()))
                 .and(SessionPosSpecifications.hasCashDifferenceLessThan(filtersRequest.getCashDifference()))
                 .and(SessionPosSpecifications.isOpen(filtersRequest.getIsOpen()));
-        return findAll(spec, pageable);
     }
 }
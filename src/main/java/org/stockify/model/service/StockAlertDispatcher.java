@@ -0,0 +1,111 @@
+package org.stockify.model.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.stockify.model.entity.StockAlertEntity;
+import org.stockify.model.event.StockAlertQueuedEvent;
+import org.stockify.model.repository.StockAlertRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+/**
+ * Background dispatcher for the low-stock alert outbox.
+ * <p>
+ * Pending alerts are locked in batches, grouped into a single digest email and marked as sent.
+ * A failed send keeps the alerts pending and reschedules them with exponential backoff and jitter,
+ * until the configured maximum number of attempts is reached.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class StockAlertDispatcher {
+
+    private static final Logger LOGGER = Logger.getLogger(StockAlertDispatcher.class.getName());
+
+    private final StockAlertRepository stockAlertRepository;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${stock-alert.batch-size:50}")
+    private int batchSize;
+
+    @Value("${stock-alert.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${stock-alert.backoff-ms:30000}")
+    private long backoffMs;
+
+    @Value("${stock-alert.max-backoff-ms:3600000}")
+    private long maxBackoffMs;
+
+    /**
+     * Dispatches as soon as the transaction that queued an alert has committed,
+     * on a background thread so the request never waits for the mail server.
+     *
+     * @param event the queued alert event
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAlertQueued(StockAlertQueuedEvent event) {
+        dispatchPending();
+    }
+
+    /**
+     * Periodically dispatches pending alerts, picking up retries and anything missed by the event path.
+     */
+    @Scheduled(fixedDelayString = "${stock-alert.dispatch-interval-ms:60000}")
+    public void dispatchPending() {
+        Boolean dispatched;
+        do {
+            dispatched = transactionTemplate.execute(status -> dispatchBatch());
+        } while (Boolean.TRUE.equals(dispatched));
+    }
+
+    /**
+     * Sends one digest for a batch of due alerts.
+     *
+     * @return true if a full batch was sent and more alerts may be waiting
+     */
+    private boolean dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<StockAlertEntity> alerts = stockAlertRepository.findDueForUpdate(now, maxAttempts, PageRequest.of(0, batchSize));
+        if (alerts.isEmpty()) {
+            return false;
+        }
+
+        try {
+            emailService.sendStockAlertDigest(alerts);
+            alerts.forEach(alert -> alert.setSentAt(now));
+            return alerts.size() == batchSize;
+        } catch (MailException e) {
+            LOGGER.warning("Failed to send low stock digest for " + alerts.size() + " alerts: " + e.getMessage());
+            alerts.forEach(alert -> {
+                alert.setAttempts(alert.getAttempts() + 1);
+                alert.setNextAttemptAt(now.plusNanos(backoffFor(alert.getAttempts()) * 1_000_000));
+            });
+            return false;
+        }
+    }
+
+    /**
+     * Computes the exponential backoff for a retry, capped and with up to 20% jitter.
+     *
+     * @param attempts the number of failed attempts so far
+     * @return the delay in milliseconds
+     */
+    private long backoffFor(int attempts) {
+        long delay = Math.min(maxBackoffMs, backoffMs << Math.min(attempts - 1, 20));
+        return delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+    }
+}
@@ -0,0 +1,62 @@
+package org.stockify.model.service;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.stockify.config.GlobalPreferencesConfig;
+import org.stockify.model.entity.ProductEntity;
+import org.stockify.model.entity.StockAlertEntity;
+import org.stockify.model.entity.StockEntity;
+import org.stockify.model.entity.StoreEntity;
+import org.stockify.model.event.StockAlertQueuedEvent;
+import org.stockify.model.repository.StockAlertRepository;
+
+/**
+ * Service that queues low-stock alerts in the outbox table.
+ * <p>
+ * Alerts are written in the caller's transaction, so a rolled-back sale never produces an alert.
+ * The actual email is sent by {@link StockAlertDispatcher} after the transaction commits.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StockAlertService {
+
+    private final StockAlertRepository stockAlertRepository;
+    private final GlobalPreferencesConfig globalPreferencesConfig;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Queues a low-stock alert if the stock quantity is below the configured threshold,
+     * and an alert has not been queued previously for this stock.
+     * Once queued, it marks the stock entity to prevent duplicate alerts.
+     *
+     * @param stock the stock entity containing product and current quantity information
+     */
+    public void enqueue(StockEntity stock) {
+        if (globalPreferencesConfig.shouldSendStockAlert(stock.getQuantity(), stock.isLowStockAlertSent())) {
+            stock.setLowStockAlertSent(true);
+            enqueue(stock.getProduct(), stock.getStore(), stock.getQuantity());
+        }
+    }
+
+    /**
+     * Queues a low-stock alert without checking preferences or the alert flag.
+     * Intended for callers that already claimed the alert flag of the stock row.
+     *
+     * @param product  the product that is running low
+     * @param store    the store holding the stock
+     * @param quantity the current quantity of the product in the store
+     */
+    public void enqueue(ProductEntity product, StoreEntity store, double quantity) {
+        StockAlertEntity alert = stockAlertRepository.save(StockAlertEntity.builder()
+                .productName(product.getName())
+                .storeName(store.getStoreName())
+                .storeAddress(store.getAddress())
+                .quantity(quantity)
+                .build());
+        eventPublisher.publishEvent(new StockAlertQueuedEvent(alert.getId()));
+    }
+}
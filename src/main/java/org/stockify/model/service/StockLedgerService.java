@@ -0,0 +1,230 @@
+package org.stockify.model.service;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.stockify.dto.response.StockDriftResponse;
+import org.stockify.dto.response.StockLevelResponse;
+import org.stockify.dto.response.StockMovementResponse;
+import org.stockify.model.entity.StockMovementEntity;
+import org.stockify.model.entity.StockSnapshotEntity;
+import org.stockify.model.enums.StockMovementType;
+import org.stockify.model.exception.InvalidDateRangeException;
+import org.stockify.model.repository.StockMovementRepository;
+import org.stockify.model.repository.StockSnapshotRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only ledger of stock movements, with periodic snapshots per (product, store).
+ * <p>
+ * Every change to a stock row is recorded as a movement in the same transaction, and the quantity on the stock row
+ * is kept as the current projection of the ledger. The quantity at any past time is the latest snapshot taken up to
+ * that time plus the movements recorded after it. Snapshots only cover movements older than a lag, so a movement
+ * whose transaction commits late is never skipped.
+ * </p>
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class StockLedgerService {
+
+    /**
+     * Time of the opening snapshots, taken from the stock rows when the ledger is first enabled
+     */
+    public static final LocalDateTime LEDGER_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final double NEGLIGIBLE_QUANTITY = 1e-9;
+
+    private static final String SNAPSHOT = """
+            INSERT INTO stock_snapshots (product_id, store_id, as_of, quantity)
+            SELECT m.product_id, m.store_id, :asOf, coalesce(s.quantity, 0) + sum(m.quantity)
+            FROM stock_movements m
+            LEFT JOIN LATERAL (
+                SELECT ss.quantity, ss.as_of FROM stock_snapshots ss
+                WHERE ss.store_id = m.store_id AND ss.product_id = m.product_id
+                ORDER BY ss.as_of DESC
+                LIMIT 1
+            ) s ON true
+            WHERE m.recorded_at > :since AND m.recorded_at <= :asOf
+              AND (s.as_of IS NULL OR m.recorded_at > s.as_of)
+            GROUP BY m.store_id, m.product_id, s.quantity
+            """;
+
+    private static final String OPENING_SNAPSHOTS = """
+            INSERT INTO stock_snapshots (product_id, store_id, as_of, quantity)
+            SELECT s.product_id, s.store_id, :ledgerStart, s.quantity - coalesce((
+                SELECT sum(m.quantity) FROM stock_movements m
+                WHERE m.store_id = s.store_id AND m.product_id = s.product_id), 0)
+            FROM stock s
+            WHERE NOT EXISTS (
+                SELECT 1 FROM stock_snapshots ss WHERE ss.store_id = s.store_id AND ss.product_id = s.product_id)
+            """;
+
+    private static final String DRIFT = """
+            SELECT s.product_id, s.store_id, s.quantity AS stored,
+                   coalesce(sn.quantity, 0) + coalesce(mv.delta, 0) AS replayed
+            FROM stock s
+            LEFT JOIN LATERAL (
+                SELECT ss.quantity, ss.as_of FROM stock_snapshots ss
+                WHERE ss.store_id = s.store_id AND ss.product_id = s.product_id
+                ORDER BY ss.as_of DESC
+                LIMIT 1
+            ) sn ON true
+            LEFT JOIN LATERAL (
+                SELECT sum(m.quantity) AS delta FROM stock_movements m
+                WHERE m.store_id = s.store_id AND m.product_id = s.product_id
+                  AND (sn.as_of IS NULL OR m.recorded_at > sn.as_of)
+            ) mv ON true
+            WHERE s.store_id = :storeId
+              AND abs(s.quantity - (coalesce(sn.quantity, 0) + coalesce(mv.delta, 0))) > 0.0001
+            ORDER BY s.product_id
+            """;
+
+    private final StockMovementRepository stockMovementRepository;
+    private final StockSnapshotRepository stockSnapshotRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Logger logger = LoggerFactory.getLogger(StockLedgerService.class);
+
+    @Value("${stock-ledger.snapshot-lag-seconds:300}")
+    private long snapshotLagSeconds;
+
+    /**
+     * Records a movement of one product in a store. Zero changes are not recorded.
+     *
+     * @param productId the product ID
+     * @param storeId   the store ID
+     * @param type      the cause of the movement
+     * @param quantity  the signed change of the quantity
+     */
+    public void record(Long productId, Long storeId, StockMovementType type, double quantity) {
+        record(storeId, type, Map.of(productId, quantity));
+    }
+
+    /**
+     * Records movements of several products in a store with one batched insert.
+     * Zero changes, and rounding leftovers of floating-point arithmetic, are not recorded.
+     *
+     * @param storeId    the store ID
+     * @param type       the cause of the movements
+     * @param quantities the signed change of the quantity of each product
+     */
+    public void record(Long storeId, StockMovementType type, Map<Long, Double> quantities) {
+        LocalDateTime now = LocalDateTime.now();
+        List<StockMovementEntity> movements = quantities.entrySet().stream()
+                .filter(entry -> Math.abs(entry.getValue()) > NEGLIGIBLE_QUANTITY)
+                .map(entry -> StockMovementEntity.builder()
+                        .productId(entry.getKey())
+                        .storeId(storeId)
+                        .type(type)
+                        .quantity(entry.getValue())
+                        .recordedAt(now)
+                        .build())
+                .toList();
+        if (!movements.isEmpty()) {
+            stockMovementRepository.saveAll(movements);
+        }
+    }
+
+    /**
+     * Computes the quantity of a product in a store at a point in time,
+     * replaying the movements recorded after the nearest earlier snapshot.
+     *
+     * @param productId the product ID
+     * @param storeId   the store ID
+     * @param asOf      the point in time
+     * @return the quantity on hand at that time
+     */
+    public StockLevelResponse getQuantityAsOf(Long productId, Long storeId, LocalDateTime asOf) {
+        StockSnapshotEntity snapshot = stockSnapshotRepository
+                .findFirstByStoreIdAndProductIdAndAsOfLessThanEqualOrderByAsOfDesc(storeId, productId, asOf)
+                .orElse(null);
+        double base = snapshot != null ? snapshot.getQuantity() : 0;
+        LocalDateTime after = snapshot != null ? snapshot.getAsOf() : LEDGER_START.minusNanos(1);
+
+        double quantity = base + stockMovementRepository.sumQuantity(storeId, productId, after, asOf);
+        return new StockLevelResponse(productId, storeId, asOf, quantity, snapshot != null ? snapshot.getAsOf() : null);
+    }
+
+    /**
+     * Retrieves the movements of a product in a store recorded in a period.
+     *
+     * @param productId the product ID
+     * @param storeId   the store ID
+     * @param from      start of the period, inclusive
+     * @param to        end of the period, inclusive
+     * @param pageable  pagination and sorting information
+     * @return a page of movements
+     * @throws InvalidDateRangeException if the period ends before it starts
+     */
+    public Page<StockMovementResponse> getMovements(Long productId, Long storeId, LocalDateTime from,
+                                                    LocalDateTime to, Pageable pageable) {
+        if (to.isBefore(from)) {
+            throw new InvalidDateRangeException("The end date " + to + " is before the start date " + from);
+        }
+        return stockMovementRepository.findByStoreIdAndProductIdAndRecordedAtBetween(storeId, productId, from, to, pageable)
+                .map(movement -> new StockMovementResponse(movement.getId(), movement.getProductId(),
+                        movement.getStoreId(), movement.getType(), movement.getQuantity(), movement.getRecordedAt()));
+    }
+
+    /**
+     * Lists the stock rows of a store whose stored quantity differs from the one replayed from the ledger.
+     *
+     * @param storeId the store ID
+     * @return the drifted rows, ordered by product ID
+     */
+    public List<StockDriftResponse> findDrift(Long storeId) {
+        return jdbcTemplate.query(DRIFT, new MapSqlParameterSource("storeId", storeId),
+                (rs, rowNum) -> new StockDriftResponse(rs.getLong("product_id"), rs.getLong("store_id"),
+                        rs.getDouble("stored"), rs.getDouble("replayed")));
+    }
+
+    /**
+     * Writes a snapshot for every (product, store) with movements since the previous run.
+     * Only one node takes snapshots at a time.
+     */
+    @Scheduled(fixedDelayString = "${stock-ledger.snapshot-interval-ms:3600000}")
+    public void takeSnapshots() {
+        Boolean locked = jdbcTemplate.getJdbcTemplate().queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext('stock_snapshots'))", Boolean.class);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        LocalDateTime asOf = LocalDateTime.now().minusSeconds(snapshotLagSeconds);
+        LocalDateTime since = jdbcTemplate.getJdbcTemplate().queryForObject(
+                "SELECT max(as_of) FROM stock_snapshots", LocalDateTime.class);
+        if (since == null) {
+            since = LEDGER_START.minusNanos(1);
+        }
+        if (!since.isBefore(asOf)) {
+            return;
+        }
+
+        int rows = jdbcTemplate.update(SNAPSHOT, new MapSqlParameterSource()
+                .addValue("since", since)
+                .addValue("asOf", asOf));
+        logger.info("Stock ledger snapshot as of {}: {} rows", asOf, rows);
+    }
+
+    /**
+     * Writes the opening snapshot of every stock row that has none, so stock that existed before the ledger
+     * keeps its quantity. Movements already recorded for the row are discounted from it.
+     */
+    public void takeOpeningSnapshots() {
+        int rows = jdbcTemplate.update(OPENING_SNAPSHOTS, new MapSqlParameterSource("ledgerStart", LEDGER_START));
+        if (rows > 0) {
+            logger.info("Stock ledger opened for {} stock rows", rows);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.stockify.model.service;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -10,11 +11,14 @@ import org.stockify.config.GlobalPreferencesConfig;
 import org.stockify.dto.request.product.ProductFilterRequest;
 import org.stockify.dto.request.stock.StockRequest;
 import org.stockify.dto.request.stock.StockTransferRequest;
+import org.stockify.dto.request.transaction.DetailTransactionRequest;
 import org.stockify.dto.response.ProductStoreResponse;
 import org.stockify.dto.response.StockResponse;
 import org.stockify.model.entity.ProductEntity;
 import org.stockify.model.entity.StockEntity;
 import org.stockify.model.entity.StoreEntity;
+import org.stockify.model.enums.StockMovementType;
+import org.stockify.model.event.StockChangedEvent;
 import org.stockify.model.exception.InsufficientStockException;
 import org.stockify.model.exception.NotFoundException;
 import org.stockify.model.mapper.ProductStoreMapper;
@@ -24,10 +28,17 @@ import org.stockify.model.repository.StockRepository;
 import org.stockify.model.repository.StoreRepository;
 import org.stockify.model.specification.StockSpecifications;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for managing stock-related operations in the system.
+ * Every change to a stock row is also recorded in the stock ledger, in the same transaction.
  */
 @Service
 @RequiredArgsConstructor
@@ -38,9 +49,12 @@ public class StockService {
     private final ProductStoreMapper productStoreMapper;
     private final StockMapper stockMapper;
     private final ProductRepository productRepository;
+    private final ProductCache productCache;
     private final StoreRepository storeRepository;
     private final GlobalPreferencesConfig globalPreferencesConfig;
-    private final EmailService emailService;
+    private final StockAlertService stockAlertService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StockLedgerService stockLedgerService;
 
     /**
      * Lists products available in a specific store, applying filters and pagination.
@@ -103,7 +117,10 @@ public class StockService {
      * @param storeId   the store ID
      */
     public void removeStock(Long productId, Long storeId) {
+        stockRepository.findQuantityByProductIdAndStoreId(productId, storeId).ifPresent(quantity ->
+                stockLedgerService.record(productId, storeId, StockMovementType.COUNT, -quantity));
         stockRepository.deleteByProductIdAndStoreId(productId, storeId);
+        stockChanged(storeId, List.of(productId));
     }
 
     /**
@@ -131,11 +148,14 @@ public class StockService {
         ProductEntity product = findProduct(productID);
         StoreEntity store = findStore(storeID);
         StockEntity stock = stockMapper.toEntity(request, product, store);
+        stockLedgerService.record(productID, storeID, StockMovementType.COUNT, stock.getQuantity());
+        stockChanged(storeID, List.of(productID));
         return stockMapper.toResponse(stockRepository.save(stock));
     }
 
     /**
      * Updates an existing product's stock in a store.
+     * A concurrent change to the row fails the write on its version; callers retry it through {@link OptimisticRetry}.
      *
      * @param productID the product ID
      * @param storeID   the store ID
@@ -144,12 +164,16 @@ public class StockService {
      */
     public StockResponse updateStock(Long productID, Long storeID, StockRequest request) {
         StockEntity stock = findStockByProductAndStore(productID, storeID);
+        stockLedgerService.record(productID, storeID, StockMovementType.COUNT, request.quantity() - stock.getQuantity());
         stock.setQuantity(request.quantity());
+        stockChanged(storeID, List.of(productID));
         return stockMapper.toResponse(stockRepository.save(stock));
     }
 
     /**
      * Transfers stock from one store to another.
+     * Both rows are updated with atomic conditional statements, always in store ID order,
+     * so concurrent transfers between the same stores can't deadlock or lose updates.
      *
      * @param originStoreID   the ID of the origin store
      * @param transferRequest the request containing destination store and quantity
@@ -159,50 +183,54 @@ public class StockService {
      */
     @Transactional
     public List<StockResponse> transferStock(Long originStoreID, StockTransferRequest transferRequest) {
-        StockEntity stockFrom = findStockByProductAndStore(transferRequest.productId(), originStoreID);
-        StockEntity stockTo = findStockByProductAndStore(transferRequest.productId(), transferRequest.destinationStoreId());
-
+        Long productId = transferRequest.productId();
+        Long destinationStoreID = transferRequest.destinationStoreId();
         Double quantityToTransfer = transferRequest.quantity();
 
-        if (stockFrom.getQuantity() < quantityToTransfer) {
-            throw new InsufficientStockException("Not enough stock in origin store to transfer.");
-        }
-        if (originStoreID.equals(transferRequest.destinationStoreId())) {
+        if (originStoreID.equals(destinationStoreID)) {
             throw new InsufficientStockException("Origin and destination store cannot be the same.");
         }
 
-        stockFrom.setQuantity(stockFrom.getQuantity() - quantityToTransfer);
-        stockTo.setQuantity(stockTo.getQuantity() + quantityToTransfer);
-
-        StockResponse responseFrom = stockMapper.toResponse(stockRepository.save(stockFrom));
-        StockResponse responseTo = stockMapper.toResponse(stockRepository.save(stockTo));
+        if (originStoreID < destinationStoreID) {
+            takeFromOrigin(productId, originStoreID, quantityToTransfer);
+            addToDestination(productId, destinationStoreID, quantityToTransfer);
+        } else {
+            addToDestination(productId, destinationStoreID, quantityToTransfer);
+            takeFromOrigin(productId, originStoreID, quantityToTransfer);
+        }
+        stockLedgerService.record(productId, originStoreID, StockMovementType.TRANSFER, -quantityToTransfer);
+        stockLedgerService.record(productId, destinationStoreID, StockMovementType.TRANSFER, quantityToTransfer);
+        stockChanged(originStoreID, List.of(productId));
+        stockChanged(destinationStoreID, List.of(productId));
 
-        return List.of(responseFrom, responseTo);
+        return List.of(currentStock(productId, originStoreID), currentStock(productId, destinationStoreID));
     }
 
     /**
      * Increases the stock quantity of a product in a store.
      * If the quantity surpasses the alert threshold, the low stock flag is reset.
+     * The update is a single atomic statement, safe under concurrent purchases.
      *
      * @param productId the product ID
      * @param storeId   the store ID
      * @param quantity  the quantity to increase
      * @return updated stock response
+     * @throws NotFoundException if a product, store or stock isn't found
      */
     public StockResponse increaseStock(Long productId, Long storeId, Double quantity) {
-        StockEntity stock = findStockByProductAndStore(productId, storeId);
-        stock.setQuantity(stock.getQuantity() + quantity);
-
-        if (stock.getQuantity() > globalPreferencesConfig.getStockAlertThreshold()) {
-            stock.setLowStockAlertSent(false);
+        if (stockRepository.increaseQuantity(productId, storeId, quantity, globalPreferencesConfig.getStockAlertThreshold()) == 0) {
+            throw stockNotFound(productId, storeId);
         }
-
-        return stockMapper.toResponse(stockRepository.save(stock));
+        stockLedgerService.record(productId, storeId, StockMovementType.PURCHASE, quantity);
+        stockChanged(storeId, List.of(productId));
+        return currentStock(productId, storeId);
     }
 
     /**
      * Decreases the stock quantity of a product in a store.
-     * Sends an email alert if the quantity is below a threshold.
+     * The check and the update are a single atomic statement, so stock can't go negative
+     * under concurrent sales. Queues an email alert if the quantity is below a threshold;
+     * only one of several concurrent sales can claim the alert.
      *
      * @param productId the product ID
      * @param storeId   the store ID
@@ -211,14 +239,96 @@ public class StockService {
      * @throws InsufficientStockException if the quantity to decrease exceeds available stock
      */
     public StockResponse decreaseStock(Long productId, Long storeId, Double quantity) {
-        StockEntity stock = findStockByProductAndStore(productId, storeId);
-        if (stock.getQuantity() < quantity) {
+        if (stockRepository.decreaseQuantity(productId, storeId, quantity) == 0) {
+            findStockByProductAndStore(productId, storeId);
             throw new InsufficientStockException("Stock not enough to decrease");
         }
+        stockLedgerService.record(productId, storeId, StockMovementType.SALE, -quantity);
+        stockChanged(storeId, List.of(productId));
 
-        stock.setQuantity(stock.getQuantity() - quantity);
-        emailService.sendStockAlert(stock);
-        return stockMapper.toResponse(stockRepository.save(stock));
+        StockResponse response = currentStock(productId, storeId);
+        if (globalPreferencesConfig.shouldSendStockAlert(response.stock(), false)
+                && stockRepository.markLowStockAlertSent(productId, storeId) == 1) {
+            stockAlertService.enqueue(findProduct(productId), findStore(storeId), response.stock());
+        }
+        return response;
+    }
+
+    /**
+     * Decreases the stock of every product in a basket for a single store.
+     * Quantities of repeated products are summed, all stock rows are loaded and locked
+     * with one query, and every line without enough stock is reported together.
+     * Queues an email alert for each product that drops below the threshold.
+     *
+     * @param storeId the store ID
+     * @param details the basket lines with product IDs and quantities
+     * @return updated stock responses, ordered by product ID
+     * @throws NotFoundException if the store isn't found or a product has no stock in it
+     * @throws InsufficientStockException if one or more lines exceed the available stock
+     */
+    public List<StockResponse> decreaseStockBatch(Long storeId, List<DetailTransactionRequest> details) {
+        if (!storeRepository.existsById(storeId)) {
+            throw new NotFoundException("Store not found with id: " + storeId);
+        }
+
+        Map<Long, Double> requested = details.stream()
+                .collect(Collectors.toMap(
+                        DetailTransactionRequest::getProductID,
+                        DetailTransactionRequest::getQuantity,
+                        Double::sum,
+                        LinkedHashMap::new));
+        if (requested.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, StockEntity> stocks = stockRepository
+                .findAllByStoreIdAndProductIdsForUpdate(storeId, requested.keySet())
+                .stream()
+                .collect(Collectors.toMap(s -> s.getProduct().getId(), Function.identity()));
+
+        List<Long> missing = requested.keySet().stream()
+                .filter(productId -> !stocks.containsKey(productId))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new NotFoundException("Stock not found for product ids: " + missing + " and store id: " + storeId);
+        }
+
+        List<String> shortLines = new ArrayList<>();
+        requested.forEach((productId, quantity) -> {
+            StockEntity stock = stocks.get(productId);
+            if (stock.getQuantity() < quantity) {
+                shortLines.add(String.format("product id %d (requested %.2f, available %.2f)",
+                        productId, quantity, stock.getQuantity()));
+            }
+        });
+        if (!shortLines.isEmpty()) {
+            throw new InsufficientStockException("Stock not enough to decrease for " + String.join(", ", shortLines));
+        }
+
+        requested.forEach((productId, quantity) -> {
+            StockEntity stock = stocks.get(productId);
+            stock.setQuantity(stock.getQuantity() - quantity);
+            stockAlertService.enqueue(stock);
+        });
+        Map<Long, Double> movements = new LinkedHashMap<>();
+        requested.forEach((productId, quantity) -> movements.put(productId, -quantity));
+        stockLedgerService.record(storeId, StockMovementType.SALE, movements);
+        stockChanged(storeId, List.copyOf(requested.keySet()));
+
+        return stockRepository.saveAll(stocks.values()).stream()
+                .sorted(Comparator.comparing((StockEntity s) -> s.getProduct().getId()))
+                .map(stockMapper::toResponse)
+                .toList();
+    }
+
+    /**
+     * Publishes a stock change, delivered to listeners once the transaction commits.
+     *
+     * @param storeId    the store ID
+     * @param productIds the IDs of the products whose stock changed
+     */
+    private void stockChanged(Long storeId, List<Long> productIds) {
+        eventPublisher.publishEvent(new StockChangedEvent(storeId, productIds));
     }
 
     /**
@@ -230,7 +340,7 @@ public class StockService {
      * @throws NotFoundException if product, store or stock is not found
      */
     private StockEntity findStockByProductAndStore(Long productId, Long storeId) {
-        productRepository.findById(productId)
+        productCache.find(productId)
                 .orElseThrow(() -> new NotFoundException("Product not found with id: " + productId));
         storeRepository.findById(storeId)
                 .orElseThrow(() -> new NotFoundException("Store not found with id: " + storeId));
@@ -238,15 +348,78 @@ public class StockService {
                 .orElseThrow(() -> new NotFoundException("Stock not found for product id: " + productId + " and store id: " + storeId));
     }
 
+    /**
+     * Utility method to atomically take the transferred quantity from the origin store.
+     *
+     * @param productId the product ID
+     * @param storeId   the origin store ID
+     * @param quantity  the quantity to take
+     * @throws NotFoundException if product, store or stock is not found
+     * @throws InsufficientStockException if the origin store doesn't have enough stock
+     */
+    private void takeFromOrigin(Long productId, Long storeId, Double quantity) {
+        if (stockRepository.decreaseQuantity(productId, storeId, quantity) == 0) {
+            findStockByProductAndStore(productId, storeId);
+            throw new InsufficientStockException("Not enough stock in origin store to transfer.");
+        }
+    }
+
+    /**
+     * Utility method to atomically add the transferred quantity to the destination store.
+     *
+     * @param productId the product ID
+     * @param storeId   the destination store ID
+     * @param quantity  the quantity to add
+     * @throws NotFoundException if product, store or stock is not found
+     */
+    private void addToDestination(Long productId, Long storeId, Double quantity) {
+        if (stockRepository.increaseQuantity(productId, storeId, quantity, globalPreferencesConfig.getStockAlertThreshold()) == 0) {
+            throw stockNotFound(productId, storeId);
+        }
+    }
+
+    /**
+     * Utility method to read the committed quantity of a stock row after an atomic update.
+     *
+     * @param productId the product ID
+     * @param storeId   the store ID
+     * @return stock response with the current quantity
+     * @throws NotFoundException if the stock is not found
+     */
+    private StockResponse currentStock(Long productId, Long storeId) {
+        Double quantity = stockRepository.findQuantityByProductIdAndStoreId(productId, storeId)
+                .orElseThrow(() -> stockNotFound(productId, storeId));
+        return new StockResponse(productId, storeId, quantity);
+    }
+
+    /**
+     * Utility method to build the most specific not found error for a missing stock row.
+     *
+     * @param productId the product ID
+     * @param storeId   the store ID
+     * @return the exception to throw
+     */
+    private NotFoundException stockNotFound(Long productId, Long storeId) {
+        if (productCache.find(productId).isEmpty()) {
+            return new NotFoundException("Product not found with id: " + productId);
+        }
+        if (!storeRepository.existsById(storeId)) {
+            return new NotFoundException("Store not found with id: " + storeId);
+        }
+        return new NotFoundException("Stock not found for product id: " + productId + " and store id: " + storeId);
+    }
+
     /**
      * Utility method to find a product by ID.
+     * Its existence is checked in the product cache, and a reference is returned without reading the row.
      *
      * @param productId the product ID
      * @return found ProductEntity
      */
     private ProductEntity findProduct(Long productId) {
-        return productRepository.findById(productId)
+        productCache.find(productId)
                 .orElseThrow(() -> new NotFoundException("Product not found with id: " + productId));
+        return productRepository.getReferenceById(productId);
     }
 
     /**
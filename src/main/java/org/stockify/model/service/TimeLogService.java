@@ -3,17 +3,21 @@ package org.stockify.model.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.stockify.dto.request.employee.TimeLogRequest;
 import org.stockify.dto.response.TimeLogResponse;
 import org.stockify.model.entity.TimeLogEntity;
 import org.stockify.model.mapper.TimeLogMapper;
+import org.stockify.model.pagination.KeysetPagination;
 import org.stockify.model.repository.TimeLogRepository;
 import org.stockify.model.specification.TimeLogSpecifications;
 import org.stockify.model.exception.NotFoundException;
+import org.stockify.model.exception.InvalidCursorException;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Set;
 
 /**
  * Service responsible for managing employee time log records.
@@ -24,6 +28,9 @@ import java.time.LocalTime;
 @Service
 public class TimeLogService {
 
+    /** Non-null properties time log windows can be sorted by in cursor mode; the clock-out time is null while a shift is open. */
+    private static final Set<String> CURSOR_SORTS = Set.of("id", "date", "clockInTime");
+
     private final TimeLogRepository timeLogRepository;
     private final TimeLogMapper timeLogMapper;
 
@@ -50,18 +57,43 @@ public class TimeLogService {
      */
     public Page<TimeLogResponse> getTimeLogs(
             Long employeeId, String date, String clockInTime, String clockOutTime, Pageable pageable
+    ) {
+        Specification<TimeLogEntity> spec = buildSpecification(employeeId, date, clockInTime, clockOutTime);
+        return timeLogRepository.findAll(spec, pageable).map(timeLogMapper::toResponse);
+    }
+
+    /**
+     * Retrieves the window of time logs after a cursor, applying the same filters as {@link #getTimeLogs}.
+     * No total count is computed.
+     *
+     * @param employeeId    the ID of the employee (required)
+     * @param date          the date filter in ISO format (optional)
+     * @param clockInTime   the clock-in time filter in HH:mm:ss format (optional)
+     * @param clockOutTime  the clock-out time filter in HH:mm:ss format (optional)
+     * @param pageable      window size and sorting; the page number is ignored
+     * @param cursor        the cursor returned with the previous window, or null for the first one
+     * @return a {@link Window} of {@link TimeLogResponse} matching the given filters
+     * @throws InvalidCursorException if the cursor is malformed or the sort uses a property outside the cursor sorts
+     */
+    public Window<TimeLogResponse> scrollTimeLogs(
+            Long employeeId, String date, String clockInTime, String clockOutTime, Pageable pageable, String cursor
+    ) {
+        Specification<TimeLogEntity> spec = buildSpecification(employeeId, date, clockInTime, clockOutTime);
+        return KeysetPagination.scroll(timeLogRepository, spec, pageable, cursor, CURSOR_SORTS).map(timeLogMapper::toResponse);
+    }
+
+    private Specification<TimeLogEntity> buildSpecification(
+            Long employeeId, String date, String clockInTime, String clockOutTime
     ) {
         LocalDate parsedDate = (date != null) ? LocalDate.parse(date) : null;
         LocalTime inTime = (clockInTime != null) ? LocalTime.parse(clockInTime) : null;
         LocalTime outTime = (clockOutTime != null) ? LocalTime.parse(clockOutTime) : null;
 
-        Specification<TimeLogEntity> spec = Specification
+        return Specification
                 .where(TimeLogSpecifications.hasEmployeeId(employeeId))
                 .and(TimeLogSpecifications.hasDate(parsedDate))
                 .and(TimeLogSpecifications.hasClockInTime(inTime))
                 .and(TimeLogSpecifications.hasClockOutTime(outTime));
-
-        return timeLogRepository.findAll(spec, pageable).map(timeLogMapper::toResponse);
     }
 
     /**
@@ -2,8 +2,10 @@ package org.stockify.model.service;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.stockify.dto.request.transaction.DetailTransactionRequest;
 import org.stockify.dto.request.transaction.TransactionCreatedRequest;
 import org.stockify.dto.request.transaction.TransactionRequest;
 import org.stockify.dto.response.TransactionCreatedResponse;
@@ -11,10 +13,10 @@ import org.stockify.dto.response.TransactionResponse;
 import org.stockify.model.entity.DetailTransactionEntity;
 import org.stockify.model.entity.EmployeeEntity;
 import org.stockify.model.entity.PosEntity;
-import org.stockify.model.entity.ProductEntity;
 import org.stockify.model.entity.StoreEntity;
 import org.stockify.model.entity.TransactionEntity;
 import org.stockify.model.enums.TransactionType;
+import org.stockify.model.event.TransactionRecordedEvent;
 import org.stockify.model.exception.InvalidSessionStatusException;
 import org.stockify.model.exception.NotFoundException;
 import org.stockify.model.mapper.TransactionMapper;
@@ -29,6 +31,7 @@ import org.stockify.security.service.JwtService;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -47,11 +50,13 @@ public class TransactionService {
     private final TransactionMapper transactionMapper;
     private final StoreRepository storeRepository;
     private final ProductRepository productRepository;
+    private final ProductCache productCache;
     private final PosRepository posRepository;
     private final SessionPosRepository sessionPosRepository;
     private final SessionPosService sessionPosService;
     private final JwtService jwtService;
     private final CredentialRepository credentialRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Creates and saves a monetary transaction without product details.
@@ -87,6 +92,18 @@ public class TransactionService {
         return transactionMapper.toDtoCreated(transactionRepository.save(transactionEntity));
     }
 
+    /**
+     * Retrieves a transaction in the format returned when it was created.
+     *
+     * @param id the ID of the transaction
+     * @return a response containing details of the transaction
+     * @throws NotFoundException if the transaction is not found
+     */
+    public TransactionCreatedResponse findCreatedById(Long id) {
+        return transactionMapper.toDtoCreated(transactionRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Transaction with ID " + id + " not found.")));
+    }
+
     /**
      * Validates the POS and authenticated employee before creating a transaction.
      * This method centralizes common validation logic used in both purchase and sale operations.
@@ -101,8 +118,7 @@ public class TransactionService {
             throw new InvalidSessionStatusException("POS with ID " + posID + " is closed. Please open it before creating a transaction.");
         }
 
-        String token = jwtService.extractTokenFromSecurityContext();
-        String userEmail = jwtService.extractUsername(token);
+        String userEmail = jwtService.currentToken().subject();
         CredentialsEntity credentials = credentialRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado"));
         EmployeeEntity authenticatedEmployee = credentials.getEmployee();
@@ -121,6 +137,7 @@ public class TransactionService {
      * Creates and saves a transaction that includes product details.
      * Used in sale and purchase operations, this method builds a transaction entity
      * with all the associated product quantities, prices, and subtotals.
+     * The products of the basket are resolved together from the {@link ProductCache}.
      *
      * @param request the detailed transaction data including a product list and quantities
      * @param idLocal the ID of the store where the transaction occurs
@@ -136,21 +153,27 @@ public class TransactionService {
             throw new NotFoundException("POS with ID " + idPos + " not found.");
         }
 
+        Map<Long, ProductCache.ProductView> products = productCache.getAll(request.getDetailTransactions().stream()
+                .map(DetailTransactionRequest::getProductID)
+                .collect(Collectors.toSet()));
+
         // Convert each detail to an entity, linking the product and calculating subtotal
         Set<DetailTransactionEntity> detailTransactions = request
                 .getDetailTransactions()
                 .stream()
                 .map(detailRequest -> {
-                    ProductEntity product = productRepository.findById(detailRequest.getProductID())
-                            .orElseThrow(() -> new NotFoundException("Product with ID " + detailRequest.getProductID() + " not found."));
+                    ProductCache.ProductView product = products.get(detailRequest.getProductID());
+                    if (product == null) {
+                        throw new NotFoundException("Product with ID " + detailRequest.getProductID() + " not found.");
+                    }
 
                     DetailTransactionEntity entity = new DetailTransactionEntity();
-                    entity.setProduct(product);
+                    entity.setProduct(productRepository.getReferenceById(product.id()));
 
                     BigDecimal quantity = BigDecimal.valueOf(detailRequest.getQuantity());
                     entity.setQuantity(quantity);
 
-                    entity.setSubtotal(product.getPrice().multiply(quantity));
+                    entity.setSubtotal(product.price().multiply(quantity));
 
                     return entity;
                 })
@@ -182,7 +205,9 @@ public class TransactionService {
         transactionEntity.setDescription(request.getDescription());
         transactionEntity.setType(type);
 
-        return transactionRepository.save(transactionEntity);
+        TransactionEntity saved = transactionRepository.save(transactionEntity);
+        eventPublisher.publishEvent(new TransactionRecordedEvent(List.of(saved.getId())));
+        return saved;
     }
 
     /**
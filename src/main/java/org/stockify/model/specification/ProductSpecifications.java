@@ -1,5 +1,6 @@
 package org.stockify.model.specification;
 
+import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 import org.stockify.model.entity.ProductEntity;
 import java.util.List;
@@ -11,13 +12,13 @@ public class ProductSpecifications {
     }
 
     public static Specification<ProductEntity> byProvider(String provider) {
-        return (root, query, cb) ->
-                cb.like(cb.lower(root.join("providers").get("name")), "%" + provider.toLowerCase() + "%");
+        return (root, query, cb) -> SpecificationBuilder.exists(query, cb, ProductEntity.class, root, "providers",
+                providers -> cb.like(cb.lower(providers.get("name")), "%" + provider.toLowerCase() + "%"));
     }
 
     public static Specification<ProductEntity> byCategory(String category) {
-        return (root, query, cb) ->
-                cb.like(cb.lower(root.join("categories").get("name")), "%" + category.toLowerCase() + "%");
+        return (root, query, cb) -> SpecificationBuilder.exists(query, cb, ProductEntity.class, root, "categories",
+                categories -> cb.like(cb.lower(categories.get("name")), "%" + category.toLowerCase() + "%"));
     }
 
     public static Specification<ProductEntity> bySku (String sku) {
@@ -27,31 +28,27 @@ public class ProductSpecifications {
 
     public static Specification<ProductEntity> byBarCode(String barCode) {
     return (root, query, cb) ->
-            cb.like(root.get("barCode"), "%" + barCode + "%");
+            cb.like(root.get("barcode"), "%" + barCode + "%");
     }
 
     public static Specification<ProductEntity> byCategories(List<String> categories) {
         if (categories == null || categories.isEmpty()) {
             return (root, query, cb) -> cb.conjunction();
         }
-        return (root, query, cb) -> {
-            query.distinct(true);
-            return cb.or(categories.stream()
-                    .map(category -> cb.like(cb.lower(root.join("categories").get("name")), "%" + category.toLowerCase() + "%"))
-                    .toArray(jakarta.persistence.criteria.Predicate[]::new));
-        };
+        return (root, query, cb) -> SpecificationBuilder.exists(query, cb, ProductEntity.class, root, "categories",
+                join -> cb.or(categories.stream()
+                        .map(category -> cb.like(cb.lower(join.get("name")), "%" + category.toLowerCase() + "%"))
+                        .toArray(Predicate[]::new)));
     }
 
     public static Specification<ProductEntity> byProviders(List<String> providers) {
         if (providers == null || providers.isEmpty()) {
             return (root, query, cb) -> cb.conjunction();
         }
-        return (root, query, cb) -> {
-            query.distinct(true);
-            return cb.or(providers.stream()
-                    .map(provider -> cb.like(cb.lower(root.join("providers").get("name")), "%" + provider.toLowerCase() + "%"))
-                    .toArray(jakarta.persistence.criteria.Predicate[]::new));
-        };
+        return (root, query, cb) -> SpecificationBuilder.exists(query, cb, ProductEntity.class, root, "providers",
+                join -> cb.or(providers.stream()
+                        .map(provider -> cb.like(cb.lower(join.get("name")), "%" + provider.toLowerCase() + "%"))
+                        .toArray(Predicate[]::new)));
     }
 
     public static Specification<ProductEntity> byBrand(String brand) {
@@ -85,30 +82,22 @@ public class ProductSpecifications {
     }
 
     public static Specification<ProductEntity> byStock(Double stock) {
-    return (root, query, cb) -> {
-        query.distinct(true);
-        return cb.equal(root.join("stocks").get("quantity"), stock);
-    };
-}
+        return (root, query, cb) -> SpecificationBuilder.exists(query, cb, ProductEntity.class, root, "stocks",
+                stocks -> cb.equal(stocks.get("quantity"), stock));
+    }
 
     public static Specification<ProductEntity> byStockLessThan(Double stockLessThan) {
-        return (root, query, cb) -> {
-            query.distinct(true);
-            return cb.lessThan(root.join("stocks").get("quantity"), stockLessThan);
-        };
+        return (root, query, cb) -> SpecificationBuilder.exists(query, cb, ProductEntity.class, root, "stocks",
+                stocks -> cb.lessThan(stocks.get("quantity"), stockLessThan));
     }
 
     public static Specification<ProductEntity> byStockGreaterThan(Double stockGreaterThan) {
-        return (root, query, cb) -> {
-            query.distinct(true);
-            return cb.greaterThan(root.join("stocks").get("quantity"), stockGreaterThan);
-        };
+        return (root, query, cb) -> SpecificationBuilder.exists(query, cb, ProductEntity.class, root, "stocks",
+                stocks -> cb.greaterThan(stocks.get("quantity"), stockGreaterThan));
     }
 
     public static Specification<ProductEntity> byStockBetween(Double min, Double max) {
-        return (root, query, cb) -> {
-            query.distinct(true);
-            return cb.between(root.join("stocks").get("quantity"), min, max);
-        };
+        return (root, query, cb) -> SpecificationBuilder.exists(query, cb, ProductEntity.class, root, "stocks",
+                stocks -> cb.between(stocks.get("quantity"), min, max));
     }
 }
@@ -1,7 +1,21 @@
 package org.stockify.model.specification;
 
+import jakarta.persistence.criteria.*;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.function.Function;
+
+/**
+ * Combines optional specifications with AND, and provides the join helpers the specifications share.
+ * <p>
+ * To-one paths are joined through {@link #join(From, String)}, which reuses an existing inner join on the same
+ * attribute, so any combination of filters produces at most one join per path.
+ * To-many paths are filtered through {@link #exists}, which never multiplies the root rows:
+ * no DISTINCT is needed and page counts stay correct.
+ * Because the generated query only depends on which filters are present, each filter combination yields the
+ * same query shape, and Hibernate's query plan cache reuses its compiled SQL.
+ * </p>
+ */
 public class SpecificationBuilder<T> {
     private Specification<T> spec = Specification.where(null);
 
@@ -15,4 +29,43 @@ public class SpecificationBuilder<T> {
     public Specification<T> build() {
         return spec;
     }
+
+    /**
+     * Returns the inner join of the attribute, creating it only if the query has not joined it yet.
+     *
+     * @param from      the entity to join from
+     * @param attribute the name of the to-one attribute to join
+     * @return the shared join
+     */
+    @SuppressWarnings("unchecked")
+    public static <X, Y> Join<X, Y> join(From<?, X> from, String attribute) {
+        for (Join<X, ?> join : from.getJoins()) {
+            if (join.getAttribute().getName().equals(attribute) && join.getJoinType() == JoinType.INNER) {
+                return (Join<X, Y>) join;
+            }
+        }
+        return from.join(attribute);
+    }
+
+    /**
+     * Builds an {@code EXISTS} subquery matching the owner when any element of its collection satisfies the condition.
+     *
+     * @param query      the query the subquery belongs to
+     * @param cb         the criteria builder
+     * @param ownerType  the entity type owning the collection
+     * @param owner      the owner expression of the outer query, either its root or a to-one path
+     * @param collection the name of the to-many attribute
+     * @param condition  the condition over the collection element
+     * @return the EXISTS predicate
+     */
+    public static <E> Predicate exists(CriteriaQuery<?> query, CriteriaBuilder cb, Class<E> ownerType,
+                                       Expression<E> owner, String collection,
+                                       Function<Join<E, ?>, Predicate> condition) {
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<E> correlated = subquery.from(ownerType);
+        Join<E, ?> element = correlated.join(collection);
+        subquery.select(cb.literal(1))
+                .where(cb.equal(correlated, owner), condition.apply(element));
+        return cb.exists(subquery);
+    }
 }
@@ -1,6 +1,7 @@
 package org.stockify.model.specification;
 
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 import org.stockify.model.entity.ProductEntity;
 import org.stockify.model.entity.StockEntity;
@@ -18,7 +19,7 @@ public class StockSpecifications {
             return (root, query, cb) -> cb.conjunction();
         }
         return (root, query, cb) -> {
-            Join<StockEntity, ProductEntity> productJoin = root.join("product");
+            Join<StockEntity, ProductEntity> productJoin = SpecificationBuilder.join(root, "product");
             return cb.like(productJoin.get("name"), "%" + name + "%");
         };
     }
@@ -27,20 +28,16 @@ public class StockSpecifications {
         if (provider == null) {
             return (root, query, cb) -> cb.conjunction();
         }
-        return (root, query, cb) -> {
-            Join<StockEntity, ProductEntity> productJoin = root.join("product");
-            return cb.like(cb.lower(productJoin.join("providers").get("name")), "%" + provider.toLowerCase() + "%");
-        };
+        return (root, query, cb) -> SpecificationBuilder.exists(query, cb, ProductEntity.class, root.get("product"), "providers",
+                providers -> cb.like(cb.lower(providers.get("name")), "%" + provider.toLowerCase() + "%"));
     }
 
     public static Specification<StockEntity> byProductCategory(String category) {
         if (category == null) {
             return (root, query, cb) -> cb.conjunction();
         }
-        return (root, query, cb) -> {
-            Join<StockEntity, ProductEntity> productJoin = root.join("product");
-            return cb.like(cb.lower(productJoin.join("categories").get("name")), "%" + category.toLowerCase() + "%");
-        };
+        return (root, query, cb) -> SpecificationBuilder.exists(query, cb, ProductEntity.class, root.get("product"), "categories",
+                categories -> cb.like(cb.lower(categories.get("name")), "%" + category.toLowerCase() + "%"));
     }
 
     public static Specification<StockEntity> byProductSku(String sku) {
@@ -48,7 +45,7 @@ public class StockSpecifications {
             return (root, query, cb) -> cb.conjunction();
         }
         return (root, query, cb) -> {
-            Join<StockEntity, ProductEntity> productJoin = root.join("product");
+            Join<StockEntity, ProductEntity> productJoin = SpecificationBuilder.join(root, "product");
             return cb.like(productJoin.get("sku"), "%" + sku + "%");
         };
     }
@@ -58,7 +55,7 @@ public class StockSpecifications {
             return (root, query, cb) -> cb.conjunction();
         }
         return (root, query, cb) -> {
-            Join<StockEntity, ProductEntity> productJoin = root.join("product");
+            Join<StockEntity, ProductEntity> productJoin = SpecificationBuilder.join(root, "product");
             return cb.like(productJoin.get("barcode"), "%" + barCode + "%");
         };
     }
@@ -67,26 +64,20 @@ public class StockSpecifications {
         if (categories == null || categories.isEmpty()) {
             return (root, query, cb) -> cb.conjunction();
         }
-        return (root, query, cb) -> {
-            query.distinct(true);
-            Join<StockEntity, ProductEntity> productJoin = root.join("product");
-            return cb.or(categories.stream()
-                    .map(category -> cb.like(cb.lower(productJoin.join("categories").get("name")), "%" + category.toLowerCase() + "%"))
-                    .toArray(jakarta.persistence.criteria.Predicate[]::new));
-        };
+        return (root, query, cb) -> SpecificationBuilder.exists(query, cb, ProductEntity.class, root.get("product"), "categories",
+                join -> cb.or(categories.stream()
+                        .map(category -> cb.like(cb.lower(join.get("name")), "%" + category.toLowerCase() + "%"))
+                        .toArray(Predicate[]::new)));
     }
 
     public static Specification<StockEntity> byProductProviders(List<String> providers) {
         if (providers == null || providers.isEmpty()) {
             return (root, query, cb) -> cb.conjunction();
         }
-        return (root, query, cb) -> {
-            query.distinct(true);
-            Join<StockEntity, ProductEntity> productJoin = root.join("product");
-            return cb.or(providers.stream()
-                    .map(provider -> cb.like(cb.lower(productJoin.join("providers").get("name")), "%" + provider.toLowerCase() + "%"))
-                    .toArray(jakarta.persistence.criteria.Predicate[]::new));
-        };
+        return (root, query, cb) -> SpecificationBuilder.exists(query, cb, ProductEntity.class, root.get("product"), "providers",
+                join -> cb.or(providers.stream()
+                        .map(provider -> cb.like(cb.lower(join.get("name")), "%" + provider.toLowerCase() + "%"))
+                        .toArray(Predicate[]::new)));
     }
 
     public static Specification<StockEntity> byProductBrand(String brand) {
@@ -94,7 +85,7 @@ public class StockSpecifications {
             return (root, query, cb) -> cb.conjunction();
         }
         return (root, query, cb) -> {
-            Join<StockEntity, ProductEntity> productJoin = root.join("product");
+            Join<StockEntity, ProductEntity> productJoin = SpecificationBuilder.join(root, "product");
             return cb.like(productJoin.get("brand"), "%" + brand + "%");
         };
     }
@@ -104,7 +95,7 @@ public class StockSpecifications {
             return (root, query, cb) -> cb.conjunction();
         }
         return (root, query, cb) -> {
-            Join<StockEntity, ProductEntity> productJoin = root.join("product");
+            Join<StockEntity, ProductEntity> productJoin = SpecificationBuilder.join(root, "product");
             return cb.equal(productJoin.get("price"), price);
         };
     }
@@ -114,7 +105,7 @@ public class StockSpecifications {
             return (root, query, cb) -> cb.conjunction();
         }
         return (root, query, cb) -> {
-            Join<StockEntity, ProductEntity> productJoin = root.join("product");
+            Join<StockEntity, ProductEntity> productJoin = SpecificationBuilder.join(root, "product");
             return cb.greaterThan(productJoin.get("price"), price);
         };
     }
@@ -124,7 +115,7 @@ public class StockSpecifications {
             return (root, query, cb) -> cb.conjunction();
         }
         return (root, query, cb) -> {
-            Join<StockEntity, ProductEntity> productJoin = root.join("product");
+            Join<StockEntity, ProductEntity> productJoin = SpecificationBuilder.join(root, "product");
             return cb.lessThan(productJoin.get("price"), price);
         };
     }
@@ -134,7 +125,7 @@ public class StockSpecifications {
             return (root, query, cb) -> cb.conjunction();
         }
         return (root, query, cb) -> {
-            Join<StockEntity, ProductEntity> productJoin = root.join("product");
+            Join<StockEntity, ProductEntity> productJoin = SpecificationBuilder.join(root, "product");
             return cb.between(productJoin.get("price"), min, max);
         };
     }
@@ -144,7 +135,7 @@ public class StockSpecifications {
             return (root, query, cb) -> cb.conjunction();
         }
         return (root, query, cb) -> {
-            Join<StockEntity, ProductEntity> productJoin = root.join("product");
+            Join<StockEntity, ProductEntity> productJoin = SpecificationBuilder.join(root, "product");
             return cb.like(productJoin.get("description"), "%" + description + "%");
         };
     }
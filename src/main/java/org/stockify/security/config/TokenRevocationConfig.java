@@ -0,0 +1,34 @@
+package org.stockify.security.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.stockify.model.service.CacheInvalidationBus;
+import org.stockify.security.repository.RevokedTokenRepository;
+import org.stockify.security.service.DatabaseTokenRevocationStore;
+import org.stockify.security.service.InMemoryTokenRevocationStore;
+import org.stockify.security.service.TokenRevocationStore;
+
+/**
+ * Selects the token revocation backend with {@code security.token-revocation.store}:
+ * {@code database} shares revocations between nodes, {@code memory} keeps them on the local node.
+ */
+@Configuration
+public class TokenRevocationConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "security.token-revocation.store", havingValue = "database")
+    public TokenRevocationStore databaseTokenRevocationStore(RevokedTokenRepository revokedTokenRepository,
+                                                            TransactionTemplate transactionTemplate,
+                                                            CacheInvalidationBus cacheInvalidationBus) {
+        return new DatabaseTokenRevocationStore(revokedTokenRepository, transactionTemplate, cacheInvalidationBus);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(TokenRevocationStore.class)
+    public TokenRevocationStore inMemoryTokenRevocationStore() {
+        return new InMemoryTokenRevocationStore();
+    }
+}
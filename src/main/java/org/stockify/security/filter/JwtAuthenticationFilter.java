@@ -8,11 +8,12 @@ import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.stockify.security.model.VerifiedToken;
 import org.stockify.security.service.JwtService;
+import org.stockify.security.service.PrincipalCache;
 
 import java.io.IOException;
 
@@ -20,11 +21,11 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, PrincipalCache principalCache) {
         this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -44,18 +45,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         jwt = authHeader.substring(7);
 
-        if (jwtService.isTokenInvalidated(jwt)){
+        // Parse and verify the token once; services reuse it through JwtService.currentToken()
+        VerifiedToken verifiedToken = jwtService.verify(jwt);
+
+        if (jwtService.isTokenInvalidated(verifiedToken)){
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.getWriter().write("Token has been invalidated");
             return;
         }
 
-        userEmail = jwtService.extractUsername(jwt);
+        request.setAttribute(JwtService.VERIFIED_TOKEN_ATTRIBUTE, verifiedToken);
+        userEmail = verifiedToken.subject();
 
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            UserDetails userDetails = this.principalCache.get(userEmail);
             
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (jwtService.isTokenValid(verifiedToken, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -0,0 +1,68 @@
+package org.stockify.security.model;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.stockify.security.model.entity.CredentialsEntity;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Immutable, detached view of an authenticated user, safe to share between requests.
+ * Authorities are computed once when the principal is built.
+ *
+ * @param email       the user's email, used as username
+ * @param employeeId  the ID of the linked employee, or null
+ * @param authorities the roles and permits of the user
+ */
+public record AuthenticatedPrincipal(String email, Long employeeId, Set<GrantedAuthority> authorities)
+        implements UserDetails {
+
+    /**
+     * Builds a principal from loaded credentials, copying roles and permits into an immutable set.
+     *
+     * @param credentials credentials with roles and permits loaded
+     * @return the principal
+     */
+    public static AuthenticatedPrincipal from(CredentialsEntity credentials) {
+        return new AuthenticatedPrincipal(
+                credentials.getEmail(),
+                credentials.getEmployee() != null ? credentials.getEmployee().getId() : null,
+                Set.copyOf(credentials.getAuthorities()));
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
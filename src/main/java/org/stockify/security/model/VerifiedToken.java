@@ -0,0 +1,25 @@
+package org.stockify.security.model;
+
+import java.time.Instant;
+
+/**
+ * Immutable result of parsing and verifying a JWT once.
+ * Shared by the authentication filter and by services that need the current user during the same request.
+ *
+ * @param token      the raw compact token
+ * @param id         the token ID (jti claim), or a hash of the token for tokens issued without one
+ * @param subject    the subject (user email)
+ * @param issuedAt   when the token was issued
+ * @param expiration when the token expires
+ */
+public record VerifiedToken(String token, String id, String subject, Instant issuedAt, Instant expiration) {
+
+    /**
+     * Checks if the token is past its expiration time
+     *
+     * @return True if the token is expired, false otherwise
+     */
+    public boolean isExpired() {
+        return expiration != null && expiration.isBefore(Instant.now());
+    }
+}
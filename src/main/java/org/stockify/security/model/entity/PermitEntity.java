@@ -2,7 +2,11 @@ package org.stockify.security.model.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.proxy.HibernateProxy;
+import org.stockify.config.CacheRegions;
+import org.stockify.config.ReferenceDataChangeListener;
 import org.stockify.security.model.enums.Permit;
 
 import java.util.Objects;
@@ -14,6 +18,9 @@ import java.util.Set;
 @NoArgsConstructor
 @Builder
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PERMITS)
+@EntityListeners(ReferenceDataChangeListener.class)
 @Table(name = "permits")
 public class PermitEntity {
 
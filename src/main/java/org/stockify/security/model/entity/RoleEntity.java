@@ -5,6 +5,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.stockify.config.CacheRegions;
+import org.stockify.config.ReferenceDataChangeListener;
 import org.stockify.security.model.enums.Role;
 import java.util.List;
 import java.util.Set;
@@ -14,6 +18,9 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ROLES)
+@EntityListeners(ReferenceDataChangeListener.class)
 @Table(name = "roles")
 public class RoleEntity {
 
@@ -23,6 +30,7 @@ public class RoleEntity {
     @Enumerated(EnumType.STRING)
     Role role;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ROLE_PERMITS)
     @ManyToMany(cascade = CascadeType.MERGE, fetch = FetchType.EAGER)
     @JoinTable(
             name = "role_permits",
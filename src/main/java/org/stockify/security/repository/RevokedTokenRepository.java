@@ -0,0 +1,21 @@
+package org.stockify.security.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.stockify.security.model.entity.RevokedTokenEntity;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedTokenEntity, String> {
+
+    List<RevokedTokenEntity> findByRevokedAtAfterAndExpiresAtAfter(Instant revokedAfter, Instant expiresAfter);
+
+    @Modifying
+    @Query("DELETE FROM RevokedTokenEntity r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,7 +1,11 @@
 package org.stockify.security.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.stockify.config.CacheRegions;
 import org.stockify.security.model.entity.RoleEntity;
 import org.stockify.security.model.enums.Role;
 
@@ -9,5 +13,8 @@ import java.util.Optional;
 
 @Repository
 public interface RolRepository extends JpaRepository<RoleEntity, Long> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.LOOKUPS)})
     Optional<RoleEntity> findByRole(Role role);
 }
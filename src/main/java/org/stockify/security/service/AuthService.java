@@ -14,14 +14,17 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.stockify.dto.response.EmployeeResponse;
 import org.stockify.model.entity.EmployeeEntity;
+import org.stockify.model.enums.InvalidatedCache;
 import org.stockify.model.enums.Status;
 import org.stockify.model.exception.DuplicatedUniqueConstraintException;
 import org.stockify.model.exception.InvalidSessionStatusException;
 import org.stockify.model.mapper.CredentialMapper;
 import org.stockify.model.mapper.EmployeeMapper;
 import org.stockify.model.repository.EmployeeRepository;
+import org.stockify.model.service.CacheInvalidationBus;
 import org.stockify.security.exception.AuthenticationException;
 import org.stockify.security.model.dto.request.RegisterEmployeeRequest;
+import org.stockify.security.model.VerifiedToken;
 import org.stockify.security.model.dto.request.RoleAndPermitsDTO;
 import org.stockify.security.model.entity.CredentialsEntity;
 import org.stockify.security.model.entity.PermitEntity;
@@ -91,6 +94,16 @@ public class AuthService {
      */
     private final RolRepository rolRepository;
 
+    /**
+     * Cache of authenticated principals used by the JWT filter
+     */
+    private final PrincipalCache principalCache;
+
+    /**
+     * Bus propagating cache evictions to the other nodes
+     */
+    private final CacheInvalidationBus cacheInvalidationBus;
+
     /**
      * Constructor for AuthService
      *
@@ -103,6 +116,8 @@ public class AuthService {
      * @param jwtService Service for JWT token operations
      * @param permitRepository Repository for permission data
      * @param rolRepository Repository for role data
+     * @param principalCache Cache of authenticated principals used by the JWT filter
+     * @param cacheInvalidationBus Bus propagating cache evictions to the other nodes
      */
     public AuthService(CredentialRepository credentialsRepository,
                        AuthenticationManager authenticationManager,
@@ -112,7 +127,9 @@ public class AuthService {
                        CredentialMapper credentialMapper,
                        JwtService jwtService,
                        PermitRepository permitRepository,
-                       RolRepository rolRepository) {
+                       RolRepository rolRepository,
+                       PrincipalCache principalCache,
+                       CacheInvalidationBus cacheInvalidationBus) {
         this.credentialsRepository = credentialsRepository;
         this.authenticationManager = authenticationManager;
         this.passwordEncoder = passwordEncoder;
@@ -122,6 +139,8 @@ public class AuthService {
         this.jwtService = jwtService;
         this.permitRepository = permitRepository;
         this.rolRepository = rolRepository;
+        this.principalCache = principalCache;
+        this.cacheInvalidationBus = cacheInvalidationBus;
     }
 
     /**
@@ -196,6 +215,7 @@ public class AuthService {
         credentials.setPassword(passwordEncoder.encode(registerEmployeeRequest.getCredential().getPassword()));
         credentials.setRoles(Set.of(roleEntity));
         credentialsRepository.save(credentials);
+        principalCache.invalidate(credentials.getEmail());
 
         // Return the employee response without generating a JWT token
         return employeeMapper.toResponseDto(employee);
@@ -239,6 +259,10 @@ public class AuthService {
         if (!roleEntity.getPermits().containsAll(permitEntities)) {
             roleEntity.getPermits().addAll(permitEntities);
             rolRepository.save(roleEntity);
+            // The role is shared, so every user holding it may have new authorities
+            principalCache.invalidateAll();
+            // Only the role's permit collection changed, which entity listeners do not see
+            cacheInvalidationBus.publishAll(InvalidatedCache.REFERENCE_DATA);
         }
 
         Set<RoleEntity> rolesActuales = credentials.getRoles();
@@ -253,6 +277,7 @@ public class AuthService {
         rolesActuales.add(roleEntity);
         credentials.setRoles(rolesActuales);
         credentialsRepository.save(credentials);
+        principalCache.invalidate(email);
 
         // 5. Devolver la respuesta del empleado
         EmployeeResponse response = employeeMapper.toResponseDto(credentials.getEmployee());
@@ -333,8 +358,8 @@ public class AuthService {
      * @throws InvalidSessionStatusException If the employee has an open POS session
      */
     public void logout() {
-        String token = jwtService.extractTokenFromSecurityContext();
-        String email = jwtService.extractUsername(token);
+        VerifiedToken token = jwtService.currentToken();
+        String email = token.subject();
         CredentialsEntity credentials = credentialsRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
@@ -344,10 +369,10 @@ public class AuthService {
             employeeRepository.save(employee);
         }
         jwtService.invalidateToken(token);
+        principalCache.invalidate(email);
     }
     public EmployeeEntity getAuthenticatedEmployee() {
-        String token = jwtService.extractTokenFromSecurityContext();
-        String userEmail = jwtService.extractUsername(token);
+        String userEmail = jwtService.currentToken().subject();
         CredentialsEntity credentials = credentialsRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado"));
         return credentials.getEmployee();
@@ -0,0 +1,90 @@
+package org.stockify.security.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.stockify.model.enums.InvalidatedCache;
+import org.stockify.model.event.CacheInvalidatedEvent;
+import org.stockify.model.service.CacheInvalidationBus;
+import org.stockify.security.model.entity.RevokedTokenEntity;
+import org.stockify.security.repository.RevokedTokenRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Cluster-wide token revocation store backed by the {@code revoked_tokens} table.
+ * <p>
+ * Lookups are served from a local in-memory mirror, so authenticating a request needs no database access.
+ * The mirror pulls revocations made on other nodes every sync interval, and right away when the
+ * {@link CacheInvalidationBus} announces one. Expired rows are swept periodically.
+ * </p>
+ */
+public class DatabaseTokenRevocationStore implements TokenRevocationStore {
+
+    /**
+     * Overlap applied to each sync to tolerate clock skew and late commits between nodes
+     */
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final InMemoryTokenRevocationStore mirror = new InMemoryTokenRevocationStore();
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public DatabaseTokenRevocationStore(RevokedTokenRepository revokedTokenRepository,
+                                        TransactionTemplate transactionTemplate,
+                                        CacheInvalidationBus cacheInvalidationBus) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        revokedTokenRepository.save(RevokedTokenEntity.builder()
+                .tokenId(tokenId)
+                .expiresAt(expiresAt)
+                .revokedAt(Instant.now())
+                .build());
+        mirror.revoke(tokenId, expiresAt);
+        cacheInvalidationBus.publish(InvalidatedCache.TOKEN_REVOCATIONS, List.of(tokenId));
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return mirror.isRevoked(tokenId);
+    }
+
+    /**
+     * Pulls revocations recorded by any node since the last sync into the local mirror
+     */
+    @Scheduled(fixedDelayString = "${security.token-revocation.sync-interval-ms:5000}")
+    public void sync() {
+        Instant now = Instant.now();
+        revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(lastSync.minus(SYNC_OVERLAP), now)
+                .forEach(token -> mirror.revoke(token.getTokenId(), token.getExpiresAt()));
+        lastSync = now;
+    }
+
+    /**
+     * Pulls revocations right away when another node announces one
+     *
+     * @param event The cache invalidated event
+     */
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidatedEvent event) {
+        if (event.cache() == InvalidatedCache.TOKEN_REVOCATIONS) {
+            sync();
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${security.token-revocation.sweep-interval-ms:60000}")
+    public void sweepExpired() {
+        transactionTemplate.executeWithoutResult(status -> revokedTokenRepository.deleteExpired(Instant.now()));
+        mirror.sweepExpired();
+    }
+}
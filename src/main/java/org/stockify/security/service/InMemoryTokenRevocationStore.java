@@ -0,0 +1,38 @@
+package org.stockify.security.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-node token revocation store.
+ * Keeps only the token ID and its expiration in epoch seconds, and periodically drops expired entries,
+ * so memory is bounded by the number of tokens revoked within one token lifetime.
+ */
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    /**
+     * Expiration, in epoch seconds, of each revoked token ID
+     */
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        revoked.merge(tokenId, expiresAt.getEpochSecond(), Math::max);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt >= Instant.now().getEpochSecond();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${security.token-revocation.sweep-interval-ms:60000}")
+    public void sweepExpired() {
+        long now = Instant.now().getEpochSecond();
+        revoked.values().removeIf(expiresAt -> expiresAt < now);
+    }
+}
@@ -1,12 +1,14 @@
 package org.stockify.security.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
@@ -15,16 +17,19 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.server.ResponseStatusException;
+import org.stockify.security.model.VerifiedToken;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 /**
  * Service responsible for JWT (JSON Web Token) operations.
  * Handles token generation, validation, extraction of claims, and token invalidation.
+ * Revoked tokens are tracked by ID in a {@link TokenRevocationStore}.
  */
-@Transactional
 @Service
 @RequiredArgsConstructor
 public class JwtService {
@@ -42,9 +47,69 @@ public class JwtService {
     private Long jwtExpiration;
 
     /**
-     * Set of invalidated tokens that are no longer accepted
+     * Request attribute holding the token verified for the current request
      */
-    private Set<String> invalidatedToken  = ConcurrentHashMap.newKeySet();
+    public static final String VERIFIED_TOKEN_ATTRIBUTE = JwtService.class.getName() + ".VERIFIED_TOKEN";
+
+    /**
+     * Signing key, decoded once at startup
+     */
+    private Key signingKey;
+
+    /**
+     * Thread-safe parser bound to the signing key, built once at startup
+     */
+    private JwtParser jwtParser;
+
+    /**
+     * Store of revoked token IDs, kept until each token expires
+     */
+    private final TokenRevocationStore tokenRevocationStore;
+
+    /**
+     * Decodes the signing key and builds the parser once, instead of on every parse
+     */
+    @PostConstruct
+    void initSigningKey() {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecretKey));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
+    /**
+     * Parses a JWT token and verifies its signature, once
+     *
+     * @param token The JWT token to verify
+     * @return The verified token with its claims
+     * @throws io.jsonwebtoken.JwtException If the token is malformed, expired or its signature is invalid
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        return new VerifiedToken(
+                token,
+                claims.getId() != null ? claims.getId() : hash(token),
+                claims.getSubject(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    /**
+     * Returns the verified token of the current request.
+     * Reuses the one verified by the authentication filter, so the token is parsed only once per request.
+     *
+     * @return The verified token of the current request
+     * @throws ResponseStatusException if there is no current request or it has no bearer token
+     */
+    public VerifiedToken currentToken() {
+        HttpServletRequest request = currentRequest();
+        if (request.getAttribute(VERIFIED_TOKEN_ATTRIBUTE) instanceof VerifiedToken verified) {
+            return verified;
+        }
+        VerifiedToken verified = verify(extractTokenFromSecurityContext());
+        request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, verified);
+        return verified;
+    }
 
     /**
      * Extracts the username (subject) from a JWT token
@@ -53,7 +118,7 @@ public class JwtService {
      * @return The username extracted from the token
      */
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
 
     /**
@@ -68,18 +133,6 @@ public class JwtService {
         claims.put("roles", userDetails.getAuthorities());
         return buildToken(claims, userDetails, jwtExpiration);
     }
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
     /**
      * Validates if a token is valid for the specified user
      * Checks if the token belongs to the user, is not expired, and the user account is valid
@@ -90,9 +143,20 @@ public class JwtService {
      */
     public boolean isTokenValid(String token, UserDetails userDetails)
     {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()))
-                && !isTokenExpired(token)
+        return isTokenValid(verify(token), userDetails);
+    }
+
+    /**
+     * Validates if an already verified token is valid for the specified user, without parsing it again
+     *
+     * @param token The verified token to validate
+     * @param userDetails The user details to validate against
+     * @return True if the token is valid, false otherwise
+     */
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails)
+    {
+        return token.subject().equals(userDetails.getUsername())
+                && !token.isExpired()
                 && userDetails.isAccountNonLocked()
                 && userDetails.isEnabled();
     }
@@ -104,26 +168,19 @@ public class JwtService {
         return Jwts
                 .builder()
                 .setClaims(extraClaims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() +
                         expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
-    private boolean isTokenExpired(String token) {
-        Date expiration = extractClaim(token, Claims::getExpiration);
-        return expiration.before(new Date());
-    }
 
     /**
      * Invalidates a JWT token so it can no longer be used for authentication
-     * Removes the "Bearer" prefix if present
+     * Removes the "Bearer" prefix if present. Tokens that are already expired or invalid are ignored,
+     * since they are rejected anyway.
      *
      * @param token The JWT token to invalidate
      */
@@ -131,7 +188,22 @@ public class JwtService {
         if (token.startsWith("Bearer ")) {
             token = token.substring(7);
         }
-        invalidatedToken.add(token);
+        try {
+            invalidateToken(verify(token));
+        } catch (JwtException e) {
+            // Nothing to revoke
+        }
+    }
+
+    /**
+     * Invalidates an already verified token until its expiration
+     *
+     * @param token The verified token to invalidate
+     */
+    public void invalidateToken(VerifiedToken token) {
+        tokenRevocationStore.revoke(token.id(), token.expiration() != null
+                ? token.expiration()
+                : Instant.now().plusMillis(jwtExpiration));
     }
 
     /**
@@ -141,13 +213,7 @@ public class JwtService {
      * @throws ResponseStatusException if the request attributes cannot be obtained or the Authorization header is invalid
      */
     public String extractTokenFromSecurityContext() {
-        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-        if (attributes == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "No se pudo obtener la request actual");
-        }
-
-        HttpServletRequest request = attributes.getRequest();
-        String authHeader = request.getHeader("Authorization");
+        String authHeader = currentRequest().getHeader("Authorization");
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Token no válido o no presente");
@@ -156,14 +222,43 @@ public class JwtService {
         return authHeader.substring(7);
     }
 
+    /**
+     * Returns the HTTP request bound to the current thread.
+     *
+     * @return the current request
+     * @throws ResponseStatusException if the request attributes cannot be obtained
+     */
+    private HttpServletRequest currentRequest() {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "No se pudo obtener la request actual");
+        }
+        return attributes.getRequest();
+    }
+
 
     /**
      * Checks if a token has been invalidated
      *
-     * @param token The JWT token to check
+     * @param token The verified token to check
      * @return True if the token has been invalidated, false otherwise
      */
-    public boolean isTokenInvalidated(String token) {
-        return invalidatedToken.contains(token);
+    public boolean isTokenInvalidated(VerifiedToken token) {
+        return tokenRevocationStore.isRevoked(token.id());
+    }
+
+    /**
+     * Computes a compact revocation key for tokens issued without an ID
+     *
+     * @param token The raw token
+     * @return The Base64 SHA-256 hash of the token
+     */
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
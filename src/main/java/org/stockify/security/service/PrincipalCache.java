@@ -0,0 +1,121 @@
+package org.stockify.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.stockify.model.enums.InvalidatedCache;
+import org.stockify.model.event.CacheInvalidatedEvent;
+import org.stockify.model.service.CacheInvalidationBus;
+import org.stockify.security.model.AuthenticatedPrincipal;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Bounded, expiring cache of authenticated principals keyed by email.
+ * Lets the JWT filter authenticate requests without hitting the database.
+ * Hit and miss counters are published as {@code cache.*} metrics with {@code cache=principals}.
+ * Evictions are propagated to the other nodes through the {@link CacheInvalidationBus}.
+ */
+@Component
+public class PrincipalCache {
+
+    /**
+     * Service used to load principals on a cache miss
+     */
+    private final UserDetailsService userDetailsService;
+
+    /**
+     * Bus propagating evictions to the other nodes
+     */
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    /**
+     * Principals by email
+     */
+    private final Cache<String, AuthenticatedPrincipal> cache;
+
+    /**
+     * Constructor for PrincipalCache
+     *
+     * @param userDetailsService Service used to load principals on a cache miss
+     * @param cacheInvalidationBus Bus propagating evictions to the other nodes
+     * @param meterRegistry Registry where the cache statistics are published
+     * @param maxSize Maximum number of cached principals
+     * @param ttlSeconds Seconds a principal stays cached after being loaded
+     */
+    public PrincipalCache(UserDetailsService userDetailsService,
+                          CacheInvalidationBus cacheInvalidationBus,
+                          MeterRegistry meterRegistry,
+                          @Value("${security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${security.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userDetailsService = userDetailsService;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    /**
+     * Returns the cached principal for an email, loading it on a miss
+     *
+     * @param email The user's email
+     * @return The principal
+     * @throws org.springframework.security.core.userdetails.UsernameNotFoundException If no user has the email
+     */
+    public AuthenticatedPrincipal get(String email) {
+        return cache.get(email, userDetailsService::loadPrincipal);
+    }
+
+    /**
+     * Evicts the principal of a single user, after its roles, permits or session change
+     *
+     * @param email The user's email
+     */
+    public void invalidate(String email) {
+        cache.invalidate(email);
+        cacheInvalidationBus.publish(InvalidatedCache.PRINCIPALS, List.of(email));
+    }
+
+    /**
+     * Evicts every principal, after a change that may affect many users, such as a role's permits
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        cacheInvalidationBus.publishAll(InvalidatedCache.PRINCIPALS);
+    }
+
+    /**
+     * Evicts principals changed by another node
+     *
+     * @param event The cache invalidated event
+     */
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidatedEvent event) {
+        if (event.cache() != InvalidatedCache.PRINCIPALS) {
+            return;
+        }
+        if (event.all()) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidateAll(event.keys());
+        }
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss and eviction counters
+     *
+     * @return The cache statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
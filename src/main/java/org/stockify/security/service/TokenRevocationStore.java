@@ -0,0 +1,31 @@
+package org.stockify.security.service;
+
+import java.time.Instant;
+
+/**
+ * Store of revoked JWTs, keyed by token ID.
+ * Entries only need to live until the token's own expiration, after which the token is rejected anyway.
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * Revokes a token until it expires
+     *
+     * @param tokenId The token ID (jti claim, or a hash of the token for tokens without one)
+     * @param expiresAt The token expiration, after which the entry can be dropped
+     */
+    void revoke(String tokenId, Instant expiresAt);
+
+    /**
+     * Checks if a token has been revoked
+     *
+     * @param tokenId The token ID
+     * @return True if the token has been revoked and hasn't expired yet
+     */
+    boolean isRevoked(String tokenId);
+
+    /**
+     * Drops entries whose tokens have already expired
+     */
+    void sweepExpired();
+}
@@ -3,6 +3,7 @@ import jakarta.transaction.Transactional;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.stockify.security.model.AuthenticatedPrincipal;
 import org.stockify.security.repository.CredentialRepository;
 
 @Service
@@ -19,4 +20,18 @@ public class UserDetailsService implements org.springframework.security.core.use
         return credentialsRepository.findByEmailWithRolesAndPermits(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
     }
+
+    /**
+     * Loads a user as an immutable principal, detached from the persistence context.
+     *
+     * @param email the user's email
+     * @return the principal with its authorities computed
+     * @throws UsernameNotFoundException if no user has the email
+     */
+    @Transactional
+    public AuthenticatedPrincipal loadPrincipal(String email) throws UsernameNotFoundException {
+        return credentialsRepository.findByEmailWithRolesAndPermits(email)
+                .map(AuthenticatedPrincipal::from)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+    }
 }
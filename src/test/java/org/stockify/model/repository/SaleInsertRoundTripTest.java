@@ -0,0 +1,133 @@
+package org.stockify.model.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.stockify.model.entity.*;
+import org.stockify.model.enums.PaymentMethod;
+import org.stockify.model.enums.TransactionType;
+import org.stockify.support.PostgresIntegrationTest;
+import org.stockify.support.StatementCounter;
+import org.stockify.support.StatementCounter.Execution;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that saving a sale costs the same JDBC round trips whatever its number of lines.
+ * <p>
+ * Sale rows take their IDs from pooled sequences and are inserted as JDBC batches, so the lines of a sale are sent
+ * together instead of one insert each. A pooled sequence is read once per block of IDs; the test allows one such
+ * fetch per sequence and counts every other statement and batch.
+ * </p>
+ */
+class SaleInsertRoundTripTest extends PostgresIntegrationTest {
+
+    private static final int LINES = 40;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Test
+    void aFortyLineSaleTakesAsManyRoundTripsAsASingleLineOne() {
+        StoreEntity store = createStore();
+        List<ProductEntity> products = IntStream.range(0, LINES)
+                .mapToObj(i -> createProduct(BigDecimal.valueOf(i + 1)))
+                .toList();
+        // Loads the mappings and the first blocks of IDs, so neither measured sale pays for them
+        saveSale(store, products);
+
+        List<Execution> single = statementCounter.record(() -> saveSale(store, products.subList(0, 1)));
+        List<Execution> forty = statementCounter.record(() -> saveSale(store, products));
+
+        assertThat(roundTrips(forty)).isEqualTo(roundTrips(single));
+        assertThat(sequenceFetches(forty).values().stream().allMatch(count -> count <= 1)).isTrue();
+
+        List<Execution> detailInserts = forty.stream()
+                .filter(execution -> execution.insertsInto("details_transactions"))
+                .toList();
+        assertThat(detailInserts).hasSize(1);
+        assertThat(detailInserts.get(0).batch()).isTrue();
+        assertThat(detailInserts.get(0).rows()).isEqualTo(LINES);
+    }
+
+    // --- Auxiliary methods ---
+
+    /**
+     * Saves a sale of one unit of every product, in its own transaction, as the sale services do.
+     */
+    private void saveSale(StoreEntity store, List<ProductEntity> products) {
+        transactionTemplate.executeWithoutResult(status -> {
+            TransactionEntity transaction = TransactionEntity.builder()
+                    .paymentMethod(PaymentMethod.CASH)
+                    .type(TransactionType.SALE)
+                    .store(store)
+                    .build();
+            Set<DetailTransactionEntity> details = products.stream()
+                    .map(product -> DetailTransactionEntity.builder()
+                            .product(product)
+                            .quantity(BigDecimal.ONE)
+                            .subtotal(product.getPrice())
+                            .transaction(transaction)
+                            .build())
+                    .collect(Collectors.toSet());
+            transaction.setDetailTransactions(details);
+            transaction.setTotal(details.stream()
+                    .map(DetailTransactionEntity::getSubtotal)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add));
+
+            SaleEntity sale = new SaleEntity();
+            sale.setTransaction(transaction);
+            transactionRepository.save(transaction);
+            saleRepository.save(sale);
+        });
+    }
+
+    private static long roundTrips(List<Execution> executions) {
+        return executions.stream().filter(execution -> !execution.isSequenceFetch()).count();
+    }
+
+    private static Map<String, Long> sequenceFetches(List<Execution> executions) {
+        return executions.stream()
+                .filter(Execution::isSequenceFetch)
+                .collect(Collectors.groupingBy(Execution::sql, Collectors.counting()));
+    }
+
+    @TestConfiguration
+    static class CountingConfig {
+
+        @Bean
+        static StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+
+        @Bean
+        static BeanPostProcessor countingDataSource(StatementCounter statementCounter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? statementCounter.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.stockify.model.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.stockify.model.entity.StockEntity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OptimisticRetryTest {
+
+    private OptimisticRetry optimisticRetry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+        optimisticRetry = new OptimisticRetry(transactionTemplate);
+        ReflectionTestUtils.setField(optimisticRetry, "maxAttempts", 3);
+        ReflectionTestUtils.setField(optimisticRetry, "backoffMs", 1L);
+        ReflectionTestUtils.setField(optimisticRetry, "maxBackoffMs", 4L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void retriesUntilTheWriteSucceeds() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = optimisticRetry.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw conflict();
+            }
+            return "written";
+        });
+
+        assertThat(result).isEqualTo("written");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void givesUpAfterTheMaximumAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> optimisticRetry.run(() -> {
+            attempts.incrementAndGet();
+            throw conflict();
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void doesNotRetryOtherErrors() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> optimisticRetry.run(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("invalid");
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void runsOnceInsideARunningTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> optimisticRetry.run(() -> {
+            attempts.incrementAndGet();
+            throw conflict();
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    private static ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException(StockEntity.class, 1L);
+    }
+}
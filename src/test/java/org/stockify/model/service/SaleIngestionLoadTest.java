@@ -0,0 +1,170 @@
+package org.stockify.model.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.stockify.dto.request.sale.SaleRequest;
+import org.stockify.dto.request.transaction.DetailTransactionRequest;
+import org.stockify.dto.request.transaction.TransactionRequest;
+import org.stockify.model.entity.*;
+import org.stockify.model.enums.PaymentMethod;
+import org.stockify.model.enums.Status;
+import org.stockify.model.repository.EmployeeRepository;
+import org.stockify.model.repository.PosRepository;
+import org.stockify.model.repository.SessionPosRepository;
+import org.stockify.security.model.VerifiedToken;
+import org.stockify.security.model.entity.CredentialsEntity;
+import org.stockify.security.repository.CredentialRepository;
+import org.stockify.security.service.JwtService;
+import org.stockify.support.PostgresIntegrationTest;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Submits sales through the group commit from more concurrent callers than the pool has connections.
+ * <p>
+ * Every caller runs inside an open-in-view request, as the controller does, and waits for its sale. If a waiting
+ * caller held a pooled connection, the two connections would be taken by callers and the writer could never write
+ * their batches; the queue must drain and every sale be created instead.
+ * </p>
+ */
+@TestPropertySource(properties = {
+        "sale-ingestion.enabled=true",
+        "sale-ingestion.timeout-ms=20000",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=5000"
+})
+class SaleIngestionLoadTest extends PostgresIntegrationTest {
+
+    private static final int CALLERS = 20;
+    private static final int SALES_PER_CALLER = 5;
+
+    @Autowired
+    private SaleIngestionService saleIngestionService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private CredentialRepository credentialRepository;
+
+    @Autowired
+    private PosRepository posRepository;
+
+    @Autowired
+    private SessionPosRepository sessionPosRepository;
+
+    @Test
+    void queueDrainsWhenCallersOutnumberPoolConnections() throws Exception {
+        StoreEntity store = createStore();
+        ProductEntity product = createProduct(BigDecimal.ONE);
+        createStock(product, store, 1000);
+        String email = "cashier-" + UUID.randomUUID() + "@stockify.org";
+        PosEntity pos = createOpenPos(store, email);
+
+        OpenEntityManagerInViewInterceptor openInView = new OpenEntityManagerInViewInterceptor();
+        openInView.setEntityManagerFactory(entityManagerFactory);
+        AtomicInteger created = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> callers = new ArrayList<>();
+        try {
+            for (int i = 0; i < CALLERS; i++) {
+                callers.add(executor.submit(() -> {
+                    start.await();
+                    for (int sale = 0; sale < SALES_PER_CALLER; sale++) {
+                        inRequest(openInView, email, () -> saleIngestionService.submit(saleOf(product), pos.getId()));
+                        created.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> caller : callers) {
+                caller.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(created).hasValue(CALLERS * SALES_PER_CALLER);
+        assertThat(quantityOf(product, store)).isEqualTo(1000 - CALLERS * SALES_PER_CALLER);
+    }
+
+    // --- Auxiliary methods ---
+
+    /**
+     * Runs work as an authenticated request of the employee, with its entity manager kept open as open-in-view does.
+     */
+    private void inRequest(OpenEntityManagerInViewInterceptor openInView, String email, Runnable work) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(JwtService.VERIFIED_TOKEN_ATTRIBUTE, new VerifiedToken("test-token",
+                UUID.randomUUID().toString(), email, Instant.now(), Instant.now().plusSeconds(3600)));
+        ServletWebRequest webRequest = new ServletWebRequest(request);
+        RequestContextHolder.setRequestAttributes(webRequest);
+        openInView.preHandle(webRequest);
+        try {
+            work.run();
+        } finally {
+            openInView.afterCompletion(webRequest, null);
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    /**
+     * Creates an online POS assigned to a new employee, with an open session.
+     */
+    private PosEntity createOpenPos(StoreEntity store, String email) {
+        EmployeeEntity employee = employeeRepository.save(EmployeeEntity.builder()
+                .name("Test")
+                .lastName("Cashier")
+                .dni(String.format("%08d", ThreadLocalRandom.current().nextInt(100_000_000)))
+                .status(Status.ONLINE)
+                .active(true)
+                .build());
+        credentialRepository.save(CredentialsEntity.builder()
+                .username(email)
+                .email(email)
+                .password("unused")
+                .employee(employee)
+                .build());
+        PosEntity pos = posRepository.save(PosEntity.builder()
+                .status(Status.ONLINE)
+                .currentAmount(BigDecimal.ZERO)
+                .employee(employee)
+                .store(store)
+                .build());
+        sessionPosRepository.save(SessionPosEntity.builder()
+                .openingTime(LocalDateTime.now())
+                .openingAmount(BigDecimal.ZERO)
+                .employee(employee)
+                .posEntity(pos)
+                .build());
+        return pos;
+    }
+
+    private static SaleRequest saleOf(ProductEntity product) {
+        SaleRequest request = new SaleRequest();
+        request.setTransaction(new TransactionRequest(PaymentMethod.CASH,
+                List.of(new DetailTransactionRequest(product.getId(), 1.0)), "Load test sale"));
+        return request;
+    }
+}
@@ -0,0 +1,169 @@
+package org.stockify.model.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.stockify.dto.request.stock.StockRequest;
+import org.stockify.dto.request.stock.StockTransferRequest;
+import org.stockify.model.entity.ProductEntity;
+import org.stockify.model.entity.StoreEntity;
+import org.stockify.model.exception.InsufficientStockException;
+import org.stockify.support.PostgresIntegrationTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hammers single stock rows from many threads and checks that no update is lost and stock never goes negative.
+ * Writers may retry a conflict as many times as there are threads, so even the writer that loses every race but the
+ * last succeeds.
+ */
+@TestPropertySource(properties = "optimistic-retry.max-attempts=" + StockServiceConcurrencyTest.THREADS)
+class StockServiceConcurrencyTest extends PostgresIntegrationTest {
+
+    static final int THREADS = 16;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private OptimisticRetry optimisticRetry;
+
+    @Test
+    void concurrentDecreasesLoseNoUpdate() throws Exception {
+        StoreEntity store = createStore();
+        ProductEntity product = createProduct(BigDecimal.ONE);
+        createStock(product, store, 1000);
+
+        int perThread = 50;
+        AtomicInteger failures = new AtomicInteger();
+        hammer(THREADS, () -> {
+            for (int i = 0; i < perThread; i++) {
+                try {
+                    stockService.decreaseStock(product.getId(), store.getId(), 1.0);
+                } catch (RuntimeException ex) {
+                    failures.incrementAndGet();
+                }
+            }
+        });
+
+        assertThat(failures).hasValue(0);
+        assertThat(quantityOf(product, store)).isEqualTo(1000 - THREADS * perThread);
+    }
+
+    @Test
+    void concurrentDecreasesNeverOversell() throws Exception {
+        StoreEntity store = createStore();
+        ProductEntity product = createProduct(BigDecimal.ONE);
+        createStock(product, store, 100);
+
+        int perThread = 20;
+        AtomicInteger sold = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        hammer(THREADS, () -> {
+            for (int i = 0; i < perThread; i++) {
+                try {
+                    stockService.decreaseStock(product.getId(), store.getId(), 1.0);
+                    sold.incrementAndGet();
+                } catch (InsufficientStockException ex) {
+                    rejected.incrementAndGet();
+                }
+            }
+        });
+
+        assertThat(sold).hasValue(100);
+        assertThat(rejected).hasValue(THREADS * perThread - 100);
+        assertThat(quantityOf(product, store)).isZero();
+    }
+
+    @Test
+    void concurrentTransfersBothWaysKeepTheTotal() throws Exception {
+        StoreEntity first = createStore();
+        StoreEntity second = createStore();
+        ProductEntity product = createProduct(BigDecimal.ONE);
+        createStock(product, first, 500);
+        createStock(product, second, 500);
+
+        int perThread = 25;
+        hammer(THREADS, index -> {
+            // Half of the threads move stock one way and half the other way, to provoke lock ordering deadlocks
+            StoreEntity origin = index % 2 == 0 ? first : second;
+            StoreEntity destination = index % 2 == 0 ? second : first;
+            for (int i = 0; i < perThread; i++) {
+                try {
+                    stockService.transferStock(origin.getId(),
+                            new StockTransferRequest(product.getId(), destination.getId(), 3.0));
+                } catch (InsufficientStockException ex) {
+                    // Allowed when one side runs dry; the total must still hold
+                }
+            }
+        });
+
+        double firstQuantity = quantityOf(product, first);
+        double secondQuantity = quantityOf(product, second);
+        assertThat(firstQuantity).isGreaterThanOrEqualTo(0);
+        assertThat(secondQuantity).isGreaterThanOrEqualTo(0);
+        assertThat(firstQuantity + secondQuantity).isEqualTo(1000);
+    }
+
+    @Test
+    void conflictingEntityWritesAreRetried() throws Exception {
+        StoreEntity store = createStore();
+        ProductEntity product = createProduct(BigDecimal.ONE);
+        createStock(product, store, 0);
+
+        AtomicInteger failures = new AtomicInteger();
+        hammer(THREADS, index -> {
+            try {
+                optimisticRetry.execute(() ->
+                        stockService.updateStock(product.getId(), store.getId(), new StockRequest((double) index)));
+            } catch (RuntimeException ex) {
+                failures.incrementAndGet();
+            }
+        });
+
+        assertThat(failures).hasValue(0);
+        assertThat(quantityOf(product, store)).isBetween(0.0, (double) THREADS - 1);
+    }
+
+    // --- Auxiliary methods ---
+
+    private void hammer(int threads, Runnable work) throws Exception {
+        hammer(threads, index -> work.run());
+    }
+
+    /**
+     * Runs the work on every thread at once and waits for all of them.
+     */
+    private void hammer(int threads, IndexedWork work) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    work.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexedWork {
+        void run(int index);
+    }
+}
@@ -0,0 +1,96 @@
+package org.stockify.support;
+
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.stockify.model.entity.ProductEntity;
+import org.stockify.model.entity.StockEntity;
+import org.stockify.model.entity.StoreEntity;
+import org.stockify.model.repository.ProductRepository;
+import org.stockify.model.repository.StockRepository;
+import org.stockify.model.repository.StoreRepository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Base class of the tests that need a real PostgreSQL database.
+ * <p>
+ * They run against the database given by the {@code STOCKIFY_TEST_DB_URL} environment variable
+ * (with {@code STOCKIFY_TEST_DB_USER} and {@code STOCKIFY_TEST_DB_PASSWORD}), whose schema is created on startup,
+ * and are skipped when it is not set. Every test creates its own rows with unique names, so tests do not depend
+ * on each other nor on the data already in the database.
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "STOCKIFY_TEST_DB_URL", matches = ".+")
+public abstract class PostgresIntegrationTest {
+
+    @Autowired
+    protected StoreRepository storeRepository;
+
+    @Autowired
+    protected ProductRepository productRepository;
+
+    @Autowired
+    protected StockRepository stockRepository;
+
+    /**
+     * Creates a store with a unique name.
+     *
+     * @return the saved store
+     */
+    protected StoreEntity createStore() {
+        StoreEntity store = new StoreEntity();
+        store.setStoreName("Test store " + UUID.randomUUID());
+        store.setAddress("Test address");
+        store.setCity("Test city");
+        return storeRepository.save(store);
+    }
+
+    /**
+     * Creates a product with a unique name and barcode.
+     *
+     * @param price the unit price
+     * @return the saved product
+     */
+    protected ProductEntity createProduct(BigDecimal price) {
+        ProductEntity product = new ProductEntity();
+        String suffix = UUID.randomUUID().toString();
+        product.setName("Test product " + suffix);
+        product.setBarcode(suffix);
+        product.setSku(suffix);
+        product.setPrice(price);
+        product.setUnitPrice(price);
+        return productRepository.save(product);
+    }
+
+    /**
+     * Creates the stock row of a product in a store.
+     *
+     * @param product  the product
+     * @param store    the store
+     * @param quantity the quantity on hand
+     * @return the saved stock row
+     */
+    protected StockEntity createStock(ProductEntity product, StoreEntity store, double quantity) {
+        StockEntity stock = new StockEntity();
+        stock.setProduct(product);
+        stock.setStore(store);
+        stock.setQuantity(quantity);
+        return stockRepository.save(stock);
+    }
+
+    /**
+     * Reads the committed quantity of a stock row.
+     *
+     * @param product the product
+     * @param store   the store
+     * @return the quantity on hand
+     */
+    protected double quantityOf(ProductEntity product, StoreEntity store) {
+        return stockRepository.findQuantityByProductIdAndStoreId(product.getId(), store.getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,140 @@
+package org.stockify.support;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Counts the JDBC round trips a piece of work makes.
+ * <p>
+ * The data source is wrapped so that every statement executed, and every batch sent, by the recording thread is
+ * recorded with its SQL. Statements run meanwhile by background jobs on other threads are not counted.
+ * </p>
+ */
+public class StatementCounter {
+
+    private static final Set<String> EXECUTIONS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+    private static final Set<String> BATCH_EXECUTIONS = Set.of("executeBatch", "executeLargeBatch");
+
+    private final List<Execution> executions = Collections.synchronizedList(new ArrayList<>());
+    private volatile Thread recording;
+
+    /**
+     * Wraps a data source so that the statements of its connections are counted.
+     *
+     * @param dataSource the data source to wrap
+     * @return the counting data source
+     */
+    public DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, args, result) ->
+                result instanceof Connection connection ? wrap(connection) : result);
+    }
+
+    /**
+     * Runs work on the current thread and returns the round trips it made.
+     *
+     * @param work the work to record
+     * @return the statements and batches executed, in order
+     */
+    public List<Execution> record(Runnable work) {
+        executions.clear();
+        recording = Thread.currentThread();
+        try {
+            work.run();
+        } finally {
+            recording = null;
+        }
+        return List.copyOf(executions);
+    }
+
+    // --- Auxiliary methods ---
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) -> {
+            if (result instanceof PreparedStatement statement && args != null && args[0] instanceof String sql) {
+                return wrap(statement, PreparedStatement.class, sql);
+            }
+            if (result instanceof Statement statement && !(result instanceof PreparedStatement)) {
+                return wrap(statement, Statement.class, null);
+            }
+            return result;
+        });
+    }
+
+    private <S extends Statement> S wrap(S statement, Class<S> type, String preparedSql) {
+        int[] batchedRows = {0};
+        return proxy(type, statement, (method, args, result) -> {
+            if (Thread.currentThread() != recording) {
+                return result;
+            }
+            String name = method.getName();
+            if (name.equals("addBatch")) {
+                batchedRows[0]++;
+            } else if (BATCH_EXECUTIONS.contains(name)) {
+                executions.add(new Execution(preparedSql, true, batchedRows[0]));
+                batchedRows[0] = 0;
+            } else if (EXECUTIONS.contains(name)) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                executions.add(new Execution(sql, false, 1));
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, AfterCall afterCall) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+            return afterCall.apply(method, args, result);
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    @FunctionalInterface
+    private interface AfterCall {
+        Object apply(Method method, Object[] args, Object result) throws Exception;
+    }
+
+    /**
+     * One round trip to the database.
+     *
+     * @param sql   the SQL executed
+     * @param batch whether it was sent as a JDBC batch
+     * @param rows  the number of parameter sets sent, 1 for a single statement
+     */
+    public record Execution(String sql, boolean batch, int rows) {
+
+        /**
+         * Returns whether the statement only reads a block of IDs from a sequence.
+         *
+         * @return true for a sequence fetch
+         */
+        public boolean isSequenceFetch() {
+            return sql != null && sql.toLowerCase().contains("nextval(");
+        }
+
+        /**
+         * Returns whether the statement inserts into a table.
+         *
+         * @param table the table name
+         * @return true for an insert into the table
+         */
+        public boolean insertsInto(String table) {
+            return sql != null && sql.toLowerCase().startsWith("insert into " + table + " ");
+        }
+    }
+}